@@ -0,0 +1,19 @@
+package com.sap.cloud.alert.notification.client;
+
+public enum CircuitBreakerState {
+
+    /**
+     * Requests are sent, and consecutive failures are counted
+     */
+    CLOSED,
+
+    /**
+     * Requests fail right away without being sent, until the open duration elapses
+     */
+    OPEN,
+
+    /**
+     * A single trial request is sent, closing the circuit again if it succeeds and opening it if it fails
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,116 @@
+package com.sap.cloud.alert.notification.client;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public class HttpTransportRequest {
+
+    private final String method;
+    private final URI uri;
+    private final Map<String, String> headers;
+    private final IHttpRequestBody body;
+
+    /**
+     * @param method  the HTTP method, e.g. GET or POST
+     * @param uri     the absolute request URI
+     * @param headers the request headers in the order they should be sent
+     * @param body    the request body, null if the request has none
+     */
+    public HttpTransportRequest(String method, URI uri, Map<String, String> headers, byte[] body) {
+        this(method, uri, headers, isNull(body) ? null : new ByteArrayRequestBody(body));
+    }
+
+    private HttpTransportRequest(String method, URI uri, Map<String, String> headers, IHttpRequestBody body) {
+        this.method = requireNonNull(method);
+        this.uri = requireNonNull(uri);
+        this.headers = unmodifiableMap(new LinkedHashMap<>(requireNonNull(headers)));
+        this.body = body;
+    }
+
+    /**
+     * Create a request whose body is written straight to the transport when the request is sent,
+     * without being buffered in memory first
+     *
+     * @param method  the HTTP method, e.g. GET or POST
+     * @param uri     the absolute request URI
+     * @param headers the request headers in the order they should be sent
+     * @param body    the request body
+     * @return the created request
+     */
+    public static HttpTransportRequest withStreamedBody(String method, URI uri, Map<String, String> headers, IHttpRequestBody body) {
+        return new HttpTransportRequest(method, uri, headers, requireNonNull(body));
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public URI getUri() {
+        return uri;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the request body, null if the request has none
+     */
+    public IHttpRequestBody getRequestBody() {
+        return body;
+    }
+
+    /**
+     * Transports which cannot write the body to their connection can get it as bytes instead - a streamed body
+     * is written to memory on each call
+     *
+     * @return the request body as bytes, null if the request has none
+     */
+    public byte[] getBody() {
+        if (isNull(body)) {
+            return null;
+        }
+
+        if (body instanceof ByteArrayRequestBody) {
+            return ((ByteArrayRequestBody) body).bytes;
+        }
+
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            body.writeTo(outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @ToString(doNotUseGetters = true)
+    @EqualsAndHashCode(doNotUseGetters = true)
+    private static final class ByteArrayRequestBody implements IHttpRequestBody {
+
+        private final byte[] bytes;
+
+        private ByteArrayRequestBody(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.sap.cloud.alert.notification.client;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public class HttpTransportResponse {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final int statusCode;
+    private final String reasonPhrase;
+    private final Map<String, String> headers;
+    private byte[] body;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final InputStream bodyStream;
+
+    /**
+     * @param statusCode   the HTTP status code
+     * @param reasonPhrase the reason phrase of the status line, null if the protocol does not carry one
+     * @param headers      the response headers, one value per header name
+     * @param body         the response body, null if the response has none
+     */
+    public HttpTransportResponse(int statusCode, String reasonPhrase, Map<String, String> headers, byte[] body) {
+        this(statusCode, reasonPhrase, headers, isNull(body) ? EMPTY_BODY : body, null);
+    }
+
+    private HttpTransportResponse(int statusCode, String reasonPhrase, Map<String, String> headers, byte[] body, InputStream bodyStream) {
+        Map<String, String> caseInsensitiveHeaders = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+        caseInsensitiveHeaders.putAll(requireNonNull(headers));
+
+        this.statusCode = statusCode;
+        this.reasonPhrase = reasonPhrase;
+        this.headers = unmodifiableMap(caseInsensitiveHeaders);
+        this.body = body;
+        this.bodyStream = bodyStream;
+    }
+
+    /**
+     * Create a response whose body is read from the connection, without being buffered unless {@link #getBody()} is called
+     *
+     * @param statusCode   the HTTP status code
+     * @param reasonPhrase the reason phrase of the status line, null if the protocol does not carry one
+     * @param headers      the response headers, one value per header name
+     * @param bodyStream   the response body stream
+     * @return the created response
+     */
+    public static HttpTransportResponse withStreamedBody(int statusCode, String reasonPhrase, Map<String, String> headers, InputStream bodyStream) {
+        return new HttpTransportResponse(statusCode, reasonPhrase, headers, null, requireNonNull(bodyStream));
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @param name the header name, matched case-insensitively
+     * @return the header value or null if the response has no such header
+     */
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    /**
+     * A streamed body is read completely on the first call
+     *
+     * @return the response body, empty if the response has none
+     */
+    public byte[] getBody() {
+        if (isNull(body)) {
+            body = readBody(bodyStream);
+        }
+
+        return body;
+    }
+
+    /**
+     * Deserializers can read the body from this stream instead of copying it into memory first. A streamed body
+     * can be read only once, unless {@link #getBody()} has been called before
+     *
+     * @return the response body as a stream
+     */
+    public InputStream getBodyStream() {
+        return isNull(body) ? bodyStream : new ByteArrayInputStream(body);
+    }
+
+    private static byte[] readBody(InputStream bodyStream) {
+        try {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int readBytes = bodyStream.read(buffer); readBytes != -1; readBytes = bodyStream.read(buffer)) {
+                outputStream.write(buffer, 0, readBytes);
+            }
+
+            return outputStream.toByteArray();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -4,7 +4,9 @@ import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowExceptio
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 import com.sap.cloud.alert.notification.client.model.PagedResponse;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface IAlertNotificationAsyncClient {
@@ -18,6 +20,35 @@ public interface IAlertNotificationAsyncClient {
      */
     CompletableFuture<CustomerResourceEvent> sendEvent(CustomerResourceEvent event) throws BufferOverflowException;
 
+    /**
+     * Posts an event for async processing, waiting for buffer capacity instead of failing right away.
+     * The buffers wait on fair locks, which roughly order the producers waiting at the same time, but a producer which
+     * does not wait can still take freed capacity ahead of them.
+     * The default implementation does not wait and behaves as {@link #sendEvent(CustomerResourceEvent)}
+     *
+     * @param event   to be sent to SAP Alert Notification service for SAP BTP
+     * @param timeout the maximum time to wait for buffer capacity
+     * @return the posted event enhanced with an unique ID that could be used for tracing
+     * @throws BufferOverflowException if the event cannot be accepted for execution before the timeout elapses
+     */
+    default CompletableFuture<CustomerResourceEvent> sendEvent(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        return sendEvent(event);
+    }
+
+    /**
+     * Posts an event for async processing if there is buffer capacity for it.
+     *
+     * @param event to be sent to SAP Alert Notification service for SAP BTP
+     * @return the posted event enhanced with an unique ID that could be used for tracing, or empty if the event was not accepted
+     */
+    default Optional<CompletableFuture<CustomerResourceEvent>> trySend(CustomerResourceEvent event) {
+        try {
+            return Optional.of(sendEvent(event));
+        } catch (BufferOverflowException exception) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Gets events that are matched by client's subscription.
      *
@@ -58,4 +89,13 @@ public interface IAlertNotificationAsyncClient {
             throws BufferOverflowException;
 
     void shutdown();
+
+    /**
+     * Stops accepting new events and waits up to the given deadline for the accepted ones to be sent, after which
+     * the client is shut down as by {@link #shutdown()}.
+     *
+     * @param deadline the maximum time to wait for the accepted events to be sent
+     * @return the number of events delivered meanwhile and the events which were left undelivered
+     */
+    ShutdownReport shutdown(Duration deadline);
 }
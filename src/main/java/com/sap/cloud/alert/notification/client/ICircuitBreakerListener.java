@@ -0,0 +1,14 @@
+package com.sap.cloud.alert.notification.client;
+
+@FunctionalInterface
+public interface ICircuitBreakerListener {
+
+    /**
+     * Called on every state change of a circuit breaker, on the thread whose request caused it
+     *
+     * @param circuitName   the name of the circuit, made of the service region URI and the endpoint family, e.g. producer
+     * @param previousState the state the circuit breaker left
+     * @param state         the state the circuit breaker entered
+     */
+    void onStateChange(String circuitName, CircuitBreakerState previousState, CircuitBreakerState state);
+}
@@ -3,8 +3,12 @@ package com.sap.cloud.alert.notification.client;
 import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
 
+import static java.util.Collections.emptyMap;
+
 public interface ICustomerResourceEventBuffer {
 
     /**
@@ -22,6 +26,17 @@ public interface ICustomerResourceEventBuffer {
      */
     CustomerResourceEvent read(UUID eventUuid);
 
+    /**
+     * Acknowledge that the client is done with an event it has read, as the event was delivered or its failure was
+     * reported to the sender. A durable buffer keeps a read event until then, so that an event which is still being sent
+     * or waits for a retry when the JVM crashes is recovered. The default implementation does nothing, since the event
+     * was already removed by reading it
+     *
+     * @param eventUuid the event identifier that was given on putting in the queue
+     */
+    default void acknowledge(UUID eventUuid) {
+    }
+
     /**
      * Put a new event in the buffer
      *
@@ -30,4 +45,72 @@ public interface ICustomerResourceEventBuffer {
      * @throws BufferOverflowException if the buffer queue is full
      */
     UUID write(CustomerResourceEvent event) throws BufferOverflowException;
+
+    /**
+     * Put a new event in the buffer, waiting up to the given timeout for free capacity.
+     * The default implementation does not wait and behaves as {@link #write(CustomerResourceEvent)}
+     *
+     * @param event   the event to be stored in the buffer
+     * @param timeout the maximum time to wait for free capacity
+     * @return the unique identifier assigned to the event on putting into the buffer
+     * @throws BufferOverflowException if the buffer queue is still full when the timeout elapses
+     */
+    default UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        return write(event);
+    }
+
+    /**
+     * Put a new event in the buffer if it has free capacity
+     *
+     * @param event the event to be stored in the buffer
+     * @return the unique identifier assigned to the event on putting into the buffer, or null if the buffer queue is full
+     */
+    default UUID tryWrite(CustomerResourceEvent event) {
+        try {
+            return write(event);
+        } catch (BufferOverflowException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Return whether the buffer keeps its events serialized, in which case they could be read with
+     * {@link #readSerialized(UUID)} and sent without being deserialized first
+     *
+     * @return whether the buffer supports reading events in their serialized form
+     */
+    default boolean isSerializing() {
+        return false;
+    }
+
+    /**
+     * Return whether the buffer keeps some of its events off the heap, e.g. serialized or in files, in which case a client
+     * refers to a waiting event only by its identifier and reads it from the buffer just before sending it
+     *
+     * @return whether the buffer keeps events off the heap
+     */
+    default boolean isKeepingEventsOffHeap() {
+        return isSerializing();
+    }
+
+    /**
+     * Read and remove an event from the buffer in its serialized JSON form
+     *
+     * @param eventUuid the event identifier that was given on putting in the queue
+     * @return the UTF-8 encoded JSON of the event, or null if the event is not in the buffer
+     * @throws UnsupportedOperationException if the buffer does not keep its events serialized
+     */
+    default byte[] readSerialized(UUID eventUuid) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Take the events which a durable buffer recovered on opening and which have not been read since, so that they can
+     * be sent again. Each recovered event is returned once. The default implementation keeps nothing across restarts
+     *
+     * @return the recovered events by their identifiers in the buffer, in the order they were first written
+     */
+    default Map<UUID, CustomerResourceEvent> takeRecoveredEvents() {
+        return emptyMap();
+    }
 }
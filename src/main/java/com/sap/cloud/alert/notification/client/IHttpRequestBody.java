@@ -0,0 +1,17 @@
+package com.sap.cloud.alert.notification.client;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface IHttpRequestBody {
+
+    /**
+     * Write the body to the given stream, e.g. directly to the connection of a transport.
+     * May be called more than once if the request is repeated
+     *
+     * @param outputStream the stream to write to, it must not be closed by the body
+     * @throws IOException if the body could not be written
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
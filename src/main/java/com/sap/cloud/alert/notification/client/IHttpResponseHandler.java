@@ -0,0 +1,16 @@
+package com.sap.cloud.alert.notification.client;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface IHttpResponseHandler<T> {
+
+    /**
+     * Handle a response while its body can still be read from the connection
+     *
+     * @param response the response, its body stream is only valid until the handler returns
+     * @return the result of handling the response
+     * @throws IOException if the response body could not be read
+     */
+    T handle(HttpTransportResponse response) throws IOException;
+}
@@ -0,0 +1,69 @@
+package com.sap.cloud.alert.notification.client;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+public interface IHttpTransport extends Closeable {
+
+    /**
+     * Execute a request and wait for its response
+     *
+     * @param request the request to be sent
+     * @return the response with its body fully read
+     * @throws IOException if the request could not be sent or the response could not be read
+     */
+    HttpTransportResponse execute(HttpTransportRequest request) throws IOException;
+
+    /**
+     * Execute a request and let the given handler read its response. Transports which can read the response body
+     * from the connection pass it as a stream, so it can be deserialized without being buffered first. The default
+     * implementation hands over the response returned by {@link #execute(HttpTransportRequest)}
+     *
+     * @param request         the request to be sent
+     * @param responseHandler the handler reading the response
+     * @param <T>             the type of the handler's result
+     * @return the result of the handler
+     * @throws IOException if the request could not be sent or the response could not be read
+     */
+    default <T> T execute(HttpTransportRequest request, IHttpResponseHandler<T> responseHandler) throws IOException {
+        return responseHandler.handle(execute(request));
+    }
+
+    /**
+     * Execute a request without waiting for its response. The default implementation
+     * executes the request on the calling thread and returns an already completed future
+     *
+     * @param request the request to be sent
+     * @return a future completed with the response, or exceptionally if the request could not be executed
+     */
+    default CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        CompletableFuture<HttpTransportResponse> response = new CompletableFuture<>();
+        try {
+            response.complete(execute(request));
+        } catch (Exception exception) {
+            response.completeExceptionally(exception);
+        }
+
+        return response;
+    }
+
+    /**
+     * Whether {@link #executeAsync(HttpTransportRequest)} completes from I/O callbacks
+     * instead of executing the request on the calling thread
+     *
+     * @return true if the transport is non-blocking
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
+    /**
+     * Release the connections held by the transport once it is no longer used. The default implementation does nothing
+     *
+     * @throws IOException if the resources could not be released
+     */
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -1,5 +1,6 @@
 package com.sap.cloud.alert.notification.client;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 public interface IRetryPolicy {
@@ -12,4 +13,20 @@ public interface IRetryPolicy {
      * @return the result of the execution of the supplier
      */
     <T> T executeWithRetry(Supplier<T> supplier);
+
+    /**
+     * Executes a predefined asynchronous expression with retries
+     * according to the specific retry policy implementation.
+     * The default implementation blocks a common pool thread for the whole execution,
+     * so implementations should override it whenever retries can be scheduled without blocking.
+     * The asynchronous client runs policies which do not override it on its own executor instead.
+     * The provided policies call the supplier of each retry on a scheduler thread shared by all of them,
+     * so a supplier which may block should submit its work to an executor
+     *
+     * @param supplier is the expression to be executed, returning a future of its result
+     * @return a future completed with the result of the execution of the supplier
+     */
+    default <T> CompletableFuture<T> executeWithRetryAsync(Supplier<CompletableFuture<T>> supplier) {
+        return CompletableFuture.supplyAsync(() -> executeWithRetry(() -> supplier.get().join()));
+    }
 }
@@ -0,0 +1,42 @@
+package com.sap.cloud.alert.notification.client;
+
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public class ShutdownReport {
+
+    private final long deliveredEventsCount;
+    private final List<CustomerResourceEvent> undeliveredEvents;
+
+    /**
+     * @param deliveredEventsCount the number of events delivered while draining the client
+     * @param undeliveredEvents    the events which failed or were still waiting to be sent when the deadline elapsed
+     */
+    public ShutdownReport(long deliveredEventsCount, List<CustomerResourceEvent> undeliveredEvents) {
+        this.deliveredEventsCount = deliveredEventsCount;
+        this.undeliveredEvents = unmodifiableList(new ArrayList<>(undeliveredEvents));
+    }
+
+    public long getDeliveredEventsCount() {
+        return deliveredEventsCount;
+    }
+
+    public List<CustomerResourceEvent> getUndeliveredEvents() {
+        return undeliveredEvents;
+    }
+
+    /**
+     * @return whether every event accepted by the client was delivered before the deadline
+     */
+    public boolean isFullyDrained() {
+        return undeliveredEvents.isEmpty();
+    }
+}
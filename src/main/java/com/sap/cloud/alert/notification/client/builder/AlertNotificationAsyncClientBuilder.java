@@ -3,12 +3,16 @@ package com.sap.cloud.alert.notification.client.builder;
 import com.sap.cloud.alert.notification.client.IAlertNotificationClient;
 import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
 import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.internal.AdaptiveConcurrencyLimiter;
 import com.sap.cloud.alert.notification.client.internal.AlertNotificationAsyncClient;
+import com.sap.cloud.alert.notification.client.internal.BoundedConcurrencyExecutorService;
 import com.sap.cloud.alert.notification.client.internal.InMemoryCustomerResourceEventBuffer;
 
 import java.time.Duration;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -22,12 +26,16 @@ public class AlertNotificationAsyncClientBuilder {
     public static final int DEFAULT_EVENT_BUFFER_CAPACITY = 100;
     public static final long DEFAULT_IDLE_THREADS_LIFESPAN_SECONDS = 30L;
 
+    private static final int NO_VIRTUAL_THREADS = 0;
+
     private int orderedEventSendersCount = DEFAULT_ORDERED_EVENT_SENDERS_COUNT;
     private int minThreadsCount;
     private int maxThreadsCount;
     private long idleThreadsLifespanInSeconds;
+    private int maxConcurrentRequestsCount = NO_VIRTUAL_THREADS;
     private ICustomerResourceEventBuffer eventBuffer;
     private IAlertNotificationClient alertNotificationClient;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
 
     public AlertNotificationAsyncClientBuilder(IAlertNotificationClient alertNotificationClient) {
         this.minThreadsCount = DEFAULT_MIN_THREADS_COUNT;
@@ -44,6 +52,13 @@ public class AlertNotificationAsyncClientBuilder {
         return this;
     }
 
+    /**
+     * Send the events sharing a source event id one after another, in the order they were submitted. Each such source has
+     * its own lane on the executor of the client, so no threads are dedicated to ordered events. Any positive count enables it
+     *
+     * @param orderedEventSendersCount a positive number to preserve the order of events, or 0 to send all events concurrently
+     * @return the builder
+     */
     public AlertNotificationAsyncClientBuilder withOrderedEventSendersCount(int orderedEventSendersCount) {
         this.orderedEventSendersCount = orderedEventSendersCount;
 
@@ -56,6 +71,43 @@ public class AlertNotificationAsyncClientBuilder {
         return this;
     }
 
+    /**
+     * Run each send and query on its own virtual thread instead of a bounded thread pool. Requests over the limit wait
+     * for a free slot rather than being rejected. Runtimes older than Java 21 fall back to daemon platform threads
+     *
+     * @param maxConcurrentRequestsCount the maximum number of requests in flight at once
+     * @return the builder
+     */
+    public AlertNotificationAsyncClientBuilder withVirtualThreads(int maxConcurrentRequestsCount) {
+        if (maxConcurrentRequestsCount < 1) {
+            throw new IllegalArgumentException("maxConcurrentRequestsCount must be positive: " + maxConcurrentRequestsCount);
+        }
+
+        this.maxConcurrentRequestsCount = maxConcurrentRequestsCount;
+
+        return this;
+    }
+
+    /**
+     * Find the number of events sent at once from the latency and throttling responses of the service, instead of sending
+     * as many as there are threads. The threads count then bounds the limit, so it could be set generously
+     *
+     * @return the builder
+     */
+    public AlertNotificationAsyncClientBuilder withAdaptiveConcurrency() {
+        return withAdaptiveConcurrency(new AdaptiveConcurrencyLimiter());
+    }
+
+    /**
+     * @param concurrencyLimiter limits the events in flight, e.g. with a maximal limit matching the threads count
+     * @return the builder
+     */
+    public AlertNotificationAsyncClientBuilder withAdaptiveConcurrency(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = requireNonNull(concurrencyLimiter);
+
+        return this;
+    }
+
     public AlertNotificationAsyncClientBuilder withEventBuffer(ICustomerResourceEventBuffer eventBuffer) {
         this.eventBuffer = eventBuffer;
 
@@ -65,25 +117,45 @@ public class AlertNotificationAsyncClientBuilder {
     public AlertNotificationAsyncClient build() {
         assertValidThreadCountRange(minThreadsCount, maxThreadsCount, orderedEventSendersCount);
 
-        return new AlertNotificationAsyncClient(createExecutorService(), requireNonNull(eventBuffer), requireNonNull(alertNotificationClient),
-                orderedEventSendersCount);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClient(createExecutorService(), requireNonNull(eventBuffer),
+                requireNonNull(alertNotificationClient), orderedEventSendersCount, concurrencyLimiter);
+        asyncClient.replayRecoveredEvents();
+
+        return asyncClient;
     }
 
     private ExecutorService createExecutorService() {
+        if (maxConcurrentRequestsCount > NO_VIRTUAL_THREADS) {
+            return BoundedConcurrencyExecutorService.newVirtualThreadExecutor(maxConcurrentRequestsCount);
+        }
+
         return new ThreadPoolExecutor(
                 minThreadsCount,
                 maxThreadsCount,
                 idleThreadsLifespanInSeconds,
                 TimeUnit.SECONDS,
-                new ArrayBlockingQueue<>(eventBuffer.getCapacity()),
+                createWorkQueue(),
                 (r, executor) -> {
                     throw new BufferOverflowException();
                 });
     }
 
+    // An array queue takes the heap of its whole capacity up front, which is not spared for a buffer keeping its events off the heap
+    private BlockingQueue<Runnable> createWorkQueue() {
+        return eventBuffer.isKeepingEventsOffHeap()
+                ? new LinkedBlockingQueue<>(eventBuffer.getCapacity())
+                : new ArrayBlockingQueue<>(eventBuffer.getCapacity());
+    }
+
     private static void assertValidThreadCountRange(int minThreadsCount, int maxThreadsCount, int orderedEventSendersCount) {
-        if (minThreadsCount < 1 || minThreadsCount > maxThreadsCount || orderedEventSendersCount < 0) {
-            throw new IllegalArgumentException();
+        if (minThreadsCount < 1) {
+            throw new IllegalArgumentException("minThreadsCount must be positive: " + minThreadsCount);
+        }
+        if (minThreadsCount > maxThreadsCount) {
+            throw new IllegalArgumentException("maxThreadsCount must be at least minThreadsCount " + minThreadsCount + ": " + maxThreadsCount);
+        }
+        if (orderedEventSendersCount < 0) {
+            throw new IllegalArgumentException("orderedEventSendersCount must not be negative: " + orderedEventSendersCount);
         }
     }
 }
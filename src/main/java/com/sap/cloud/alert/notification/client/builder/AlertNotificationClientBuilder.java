@@ -1,5 +1,6 @@
 package com.sap.cloud.alert.notification.client.builder;
 
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
 import com.sap.cloud.alert.notification.client.Platform;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
@@ -13,7 +14,6 @@ import java.net.URI;
 
 import static com.sap.cloud.alert.notification.client.Platform.CF;
 import static java.util.Objects.*;
-import static org.apache.http.impl.client.HttpClients.createDefault;
 
 public class AlertNotificationClientBuilder {
 
@@ -23,6 +23,7 @@ public class AlertNotificationClientBuilder {
     private String privateKey;
     private URI oAuthServiceUri;
     private HttpClient httpClient;
+    private IHttpTransport httpTransport;
     private IRetryPolicy retryPolicy;
     private ServiceRegion serviceRegion;
     private IAuthorizationHeader authorizationHeader;
@@ -30,9 +31,19 @@ public class AlertNotificationClientBuilder {
     private boolean isCertificateAuthentication = false;
     private KeyStoreDetails keyStoreDetails;
     private Long invalidationTime;
+    private boolean isDefaultHttpClient;
+    private boolean isNonBlockingTransport = false;
+    private boolean isHttp2Transport = false;
+    private int compressionThreshold = HttpClientFactory.NO_COMPRESSION;
+    private CircuitBreakerSettings circuitBreakerSettings;
+    private int warmUpConnectionsCount = 0;
+    private ConnectionPoolSettings connectionPoolSettings = new ConnectionPoolSettings();
 
     public AlertNotificationClientBuilder() {
-        this(createDefault());
+        this.serviceRegion = null;
+        this.authorizationHeader = null;
+        this.isDefaultHttpClient = true;
+        this.retryPolicy = new SimpleRetryPolicy();
     }
 
     public AlertNotificationClientBuilder(HttpClient httpClient) {
@@ -44,6 +55,107 @@ public class AlertNotificationClientBuilder {
 
     public AlertNotificationClientBuilder withHttpClient(HttpClient httpClient) {
         this.httpClient = httpClient;
+        this.isDefaultHttpClient = false;
+        return this;
+    }
+
+    /**
+     * Sends the requests of the built client through the given transport instead of an Apache HttpClient. OAuth tokens and
+     * destinations are still fetched with the builder's HTTP client. The transport is responsible for its own TLS setup,
+     * so it cannot be combined with certificate authentication.
+     */
+    public AlertNotificationClientBuilder withHttpTransport(IHttpTransport httpTransport) {
+        this.httpTransport = httpTransport;
+        return this;
+    }
+
+    /**
+     * Makes the built client send its requests over HTTP/2, multiplexing concurrent requests over a single connection per
+     * service region instead of opening a connection, and with certificate authentication a TLS handshake, for each of them.
+     * The connection pool settings do not apply to this transport, and it cannot be combined with an HTTP client supplied
+     * via {@link #withHttpClient(HttpClient)}.
+     */
+    public AlertNotificationClientBuilder withHttp2Transport() {
+        this.isHttp2Transport = true;
+        return this;
+    }
+
+    /**
+     * Makes the built client gzip request bodies of at least {@value GzipHttpTransport#DEFAULT_COMPRESSION_THRESHOLD} bytes
+     * and accept gzip encoded responses, trading CPU for bandwidth on constrained networks.
+     */
+    public AlertNotificationClientBuilder withCompression() {
+        return withCompression(GzipHttpTransport.DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Makes the built client gzip request bodies of at least the given size in bytes and accept gzip encoded responses.
+     * Compressed request bodies are written to memory before being sent instead of being streamed.
+     */
+    public AlertNotificationClientBuilder withCompression(int compressionThreshold) {
+        if (compressionThreshold < 1) {
+            throw new ClientRequestException("Compression threshold must be a positive number");
+        }
+
+        this.compressionThreshold = compressionThreshold;
+        return this;
+    }
+
+    /**
+     * Makes the built client fail its requests right away, without sending them, while the endpoint family they belong to
+     * keeps failing - see {@link CircuitBreakerHttpTransport}
+     */
+    public AlertNotificationClientBuilder withCircuitBreaker() {
+        return withCircuitBreaker(new CircuitBreakerSettings());
+    }
+
+    /**
+     * Makes the built client guard its requests with circuit breakers of the given settings, one per endpoint family of the
+     * service region. Their state changes are reported to the listener of the settings.
+     */
+    public AlertNotificationClientBuilder withCircuitBreaker(CircuitBreakerSettings circuitBreakerSettings) {
+        this.circuitBreakerSettings = requireNonNull(circuitBreakerSettings);
+        return this;
+    }
+
+    /**
+     * Makes the build methods obtain the credentials and open a pooled connection to the service region before returning the client,
+     * so that the first events are not delayed by them. The build fails if the service region cannot be reached.
+     */
+    public AlertNotificationClientBuilder withWarmUp() {
+        return withWarmUp(1);
+    }
+
+    /**
+     * Makes the build methods obtain the credentials and open up to the given number of pooled connections to the service region
+     * before returning the client
+     */
+    public AlertNotificationClientBuilder withWarmUp(int connectionsCount) {
+        if (connectionsCount < 1) {
+            throw new ClientRequestException("Warm-up connections count must be a positive number");
+        }
+
+        this.warmUpConnectionsCount = connectionsCount;
+        return this;
+    }
+
+    /**
+     * Configures the connection pool of the HTTP clients created by the builder. It affects the default HTTP client
+     * and the ones created for certificate authentication, but not an HTTP client supplied via {@link #withHttpClient(HttpClient)}.
+     */
+    public AlertNotificationClientBuilder withConnectionPool(ConnectionPoolSettings connectionPoolSettings) {
+        this.connectionPoolSettings = connectionPoolSettings;
+        return this;
+    }
+
+    /**
+     * Makes the built client additionally send requests through a non-blocking HTTP client, sharing the connection pool settings.
+     * An {@link com.sap.cloud.alert.notification.client.internal.AlertNotificationAsyncClient} wrapping such a client completes
+     * its futures from I/O callbacks instead of holding an executor thread for the whole round trip. It cannot be combined
+     * with an HTTP client supplied via {@link #withHttpClient(HttpClient)}.
+     */
+    public AlertNotificationClientBuilder withNonBlockingTransport() {
+        this.isNonBlockingTransport = true;
         return this;
     }
 
@@ -106,7 +218,7 @@ public class AlertNotificationClientBuilder {
     }
 
     public AlertNotificationClient buildFromDestinationBinding(DestinationServiceBinding destinationServiceBinding, String destinationName) {
-        this.destinationCredentialsProvider = buildDestinationCredentialsProvider(destinationName, httpClient, destinationServiceBinding);
+        this.destinationCredentialsProvider = buildDestinationCredentialsProvider(destinationName, getHttpClient(), destinationServiceBinding);
 
         DestinationContext destinationContext = destinationCredentialsProvider.getDestinationContext();
 
@@ -141,27 +253,52 @@ public class AlertNotificationClientBuilder {
     }
 
     public AlertNotificationClient build() {
+        AlertNotificationClient client = buildClient();
+
+        if (warmUpConnectionsCount > 0) {
+            client.warmUp(warmUpConnectionsCount);
+        }
+
+        return client;
+    }
+
+    private AlertNotificationClient buildClient() {
+        if (nonNull(httpTransport)) {
+            assertNoCertificateAuthentication();
+
+            return new AlertNotificationClient(
+                    buildHttpTransport(),
+                    requireNonNull(retryPolicy),
+                    requireNonNull(serviceRegion),
+                    buildAuthorizationHeader(),
+                    invalidationTime,
+                    destinationCredentialsProvider
+            );
+        }
+
         if (isNull(destinationCredentialsProvider) && isCertificateAuthentication) {
             return new AlertNotificationClient(
-                    httpClient,
+                    getHttpClient(),
                     requireNonNull(retryPolicy),
                     requireNonNull(serviceRegion),
                     requireNonNull(certificate),
                     requireNonNull(privateKey),
-                    new HttpClientFactory(),
+                    buildHttpClientFactory(),
                     isCertificateAuthentication
             );
         }
 
+        assertNoCustomHttpClient();
+
         return new AlertNotificationClient(
-                requireNonNull(httpClient),
+                requireNonNull(getHttpClient()),
                 requireNonNull(retryPolicy),
                 requireNonNull(serviceRegion),
                 buildAuthorizationHeader(),
                 invalidationTime,
                 keyStoreDetails,
                 destinationCredentialsProvider,
-                new HttpClientFactory(),
+                buildHttpClientFactory(),
                 isCertificateAuthentication
         );
     }
@@ -172,7 +309,7 @@ public class AlertNotificationClientBuilder {
         }
         
         if (nonNull(certificate) && nonNull(privateKey) && nonNull(oAuthServiceUri)) {
-            return new OAuthAuthorizationHeader(certificate, privateKey, oAuthServiceUri, clientId, new HttpClientFactory());
+            return new OAuthAuthorizationHeader(certificate, privateKey, oAuthServiceUri, clientId, buildHttpClientFactory());
         }
         
         if (isNull(clientId) && isNull(clientSecret)) {
@@ -181,7 +318,46 @@ public class AlertNotificationClientBuilder {
 
         return isNull(oAuthServiceUri) //
                 ? new BasicAuthorizationHeader(clientId, clientSecret) //
-                : new OAuthAuthorizationHeader(clientId, clientSecret, oAuthServiceUri, httpClient);
+                : new OAuthAuthorizationHeader(clientId, clientSecret, oAuthServiceUri, getHttpClient());
+    }
+
+    private HttpClient getHttpClient() {
+        if (isDefaultHttpClient && isNull(httpClient)) {
+            this.httpClient = buildHttpClientFactory().createHttpClient();
+        }
+
+        return httpClient;
+    }
+
+    private HttpClientFactory buildHttpClientFactory() {
+        return HttpClientFactory.builder() //
+                .withConnectionPoolSettings(connectionPoolSettings) //
+                .withNonBlocking(isNonBlockingTransport) //
+                .withHttp2(isHttp2Transport) //
+                .withCompressionThreshold(compressionThreshold) //
+                .withCircuitBreakerSettings(circuitBreakerSettings) //
+                .build();
+    }
+
+    private IHttpTransport buildHttpTransport() {
+        IHttpTransport compressingHttpTransport = compressionThreshold == HttpClientFactory.NO_COMPRESSION
+                ? httpTransport
+                : new GzipHttpTransport(httpTransport, compressionThreshold);
+
+        return isNull(circuitBreakerSettings) ? compressingHttpTransport : new CircuitBreakerHttpTransport(compressingHttpTransport, circuitBreakerSettings);
+    }
+
+    private void assertNoCertificateAuthentication() {
+        if (isCertificateAuthentication) {
+            throw new ClientRequestException("Certificate authentication is not supported with a custom HTTP transport");
+        }
+    }
+
+    // The transport sends the requests through an HTTP client of its own, which would silently replace the custom one
+    private void assertNoCustomHttpClient() {
+        if (!isDefaultHttpClient && !isCertificateAuthentication && (isNonBlockingTransport || isHttp2Transport)) {
+            throw new ClientRequestException("A custom HTTP client is not supported with a non-blocking or HTTP/2 transport");
+        }
     }
 
     private void assertValidInvalidationTime() {
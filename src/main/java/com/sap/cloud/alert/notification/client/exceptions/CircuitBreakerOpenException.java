@@ -0,0 +1,10 @@
+package com.sap.cloud.alert.notification.client.exceptions;
+
+public class CircuitBreakerOpenException extends ClientRequestException {
+
+    private static final long serialVersionUID = 3208176049413521587L;
+
+    public CircuitBreakerOpenException(String circuitName) {
+        super(String.format("Circuit %s is open, the request was not sent", circuitName));
+    }
+}
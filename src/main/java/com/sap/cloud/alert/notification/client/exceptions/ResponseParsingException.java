@@ -0,0 +1,14 @@
+package com.sap.cloud.alert.notification.client.exceptions;
+
+/**
+ * The service accepted the request, but its response could not be read. Such a request is not retried,
+ * as sending it again would repeat what the service has already done.
+ */
+public class ResponseParsingException extends ClientRequestException {
+
+    private static final long serialVersionUID = 5794226471368912027L;
+
+    public ResponseParsingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.sap.cloud.alert.notification.client.exceptions;
 
+import java.time.Duration;
 import java.util.Objects;
 
 import static java.lang.String.format;
@@ -14,15 +15,26 @@ public class ServerResponseException extends RuntimeException {
 
     private Integer statusCode;
     private String xVcapRequestId;
+    private Duration retryAfter;
 
     public ServerResponseException( //
             String msg, //
             Integer statusCode, //
             String xVcapRequestId //
+    ) {
+        this(msg, statusCode, xVcapRequestId, null);
+    }
+
+    public ServerResponseException( //
+            String msg, //
+            Integer statusCode, //
+            String xVcapRequestId, //
+            Duration retryAfter //
     ) {
         super(msg);
         this.statusCode = statusCode;
         this.xVcapRequestId = xVcapRequestId;
+        this.retryAfter = retryAfter;
     }
 
     public Integer getStatusCode() {
@@ -33,6 +45,13 @@ public class ServerResponseException extends RuntimeException {
         return xVcapRequestId;
     }
 
+    /**
+     * @return the time the server asked to wait before retrying, as given by its Retry-After header, or null if it gave none
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
     @Override
     public String toString() {
         return nonNull(xVcapRequestId) //
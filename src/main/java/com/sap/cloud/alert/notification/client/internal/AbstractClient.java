@@ -1,45 +1,74 @@
 package com.sap.cloud.alert.notification.client.internal;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpRequestBody;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.exceptions.ResponseParsingException;
 import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
-import org.apache.http.Header;
-import org.apache.http.HttpRequest;
-import org.apache.http.HttpResponse;
 import org.apache.http.client.HttpClient;
-import org.apache.http.client.methods.*;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.util.EntityUtils;
+import org.apache.http.client.methods.HttpDelete;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpPut;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.security.KeyStore;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static com.sap.cloud.alert.notification.client.HttpTransportRequest.withStreamedBody;
 import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.*;
 import static com.sap.cloud.alert.notification.client.internal.KeyStoreUtils.buildKeyStore;
 import static java.lang.Boolean.FALSE;
 import static java.lang.System.currentTimeMillis;
-import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.list;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.function.Function.identity;
 import static org.apache.http.HttpHeaders.*;
 import static org.apache.http.HttpStatus.*;
 
 public class AbstractClient {
 
     private static final String FAILED_EXECUTION = "Failed execution";
+    private static final String FAILED_RESPONSE_PARSING = "Failed to read the response of an accepted request";
+    private static final String FAILED_CERTIFICATE_ROTATION = "Failed to rotate the client certificate";
+
+    // Runs the background work of clients which are not given an executor of their own
+    private static final Executor BACKGROUND_EXECUTOR = Executors.newCachedThreadPool(createDaemonThreadFactory());
 
     private static final long TIME_DELTA_IN_MILLIS = 300000;
 
-    long credentialsLoadTime;
-    long certificateExpirationTime = 0L;
+    volatile long credentialsLoadTime;
+    volatile long certificateExpirationTime = 0L;
     Long invalidationTime;
 
     private IAuthorizationHeader authorizationHeader;
-    private HttpClient httpClient;
+    private final IHttpTransport httpTransport;
+    private final AtomicBoolean isRotatingCertificate = new AtomicBoolean();
+    private final AtomicReference<RuntimeException> certificateRotationFailure = new AtomicReference<>();
+    private volatile Executor executor = BACKGROUND_EXECUTOR;
 
     private final HttpClientFactory httpClientFactory;
     private final boolean isCertificateAuthentication;
@@ -54,17 +83,15 @@ public class AbstractClient {
            HttpClientFactory httpClientFactory,
            boolean isCertificateAuthentication
     ) {
-        this.httpClient = httpClient;
         this.authorizationHeader = authorizationHeader;
         this.invalidationTime = invalidationTime;
         this.isCertificateAuthentication = isCertificateAuthentication;
         this.destinationCredentialsProvider = destinationCredentialsProvider;
         this.credentialsLoadTime = currentTimeMillis();
         this.httpClientFactory = httpClientFactory;
-
-        if (isCertificateAuthentication) {
-            this.httpClient = this.httpClientFactory.createHttpClient(keyStoreDetails);
-        }
+        this.httpTransport = withCircuitBreaker(isCertificateAuthentication
+                ? new SwappableHttpTransport(withCompression(createHttpTransport(keyStoreDetails)))
+                : withCompression(createHttpTransport(httpClient)));
     }
 
     public AbstractClient(
@@ -74,82 +101,201 @@ public class AbstractClient {
             HttpClientFactory httpClientFactory,
             boolean isCertificateAuthentication
     ) {
-        this.httpClient = httpClient;
         this.isCertificateAuthentication = isCertificateAuthentication;
         this.httpClientFactory = httpClientFactory;
-        this.httpClient = this.httpClientFactory.createHttpClient(certificateChain, privateKey);
+        this.httpTransport = withCircuitBreaker(withCompression(createHttpTransport(certificateChain, privateKey)));
+    }
+
+    public AbstractClient(
+            IHttpTransport httpTransport,
+            IAuthorizationHeader authorizationHeader,
+            Long invalidationTime,
+            DestinationCredentialsProvider destinationCredentialsProvider
+    ) {
+        this.httpTransport = requireNonNull(httpTransport);
+        this.authorizationHeader = authorizationHeader;
+        this.invalidationTime = invalidationTime;
+        this.isCertificateAuthentication = false;
+        this.destinationCredentialsProvider = destinationCredentialsProvider;
+        this.credentialsLoadTime = currentTimeMillis();
+        this.httpClientFactory = null;
+    }
+
+    public IHttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    /**
+     * @return whether the asynchronous request methods complete from I/O callbacks of a non-blocking transport
+     * instead of executing the request on the calling thread
+     */
+    public boolean isNonBlocking() {
+        return httpTransport.isNonBlocking();
+    }
+
+    /**
+     * @param executor runs the background work of the client, such as rotating its certificate or warming it up
+     */
+    void setExecutor(Executor executor) {
+        this.executor = requireNonNull(executor);
+    }
+
+    protected <T> T executeHttpPost(URI serviceUri, Object payload, Class<T> responseType) {
+        return executeRequest(createPostRequest(serviceUri, payload), body -> fromJsonStream(body, responseType), SC_CREATED, SC_ACCEPTED);
+    }
+
+    protected <T> T executeHttpGet(URI serviceUri, Class<T> responseType) {
+        return executeRequest(createGetRequest(serviceUri), body -> fromJsonStream(body, responseType), SC_OK);
+    }
+
+    protected <T> T executeHttpGet(URI serviceUri, TypeReference<T> responseType) {
+        return executeRequest(createGetRequest(serviceUri), body -> fromJsonStream(body, responseType), SC_OK);
     }
 
-    protected String executeHttpPost(URI serviceUri, String payload) {
-        return executeRequest(createPostRequest(serviceUri, payload), SC_CREATED, SC_ACCEPTED);
+    protected <T> T executeHttpPut(URI serviceUri, Object payload, Class<T> responseType) {
+        return executeRequest(createPutRequest(serviceUri, payload), body -> fromJsonStream(body, responseType), SC_OK);
     }
 
-    protected String executeHttpGet(URI serviceUri) {
-        return executeRequest(createGetRequest(serviceUri), SC_OK);
+    protected Void executeHttpDelete(URI serviceUri) {
+        return executeRequest(createDeleteRequest(serviceUri), body -> null, SC_OK, SC_NO_CONTENT);
     }
 
-    protected String executeHttpPut(URI serviceUri, String payload) {
-        return executeRequest(createPutRequest(serviceUri, payload), SC_OK);
+    protected <T> CompletableFuture<T> executeHttpPostAsync(URI serviceUri, Object payload, Class<T> responseType) {
+        return executeRequestAsync(() -> createPostRequest(serviceUri, payload), body -> fromJsonStream(body, responseType), SC_CREATED, SC_ACCEPTED);
+    }
+
+    protected <T> CompletableFuture<T> executeHttpGetAsync(URI serviceUri, Class<T> responseType) {
+        return executeRequestAsync(() -> createGetRequest(serviceUri), body -> fromJsonStream(body, responseType), SC_OK);
+    }
+
+    /**
+     * The retry policies start each retry on their scheduler thread, which all clients share, while preparing a request may
+     * block on obtaining a token or rotating the certificate. So the first attempt runs on the calling thread, and each
+     * retry is submitted to the executor of the client instead.
+     */
+    protected <T> Supplier<CompletableFuture<T>> retriedOnExecutor(Supplier<CompletableFuture<T>> attempt) {
+        AtomicBoolean isFirstAttempt = new AtomicBoolean(true);
+
+        return () -> isFirstAttempt.getAndSet(false) ? attempt.get() : supplyAsync(attempt, executor).thenCompose(identity());
+    }
+
+    /**
+     * Obtains the credentials and opens up to the given number of pooled connections to the service by sending concurrent
+     * HEAD requests to the given URI. Their response statuses are ignored, as only the established connections matter.
+     */
+    protected void warmUp(URI serviceUri, int connectionsCount) {
+        if (connectionsCount < 1) {
+            throw new IllegalArgumentException("connectionsCount must be positive: " + connectionsCount);
+        }
+
+        adjustHttpTransport();
+
+        HttpTransportRequest request = new HttpTransportRequest(HttpHead.METHOD_NAME, serviceUri, createHeaders(), null);
+        try {
+            List<CompletableFuture<HttpTransportResponse>> responses = new ArrayList<>(connectionsCount);
+            for (int i = 0; i < connectionsCount; i++) {
+                responses.add(httpTransport.isNonBlocking() ? httpTransport.executeAsync(request) : supplyAsync(() -> executeWarmUpRequest(request), executor));
+            }
+
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException exception) {
+            throw toClientRequestException(nonNull(exception.getCause()) ? exception.getCause() : exception);
+        }
     }
 
-    protected String executeHttpDelete(URI serviceUri) {
-        return executeRequest(createDeleteRequest(serviceUri), SC_OK, SC_NO_CONTENT);
+    private HttpTransportResponse executeWarmUpRequest(HttpTransportRequest request) {
+        try {
+            return httpTransport.execute(request);
+        } catch (IOException exception) {
+            throw new ClientRequestException(FAILED_EXECUTION, exception);
+        }
     }
 
-    private String executeRequest(HttpUriRequest httpRequest, Integer ...expectedStatuses) {
-        HttpResponse response = null;
+    private <T> CompletableFuture<T> executeRequestAsync(Supplier<HttpTransportRequest> requestSupplier, ResponseBodyReader<T> bodyReader, Integer... expectedStatuses) {
         try {
-            adjustHttpClient();
-            response = httpClient.execute(httpRequest);
+            adjustHttpTransport();
+
+            return httpTransport.executeAsync(requestSupplier.get())
+                    .handle((response, exception) -> {
+                        if (nonNull(exception)) {
+                            throw toClientRequestException(exception instanceof CompletionException && nonNull(exception.getCause()) ? exception.getCause() : exception);
+                        }
+
+                        try {
+                            return readResponse(response, bodyReader, expectedStatuses);
+                        } catch (IOException ioException) {
+                            throw new ClientRequestException(FAILED_EXECUTION, ioException);
+                        }
+                    });
+        } catch (RuntimeException exception) {
+            CompletableFuture<T> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(exception);
+            return failedExecution;
+        }
+    }
 
-            assertHttpStatus(response, expectedStatuses);
+    private <T> T executeRequest(HttpTransportRequest request, ResponseBodyReader<T> bodyReader, Integer... expectedStatuses) {
+        try {
+            adjustHttpTransport();
 
-            return isNull(response.getEntity()) ? EMPTY : EntityUtils.toString(response.getEntity(), UTF_8.name());
+            return httpTransport.execute(request, response -> readResponse(response, bodyReader, expectedStatuses));
         } catch (IOException exception) {
             throw new ClientRequestException(FAILED_EXECUTION, exception);
-        } finally {
-            consumeQuietly(response);
         }
     }
 
-    private HttpGet createGetRequest(URI serviceUri) {
-        HttpGet request = new HttpGet(serviceUri);
+    private static <T> T readResponse(HttpTransportResponse response, ResponseBodyReader<T> bodyReader, Integer... expectedStatuses) throws IOException {
+        assertHttpStatus(response, expectedStatuses);
 
-        setAuthorizationHeader(request);
-        request.setHeader(ACCEPT, APPLICATION_JSON);
+        try {
+            return bodyReader.read(response.getBodyStream());
+        } catch (IOException exception) {
+            // Thrown as no I/O failure, so that the accepted request is not sent again
+            throw new ResponseParsingException(FAILED_RESPONSE_PARSING, exception);
+        }
+    }
 
-        return request;
+    private static RuntimeException toClientRequestException(Throwable exception) {
+        return exception instanceof RuntimeException ? (RuntimeException) exception : new ClientRequestException(FAILED_EXECUTION, exception);
     }
 
-    private HttpPost createPostRequest(URI serviceUri, String payload) {
-        HttpPost request = new HttpPost(serviceUri);
+    private HttpTransportRequest createGetRequest(URI serviceUri) {
+        Map<String, String> headers = createHeaders();
+        headers.put(ACCEPT, APPLICATION_JSON);
 
-        setAuthorizationHeader(request);
-        request.setEntity(toStringEntity(payload));
-        request.setHeader(CONTENT_TYPE, APPLICATION_JSON);
+        return new HttpTransportRequest(HttpGet.METHOD_NAME, serviceUri, headers, null);
+    }
 
-        return request;
+    private HttpTransportRequest createPostRequest(URI serviceUri, Object payload) {
+        Map<String, String> headers = createHeaders();
+        headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+        // A payload which is already serialized is written as it is
+        IHttpRequestBody body = payload instanceof IHttpRequestBody ? (IHttpRequestBody) payload : outputStream -> writeJson(outputStream, payload);
+
+        return withStreamedBody(HttpPost.METHOD_NAME, serviceUri, headers, body);
     }
 
-    private HttpPut createPutRequest(URI serviceUri, String payload) {
-        HttpPut request = new HttpPut(serviceUri);
+    private HttpTransportRequest createPutRequest(URI serviceUri, Object payload) {
+        Map<String, String> headers = createHeaders();
+        headers.put(CONTENT_TYPE, APPLICATION_JSON);
 
-        setAuthorizationHeader(request);
-        request.setEntity(toStringEntity(payload));
-        request.setHeader(CONTENT_TYPE, APPLICATION_JSON);
+        return withStreamedBody(HttpPut.METHOD_NAME, serviceUri, headers, outputStream -> writeJson(outputStream, payload));
+    }
 
-        return request;
+    private HttpTransportRequest createDeleteRequest(URI serviceUri) {
+        return new HttpTransportRequest(HttpDelete.METHOD_NAME, serviceUri, createHeaders(), null);
     }
 
-    private HttpDelete createDeleteRequest(URI serviceUri) {
-        HttpDelete request = new HttpDelete(serviceUri);
+    private Map<String, String> createHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
 
-        setAuthorizationHeader(request);
+        setAuthorizationHeader(headers);
 
-        return request;
+        return headers;
     }
 
-    private void setAuthorizationHeader(HttpRequest request) {
+    private void setAuthorizationHeader(Map<String, String> headers) {
         if (isCertificateAuthentication) {
             return;
         }
@@ -159,27 +305,109 @@ public class AbstractClient {
             credentialsLoadTime = currentTimeMillis();
         }
 
-        request.setHeader(AUTHORIZATION, authorizationHeader.getValue());
+        if (nonNull(authorizationHeader)) {
+            headers.put(AUTHORIZATION, authorizationHeader.getValue());
+        }
     }
 
-    private static void assertHttpStatus(HttpResponse response, Integer... expectedCodes) throws IOException {
-        if (!asList(expectedCodes).contains(Integer.valueOf(response.getStatusLine().getStatusCode()))) {
-            Header firstHeader = response.getFirstHeader(X_VCAP_REQUEST_ID_HEADER);
+    private static void assertHttpStatus(HttpTransportResponse response, Integer... expectedCodes) {
+        if (!asList(expectedCodes).contains(Integer.valueOf(response.getStatusCode()))) {
             throw new ServerResponseException( //
                     extractMessage(response), //
-                    response.getStatusLine().getStatusCode(), //
-                    nonNull(firstHeader) ? firstHeader.getValue() : null //
+                    response.getStatusCode(), //
+                    response.getHeader(X_VCAP_REQUEST_ID_HEADER), //
+                    parseRetryAfter(response.getHeader(RETRY_AFTER)) //
             );
         }
     }
 
-    private StringEntity toStringEntity(String payload) {
-        return new StringEntity(payload, UTF_8.name());
+    private IHttpTransport withCompression(IHttpTransport httpTransport) {
+        return isNull(httpClientFactory) || httpClientFactory.getCompressionThreshold() == HttpClientFactory.NO_COMPRESSION
+                ? httpTransport
+                : new GzipHttpTransport(httpTransport, httpClientFactory.getCompressionThreshold());
+    }
+
+    // Outermost, so that the state of the circuits outlives the transports swapped on certificate rotation
+    private IHttpTransport withCircuitBreaker(IHttpTransport httpTransport) {
+        return isNull(httpClientFactory) || isNull(httpClientFactory.getCircuitBreakerSettings())
+                ? httpTransport
+                : new CircuitBreakerHttpTransport(httpTransport, httpClientFactory.getCircuitBreakerSettings());
+    }
+
+    private IHttpTransport createHttpTransport(HttpClient httpClient) {
+        if (isNull(httpClientFactory)) {
+            return new ApacheHttpTransport(httpClient);
+        }
+
+        if (httpClientFactory.isHttp2()) {
+            return new ApacheHttp2Transport(httpClientFactory.createHttp2AsyncClient());
+        }
+
+        return httpClientFactory.isNonBlocking()
+                ? new ApacheHttpAsyncTransport(httpClientFactory.createHttpAsyncClient())
+                : new ApacheHttpTransport(httpClient);
+    }
+
+    private IHttpTransport createHttpTransport(KeyStoreDetails keyStoreDetails) {
+        if (httpClientFactory.isHttp2()) {
+            return new ApacheHttp2Transport(httpClientFactory.createHttp2AsyncClient(keyStoreDetails));
+        }
+
+        return httpClientFactory.isNonBlocking()
+                ? new ApacheHttpAsyncTransport(httpClientFactory.createHttpAsyncClient(keyStoreDetails))
+                : new ApacheHttpTransport(httpClientFactory.createHttpClient(keyStoreDetails));
+    }
+
+    private IHttpTransport createHttpTransport(String certificateChain, String privateKey) {
+        if (httpClientFactory.isHttp2()) {
+            return new ApacheHttp2Transport(httpClientFactory.createHttp2AsyncClient(certificateChain, privateKey));
+        }
+
+        return httpClientFactory.isNonBlocking()
+                ? new ApacheHttpAsyncTransport(httpClientFactory.createHttpAsyncClient(certificateChain, privateKey))
+                : new ApacheHttpTransport(httpClientFactory.createHttpClient(certificateChain, privateKey));
+    }
+
+    private void adjustHttpTransport() {
+        RuntimeException rotationFailure = certificateRotationFailure.getAndSet(null);
+        if (nonNull(rotationFailure)) {
+            // Surfaced once, the next request attempts the rotation again
+            throw new ClientRequestException(FAILED_CERTIFICATE_ROTATION, rotationFailure);
+        }
+
+        if (isCertificateAuthentication && isTimeToReloadCertificate() && nonNull(destinationCredentialsProvider)
+                && isRotatingCertificate.compareAndSet(false, true)) {
+            if (certificateExpirationTime > currentTimeMillis()) {
+                // The current certificate is still valid, so requests keep using it until the new client is ready
+                rotateCertificateInBackground();
+            } else {
+                rotateCertificate();
+            }
+        }
+    }
+
+    private void rotateCertificateInBackground() {
+        Runnable rotation = () -> {
+            try {
+                rotateCertificate();
+            } catch (RuntimeException exception) {
+                certificateRotationFailure.set(exception);
+            }
+        };
+
+        try {
+            executor.execute(rotation);
+        } catch (RuntimeException rejection) {
+            // The executor is saturated or shut down, so the request waits for the rotation instead
+            rotateCertificate();
+        }
     }
 
-    private void adjustHttpClient() {
-        if (isCertificateAuthentication && isTimeToReloadCertificate() && nonNull(destinationCredentialsProvider)) {
+    private void rotateCertificate() {
+        try {
             setSSLContext();
+        } finally {
+            isRotatingCertificate.set(false);
         }
     }
 
@@ -190,7 +418,10 @@ public class AbstractClient {
         this.credentialsLoadTime = currentTimeMillis();
         this.certificateExpirationTime = getCertificateExpirationTimeMs(keyStore);
 
-        this.httpClient = httpClientFactory.createHttpClient(keyStoreDetails);
+        IHttpTransport swappableHttpTransport = httpTransport instanceof CircuitBreakerHttpTransport
+                ? ((CircuitBreakerHttpTransport) httpTransport).getHttpTransport()
+                : httpTransport;
+        ((SwappableHttpTransport) swappableHttpTransport).swap(withCompression(createHttpTransport(keyStoreDetails)));
     }
 
     private long getCertificateExpirationTimeMs(KeyStore keyStore) {
@@ -216,4 +447,20 @@ public class AbstractClient {
     private boolean shouldRefreshCredentials() {
         return isNull(invalidationTime) ? FALSE : invalidationTime * 1000 < (currentTimeMillis() - credentialsLoadTime);
     }
+
+    private static ThreadFactory createDaemonThreadFactory() {
+        AtomicInteger threadsCount = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, "alert-notification-background-" + threadsCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    private interface ResponseBodyReader<T> {
+
+        T read(InputStream body) throws IOException;
+    }
 }
@@ -0,0 +1,210 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.sap.cloud.alert.notification.client.internal.ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.http.HttpStatus.SC_SERVICE_UNAVAILABLE;
+
+/**
+ * Limits the requests in flight to a limit found through additive increase and multiplicative decrease. The limit
+ * grows by one per limit's worth of fast successful requests while it is in use, and shrinks by a tenth once the
+ * service throttles - 429 or 503 responses - or the latency grows past twice the lowest latency observed recently.
+ * Requests over the limit wait in the limiter, without holding a thread, and start as soon as others complete.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    public static final int DEFAULT_INITIAL_LIMIT = 10;
+    public static final int DEFAULT_MAX_LIMIT = 200;
+
+    static final double BACKOFF_RATIO = 0.9;
+    static final double LATENCY_TOLERANCE = 2.0;
+    // The lowest latency is measured anew from time to time, so that a region which got slower for good is not throttled forever
+    static final int LATENCY_SAMPLES_PER_PROBE = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Queue<Runnable> waitingRequests = new ArrayDeque<>();
+    private final Queue<Runnable> startableRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainersCount = new AtomicInteger();
+    private double limit;
+    private int inFlightCount;
+    private long minLatencyNanos = Long.MAX_VALUE;
+    private int latencySamplesCount;
+    private volatile int decreasesCount;
+
+    public AdaptiveConcurrencyLimiter() {
+        this(DEFAULT_MIN_LIMIT, DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * @param minLimit     the lowest limit, kept even while the service keeps throttling
+     * @param initialLimit the limit to start with
+     * @param maxLimit     the highest limit, e.g. the number of threads available for sending
+     */
+    public AdaptiveConcurrencyLimiter(int minLimit, int initialLimit, int maxLimit) {
+        if (minLimit < 1) {
+            throw new IllegalArgumentException("minLimit must be positive: " + minLimit);
+        }
+        if (initialLimit < minLimit) {
+            throw new IllegalArgumentException("initialLimit must be at least minLimit " + minLimit + ": " + initialLimit);
+        }
+        if (maxLimit < initialLimit) {
+            throw new IllegalArgumentException("maxLimit must be at least initialLimit " + initialLimit + ": " + maxLimit);
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlightCount;
+    }
+
+    public synchronized int getWaitingCount() {
+        return waitingRequests.size();
+    }
+
+    /**
+     * Starts the request right away if the limit allows it, in which case the exceptions of the request supplier are thrown
+     * to the caller. Otherwise the request is started once a request in flight completes, and such exceptions fail its future
+     *
+     * @param request starts a request and returns a future of its result
+     * @return a future completed with the result of the request
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        requireNonNull(request);
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        synchronized (this) {
+            if (inFlightCount >= (int) limit) {
+                waitingRequests.add(() -> startWaitingRequest(request, result));
+                return result;
+            }
+
+            ++inFlightCount;
+        }
+
+        start(request, result);
+
+        return result;
+    }
+
+    private <T> void startWaitingRequest(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        try {
+            start(request, result);
+        } catch (RuntimeException exception) {
+            result.completeExceptionally(exception);
+        }
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> result) {
+        int startDecreasesCount = decreasesCount;
+        long startNanos = System.nanoTime();
+
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException exception) {
+            release(startDecreasesCount, 0L, exception);
+            throw exception;
+        }
+
+        response.whenComplete((value, exception) -> {
+            Throwable failure = exception instanceof CompletionException && !isNull(exception.getCause()) ? exception.getCause() : exception;
+            release(startDecreasesCount, System.nanoTime() - startNanos, failure);
+
+            if (isNull(failure)) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    private void release(int startDecreasesCount, long latencyNanos, Throwable failure) {
+        synchronized (this) {
+            adjustLimit(startDecreasesCount, latencyNanos, failure);
+            --inFlightCount;
+
+            while (inFlightCount < (int) limit && !waitingRequests.isEmpty()) {
+                ++inFlightCount;
+                startableRequests.add(waitingRequests.poll());
+            }
+        }
+
+        drainStartableRequests();
+    }
+
+    // Guarded by this
+    private void adjustLimit(int startDecreasesCount, long latencyNanos, Throwable failure) {
+        boolean isSucceeded = isNull(failure);
+        if (isThrottled(failure) || (isSucceeded && isLatencyIncreased(latencyNanos))) {
+            // Requests started before the last decrease show the state of the service before it, and do not decrease the limit again
+            if (startDecreasesCount == decreasesCount) {
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                ++decreasesCount;
+            }
+        } else if (isSucceeded && inFlightCount * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    // Guarded by this
+    private boolean isLatencyIncreased(long latencyNanos) {
+        if (++latencySamplesCount >= LATENCY_SAMPLES_PER_PROBE) {
+            latencySamplesCount = 0;
+            minLatencyNanos = latencyNanos;
+        } else {
+            minLatencyNanos = Math.min(minLatencyNanos, latencyNanos);
+        }
+
+        return latencyNanos > LATENCY_TOLERANCE * minLatencyNanos;
+    }
+
+    private static boolean isThrottled(Throwable failure) {
+        if (!(failure instanceof ServerResponseException)) {
+            return false;
+        }
+
+        int statusCode = ((ServerResponseException) failure).getStatusCode();
+        return statusCode == SC_TOO_MANY_REQUESTS || statusCode == SC_SERVICE_UNAVAILABLE;
+    }
+
+    // Started one after another by a single thread, so that requests completing right away do not start the next ones recursively
+    private void drainStartableRequests() {
+        if (drainersCount.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            Runnable startableRequest;
+            while (!isNull(startableRequest = startableRequests.poll())) {
+                startableRequest.run();
+            }
+        } while (drainersCount.decrementAndGet() != 0);
+    }
+}
@@ -3,54 +3,115 @@ package com.sap.cloud.alert.notification.client.internal;
 import com.sap.cloud.alert.notification.client.IAlertNotificationAsyncClient;
 import com.sap.cloud.alert.notification.client.IAlertNotificationClient;
 import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.IRetryPolicy;
 import com.sap.cloud.alert.notification.client.QueryParameter;
+import com.sap.cloud.alert.notification.client.ShutdownReport;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 import com.sap.cloud.alert.notification.client.model.PagedResponse;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.stream.IntStream;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.fromJsonString;
 import static com.sap.cloud.alert.notification.client.model.PredefinedEventTag.SOURCE_EVENT_ID;
-import static java.lang.Integer.valueOf;
-import static java.lang.Math.abs;
-import static java.util.Collections.unmodifiableCollection;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Function.identity;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.apache.http.util.TextUtils.isBlank;
 
 public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClient {
 
+    // Whether a retry policy schedules its own retries, as by default it blocks a common pool thread for all of them
+    private static final ClassValue<Boolean> IS_RETRYING_ASYNCHRONOUSLY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> retryPolicyClass) {
+            try {
+                return !retryPolicyClass.getMethod("executeWithRetryAsync", Supplier.class).isDefault();
+            } catch (NoSuchMethodException exception) {
+                return false;
+            }
+        }
+    };
+
     private final int orderedEventSendersCount;
     private final ExecutorService executorService;
-    private final Map<Integer, ExecutorService> orderedEventsExecutors;
+    private final KeyedSerialExecutor orderedEventsExecutor;
     private final ICustomerResourceEventBuffer eventBuffer;
     private final IAlertNotificationClient alertNotificationClient;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final AtomicBoolean isShutdown = new AtomicBoolean();
+    private final AtomicLong deliveredEventsCount = new AtomicLong();
+    private final Map<UUID, PendingEvent> pendingEvents = new ConcurrentHashMap<>();
+    private final Map<UUID, CustomerResourceEvent> failedEventsOnShutdown = new ConcurrentHashMap<>();
 
     public AlertNotificationAsyncClient(ExecutorService executorService, ICustomerResourceEventBuffer eventBuffer, IAlertNotificationClient alertNotificationClient) {
         this(executorService, eventBuffer, alertNotificationClient, 0);
     }
 
     public AlertNotificationAsyncClient(ExecutorService executorService, ICustomerResourceEventBuffer eventBuffer, IAlertNotificationClient alertNotificationClient, int orderedEventSendersCount) {
+        this(executorService, eventBuffer, alertNotificationClient, orderedEventSendersCount, null);
+    }
+
+    /**
+     * @param concurrencyLimiter limits the events in flight, including their retries, or null to send as many events at
+     *                           once as the executor service runs
+     */
+    public AlertNotificationAsyncClient(ExecutorService executorService, ICustomerResourceEventBuffer eventBuffer, IAlertNotificationClient alertNotificationClient,
+                                        int orderedEventSendersCount, AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
         this.eventBuffer = requireNonNull(eventBuffer);
         this.executorService = requireNonNull(executorService);
         this.alertNotificationClient = requireNonNull(alertNotificationClient);
         this.orderedEventSendersCount = orderedEventSendersCount;
-        this.orderedEventsExecutors = new ConcurrentHashMap<>(orderedEventSendersCount);
-        IntStream.range(0, orderedEventSendersCount).boxed().forEach(index -> orderedEventsExecutors.put(index, Executors.newSingleThreadExecutor()));
+        this.orderedEventsExecutor = new KeyedSerialExecutor(executorService);
+
+        if (alertNotificationClient instanceof AbstractClient) {
+            ((AbstractClient) alertNotificationClient).setExecutor(executorService);
+        }
     }
 
     public ExecutorService getExecutorService() {
         return executorService;
     }
 
+    /**
+     * @return an empty collection, as ordered events are sent through per-source lanes running on the executor service
+     * @deprecated use {@link #getOrderedEventsExecutor()} instead
+     */
+    @Deprecated
     public Collection<ExecutorService> getOrderedEventExecutorServices() {
-        return unmodifiableCollection(new ArrayList<>(orderedEventsExecutors.values()));
+        return emptyList();
+    }
+
+    /**
+     * @return the executor sending the events sharing a source event id in order, or null if ordering is disabled
+     */
+    public KeyedSerialExecutor getOrderedEventsExecutor() {
+        return orderedEventSendersCount > 0 ? orderedEventsExecutor : null;
+    }
+
+    public int getOrderedEventSendersCount() {
+        return orderedEventSendersCount;
     }
 
     public ICustomerResourceEventBuffer getEventBuffer() {
@@ -61,18 +122,80 @@ public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClie
         return alertNotificationClient;
     }
 
+    /**
+     * @return the limiter of the events in flight, or null if they are not limited
+     */
+    public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    /**
+     * @return whether requests are sent through the non-blocking transport of the underlying client, and retried by a
+     * policy which schedules its retries, in which case unordered events and queries do not occupy an executor thread while in flight
+     */
+    public boolean isNonBlocking() {
+        return alertNotificationClient instanceof AlertNotificationClient && ((AlertNotificationClient) alertNotificationClient).isNonBlocking()
+                && isRetryingAsynchronously((AlertNotificationClient) alertNotificationClient);
+    }
+
     @Override
     public CompletableFuture<CustomerResourceEvent> sendEvent(CustomerResourceEvent event) {
-        UUID eventUUID = eventBuffer.write(event);
+        assertIsRunning();
 
-        return CompletableFuture.supplyAsync( //
-                () -> alertNotificationClient.sendEvent(eventBuffer.read(eventUUID)), //
-                getEventSenderExecutor(event.getTags().get(SOURCE_EVENT_ID)) //
-        );
+        return sendBufferedEvent(event, eventBuffer.write(event));
+    }
+
+    @Override
+    public CompletableFuture<CustomerResourceEvent> sendEvent(CustomerResourceEvent event, Duration timeout) {
+        assertIsRunning();
+
+        return sendBufferedEvent(event, eventBuffer.write(event, requireNonNull(timeout)));
+    }
+
+    @Override
+    public Optional<CompletableFuture<CustomerResourceEvent>> trySend(CustomerResourceEvent event) {
+        if (isShutdown.get()) {
+            return Optional.empty();
+        }
+
+        UUID eventUUID = eventBuffer.tryWrite(event);
+        if (isNull(eventUUID)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(sendBufferedEvent(event, eventUUID));
+        } catch (BufferOverflowException exception) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Send the events left undelivered in a durable buffer by an earlier run. They are already in the buffer, so they
+     * are sent as if just written, in the order they were first buffered
+     *
+     * @return the futures of the replayed events, in replay order
+     */
+    public List<CompletableFuture<CustomerResourceEvent>> replayRecoveredEvents() {
+        assertIsRunning();
+
+        List<CompletableFuture<CustomerResourceEvent>> replayedEvents = new ArrayList<>();
+        eventBuffer.takeRecoveredEvents().forEach((eventUUID, event) -> replayedEvents.add(sendBufferedEvent(event, eventUUID)));
+
+        return replayedEvents;
     }
 
     @Override
     public CompletableFuture<PagedResponse> getMatchedEvents(Map<QueryParameter, String> queryParameters) {
+        if (isNonBlocking()) {
+            return getNonBlockingClient().getMatchedEventsAsync(queryParameters);
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return executeWithRetryAsync(client, () -> () -> client.getMatchedEventsOnce(queryParameters));
+        }
+
         return CompletableFuture.supplyAsync( //
                 () -> alertNotificationClient.getMatchedEvents(queryParameters), //
                 executorService //
@@ -81,6 +204,15 @@ public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClie
 
     @Override
     public CompletableFuture<PagedResponse> getMatchedEvent(String eventId, Map<QueryParameter, String> queryParameters) {
+        if (isNonBlocking()) {
+            return getNonBlockingClient().getMatchedEventAsync(eventId, queryParameters);
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return executeWithRetryAsync(client, () -> () -> client.getMatchedEventOnce(eventId, queryParameters));
+        }
+
         return CompletableFuture.supplyAsync( //
                 () -> alertNotificationClient.getMatchedEvent(eventId, queryParameters), //
                 executorService //
@@ -89,6 +221,15 @@ public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClie
 
     @Override
     public CompletableFuture<PagedResponse> getUndeliveredEvents(Map<QueryParameter, String> queryParameters) {
+        if (isNonBlocking()) {
+            return getNonBlockingClient().getUndeliveredEventsAsync(queryParameters);
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return executeWithRetryAsync(client, () -> () -> client.getUndeliveredEventsOnce(queryParameters));
+        }
+
         return CompletableFuture.supplyAsync( //
                 () -> alertNotificationClient.getUndeliveredEvents(queryParameters), //
                 executorService //
@@ -97,6 +238,15 @@ public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClie
 
     @Override
     public CompletableFuture<PagedResponse> getUndeliveredEvent(String eventId, Map<QueryParameter, String> queryParameters) {
+        if (isNonBlocking()) {
+            return getNonBlockingClient().getUndeliveredEventAsync(eventId, queryParameters);
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return executeWithRetryAsync(client, () -> () -> client.getUndeliveredEventOnce(eventId, queryParameters));
+        }
+
         return CompletableFuture.supplyAsync( //
                 () -> alertNotificationClient.getUndeliveredEvent(eventId, queryParameters), //
                 executorService //
@@ -105,11 +255,270 @@ public class AlertNotificationAsyncClient implements IAlertNotificationAsyncClie
 
     @Override
     public void shutdown() {
+        isShutdown.set(true);
+        executorService.shutdownNow();
+    }
+
+    @Override
+    public ShutdownReport shutdown(Duration deadline) {
+        isShutdown.set(true);
+        long initiallyDeliveredEventsCount = deliveredEventsCount.get();
+
+        awaitPendingEvents(requireNonNull(deadline));
+
+        // Taken before the executor service is stopped, since the events it interrupts then fail concurrently
+        Map<UUID, PendingEvent> unfinishedEvents = new HashMap<>(pendingEvents);
+        Map<UUID, CustomerResourceEvent> failedEvents = new HashMap<>(failedEventsOnShutdown);
         executorService.shutdownNow();
-        orderedEventsExecutors.values().forEach(ExecutorService::shutdownNow);
+
+        List<CustomerResourceEvent> undeliveredEvents = new ArrayList<>();
+        failedEvents.forEach((eventUUID, event) -> {
+            if (!unfinishedEvents.containsKey(eventUUID)) {
+                undeliveredEvents.add(event);
+            }
+        });
+        unfinishedEvents.forEach((eventUUID, pendingEvent) -> undeliveredEvents.add(resolveEvent(eventUUID, pendingEvent)));
+
+        return new ShutdownReport(deliveredEventsCount.get() - initiallyDeliveredEventsCount, undeliveredEvents);
     }
 
-    private ExecutorService getEventSenderExecutor(String sourceEventId) {
-        return orderedEventSendersCount > 0 && !isBlank(sourceEventId) ? orderedEventsExecutors.get(valueOf(abs(sourceEventId.hashCode() % orderedEventSendersCount))) : executorService;
+    private void assertIsRunning() {
+        if (isShutdown.get()) {
+            throw new RejectedExecutionException();
+        }
+    }
+
+    // The executor service keeps running meanwhile, so that queued events, retries and ordered lanes can complete
+    private void awaitPendingEvents(Duration deadline) {
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+
+        while (!pendingEvents.isEmpty()) {
+            CompletableFuture<?>[] completions = pendingEvents.values().stream().map(pendingEvent -> pendingEvent.completion).toArray(CompletableFuture[]::new);
+            try {
+                CompletableFuture.allOf(completions).get(deadlineNanos - System.nanoTime(), NANOSECONDS);
+            } catch (ExecutionException | TimeoutException exception) {
+                return;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private CompletableFuture<CustomerResourceEvent> sendBufferedEvent(CustomerResourceEvent event, UUID eventUUID) {
+        String sourceEventId = event.getTags().get(SOURCE_EVENT_ID);
+        boolean isSentSerialized = !isOrderedEvent(sourceEventId) && isSendingSerializedEvents();
+        // An event kept off the heap by the buffer is referenced only by its identifier, so that it takes no heap while
+        // waiting to be sent, and is referenced again once picked up for sending
+        PendingEvent pendingEvent = new PendingEvent(isSentSerialized || eventBuffer.isKeepingEventsOffHeap() ? null : event);
+        pendingEvents.put(eventUUID, pendingEvent);
+
+        CompletableFuture<CustomerResourceEvent> sentEvent;
+        try {
+            sentEvent = isSentSerialized
+                    ? scheduleSerializedEvent(eventUUID, pendingEvent)
+                    : scheduleBufferedEvent(event, sourceEventId, eventUUID, pendingEvent);
+        } catch (RuntimeException exception) {
+            pendingEvents.remove(eventUUID);
+            eventBuffer.read(eventUUID); // Frees the capacity of an event which was not accepted for execution
+            acknowledge(eventUUID);
+            throw exception;
+        }
+
+        sentEvent.whenComplete((response, exception) -> completePendingEvent(eventUUID, pendingEvent, exception));
+
+        return sentEvent;
+    }
+
+    private void completePendingEvent(UUID eventUUID, PendingEvent pendingEvent, Throwable exception) {
+        pendingEvents.remove(eventUUID);
+
+        if (isNull(exception)) {
+            deliveredEventsCount.incrementAndGet();
+            acknowledge(eventUUID);
+        } else if (isShutdown.get()) {
+            // Left unacknowledged, so that a durable buffer sends it again once opened next
+            CustomerResourceEvent failedEvent = resolveEvent(eventUUID, pendingEvent);
+            if (!isNull(failedEvent)) {
+                failedEventsOnShutdown.put(eventUUID, failedEvent);
+            }
+        } else {
+            acknowledge(eventUUID);
+        }
+
+        pendingEvent.completion.complete(null);
+    }
+
+    // Once the outcome of an event is reported to its sender, a durable buffer no longer needs to recover it
+    private void acknowledge(UUID eventUUID) {
+        try {
+            eventBuffer.acknowledge(eventUUID);
+        } catch (RuntimeException exception) {
+            // The event stays in the durable buffer, which sends it again once opened next rather than losing it
+        }
+    }
+
+    private CompletableFuture<CustomerResourceEvent> scheduleBufferedEvent(CustomerResourceEvent event, String sourceEventId, UUID eventUUID,
+                                                                          PendingEvent pendingEvent) {
+        if (isOrderedEvent(sourceEventId)) {
+            // A lane rejected by the executor fails its events without picking them up, so they free their place here
+            return orderedEventsExecutor.submit(sourceEventId, () -> sendOrderedEvent(pickUp(eventUUID, pendingEvent)))
+                    .whenComplete((response, exception) -> {
+                        if (exception instanceof RejectedExecutionException && !isShutdown.get()) {
+                            eventBuffer.read(eventUUID);
+                        }
+                    });
+        }
+
+        if (isNonBlocking()) {
+            if (eventBuffer.isKeepingEventsOffHeap() && !isNull(concurrencyLimiter)) {
+                // Waits for its place within the limit in the buffer, as the limit bounds the events in flight then
+                return concurrencyLimiter.execute(() -> getNonBlockingClient().sendEventAsync(pickUp(eventUUID, pendingEvent)));
+            }
+
+            return limitConcurrency(() -> getNonBlockingClient().sendEventAsync(event)).whenComplete((response, exception) -> eventBuffer.read(eventUUID));
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return sendWithRetryAsync(client, () -> {
+                CustomerResourceEvent bufferedEvent = pickUp(eventUUID, pendingEvent);
+                return () -> client.sendEventOnce(bufferedEvent);
+            });
+        }
+
+        return limitConcurrency(() -> CompletableFuture.supplyAsync( //
+                () -> alertNotificationClient.sendEvent(pickUp(eventUUID, pendingEvent)), //
+                executorService //
+        ));
+    }
+
+    private CustomerResourceEvent pickUp(UUID eventUUID, PendingEvent pendingEvent) {
+        CustomerResourceEvent event = eventBuffer.read(eventUUID);
+        pendingEvent.event = event; // Kept while in flight, in case it has to be reported as undelivered
+
+        return event;
+    }
+
+    // Non-blocking sends keep their events in the buffer until completed, which bounds the events in flight
+    private boolean isSendingSerializedEvents() {
+        return eventBuffer.isSerializing() && alertNotificationClient instanceof AlertNotificationClient && !isNonBlocking();
+    }
+
+    private CompletableFuture<CustomerResourceEvent> scheduleSerializedEvent(UUID eventUUID, PendingEvent pendingEvent) {
+        AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+
+        return sendWithRetryAsync(client, () -> {
+            byte[] serializedEvent = eventBuffer.readSerialized(eventUUID);
+            pendingEvent.serializedEvent = serializedEvent; // Kept while in flight, in case it has to be reported as undelivered
+
+            return () -> client.sendSerializedEventOnce(serializedEvent);
+        });
+    }
+
+    /**
+     * The first attempt runs on the executor thread which picks up the request, and each retry is scheduled by the retry
+     * policy and then submitted to the executor again, so that no executor thread is held while backing off. A policy
+     * which does not schedule its retries runs all of them on the executor thread instead
+     *
+     * @param attemptFactory prepares the request on the executor thread, e.g. by taking its event out of the buffer,
+     *                       and returns a single attempt of it
+     */
+    private <T> CompletableFuture<T> executeWithRetryAsync(AlertNotificationClient client, Supplier<Supplier<T>> attemptFactory) {
+        if (!isRetryingAsynchronously(client)) {
+            return CompletableFuture.supplyAsync(() -> client.getRetryPolicy().executeWithRetry(attemptFactory.get()), executorService);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Supplier<T> attempt = attemptFactory.get();
+            AtomicBoolean isFirstAttempt = new AtomicBoolean(true);
+
+            return client.getRetryPolicy().executeWithRetryAsync(() -> isFirstAttempt.getAndSet(false) //
+                    ? CompletableFuture.completedFuture(attempt.get()) //
+                    : CompletableFuture.supplyAsync(attempt, executorService));
+        }, executorService).thenCompose(identity());
+    }
+
+    private <T> CompletableFuture<T> sendWithRetryAsync(AlertNotificationClient client, Supplier<Supplier<T>> attemptFactory) {
+        if (isNull(concurrencyLimiter)) {
+            return executeWithRetryAsync(client, attemptFactory);
+        }
+
+        if (!isRetryingAsynchronously(client)) {
+            return concurrencyLimiter.execute(() -> executeWithRetryAsync(client, attemptFactory));
+        }
+
+        // Each attempt takes its own place within the limit, so that none is held while backing off, and the event is taken
+        // out of the buffer only once its first attempt is let through
+        AtomicReference<Supplier<T>> attempt = new AtomicReference<>();
+        CompletableFuture<T> firstAttempt = concurrencyLimiter.execute(() -> CompletableFuture.supplyAsync(() -> {
+            attempt.set(attemptFactory.get());
+            return attempt.get().get();
+        }, executorService));
+        AtomicBoolean isFirstAttempt = new AtomicBoolean(true);
+
+        // An event which could not even be prepared is failed again by its first attempt, rather than being sent
+        return client.getRetryPolicy().executeWithRetryAsync(() -> isFirstAttempt.getAndSet(false) || isNull(attempt.get()) //
+                ? firstAttempt //
+                : concurrencyLimiter.execute(() -> CompletableFuture.supplyAsync(attempt.get(), executorService)));
+    }
+
+    private static boolean isRetryingAsynchronously(AlertNotificationClient client) {
+        IRetryPolicy retryPolicy = client.getRetryPolicy();
+
+        return isNull(retryPolicy) || IS_RETRYING_ASYNCHRONOUSLY.get(retryPolicy.getClass());
+    }
+
+    private <T> CompletableFuture<T> limitConcurrency(Supplier<CompletableFuture<T>> request) {
+        return isNull(concurrencyLimiter) ? request.get() : concurrencyLimiter.execute(request);
+    }
+
+    private CustomerResourceEvent resolveEvent(UUID eventUUID, PendingEvent pendingEvent) {
+        if (!isNull(pendingEvent.event)) {
+            return pendingEvent.event;
+        }
+
+        byte[] serializedEvent = pendingEvent.serializedEvent;
+        if (!isNull(serializedEvent)) {
+            return fromJsonString(new String(serializedEvent, UTF_8), CustomerResourceEvent.class);
+        }
+
+        // The event was never picked up for sending, and will not be any more
+        return eventBuffer.read(eventUUID);
+    }
+
+    private AlertNotificationClient getNonBlockingClient() {
+        return (AlertNotificationClient) alertNotificationClient;
+    }
+
+    private boolean isOrderedEvent(String sourceEventId) {
+        return orderedEventSendersCount > 0 && !isBlank(sourceEventId);
+    }
+
+    // The lane of the event source is parked until the event is sent, and is not blocked while waiting for a retry
+    private CompletableFuture<CustomerResourceEvent> sendOrderedEvent(CustomerResourceEvent event) {
+        if (isNonBlocking()) {
+            return limitConcurrency(() -> getNonBlockingClient().sendEventAsync(event));
+        }
+
+        if (alertNotificationClient instanceof AlertNotificationClient && isRetryingAsynchronously((AlertNotificationClient) alertNotificationClient)) {
+            AlertNotificationClient client = (AlertNotificationClient) alertNotificationClient;
+            return client.getRetryPolicy().executeWithRetryAsync(
+                    () -> limitConcurrency(() -> CompletableFuture.supplyAsync(() -> client.sendEventOnce(event), executorService)));
+        }
+
+        return limitConcurrency(() -> CompletableFuture.supplyAsync(() -> alertNotificationClient.sendEvent(event), executorService));
+    }
+
+    private static class PendingEvent {
+
+        private volatile CustomerResourceEvent event;
+        private volatile byte[] serializedEvent;
+        // Completed once the outcome of the event is accounted for, unlike the sent event whose callbacks run in no particular order
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private PendingEvent(CustomerResourceEvent event) {
+            this.event = event;
+        }
     }
 }
@@ -1,6 +1,8 @@
 package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.IAlertNotificationClient;
+import com.sap.cloud.alert.notification.client.IHttpRequestBody;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
 import com.sap.cloud.alert.notification.client.QueryParameter;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
@@ -8,9 +10,9 @@ import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 import com.sap.cloud.alert.notification.client.model.PagedResponse;
 import org.apache.http.client.HttpClient;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.*;
-import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.fromJsonString;
 import static java.util.Objects.requireNonNull;
 
 public class AlertNotificationClient extends AbstractClient implements IAlertNotificationClient {
@@ -69,6 +71,22 @@ public class AlertNotificationClient extends AbstractClient implements IAlertNot
         this.serviceRegion = requireNonNull(serviceRegion);
     }
 
+    public AlertNotificationClient(
+            IHttpTransport httpTransport,
+            IRetryPolicy retryPolicy,
+            ServiceRegion serviceRegion,
+            IAuthorizationHeader authorizationHeader,
+            Long invalidationTime,
+            DestinationCredentialsProvider destinationCredentialsProvider
+    ) {
+        super(httpTransport, authorizationHeader, invalidationTime, destinationCredentialsProvider);
+
+        this.httpClient = null;
+        this.retryPolicy = requireNonNull(retryPolicy);
+        this.serviceRegion = requireNonNull(serviceRegion);
+        this.authorizationHeader = authorizationHeader;
+    }
+
     public HttpClient getHttpClient() {
         return httpClient;
     }
@@ -85,28 +103,111 @@ public class AlertNotificationClient extends AbstractClient implements IAlertNot
         return authorizationHeader;
     }
 
+    /**
+     * Obtains the credentials and opens a pooled connection to the service region, so that the first event is not delayed by them
+     */
+    public void warmUp() {
+        warmUp(1);
+    }
+
+    /**
+     * Obtains the credentials and opens up to the given number of pooled connections to the service region,
+     * so that the first events sent concurrently are not delayed by them
+     *
+     * @param connectionsCount the number of connections to open
+     */
+    public void warmUp(int connectionsCount) {
+        warmUp(buildProducerURI(serviceRegion), connectionsCount);
+    }
+
     @Override
     public CustomerResourceEvent sendEvent(CustomerResourceEvent event) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpPost(buildProducerURI(serviceRegion), toJsonString(event))), CUSTOMER_RESOURCE_EVENT_TYPE);
+        return retryPolicy.executeWithRetry(() -> sendEventOnce(event));
+    }
+
+    CustomerResourceEvent sendEventOnce(CustomerResourceEvent event) {
+        return executeHttpPost(buildProducerURI(serviceRegion), event, CUSTOMER_RESOURCE_EVENT_TYPE);
+    }
+
+    /**
+     * Send an event which is already serialized, e.g. by a buffer keeping its events serialized
+     *
+     * @param serializedEvent the UTF-8 encoded JSON of the event
+     * @return the event as stored by the service
+     */
+    public CustomerResourceEvent sendSerializedEvent(byte[] serializedEvent) {
+        requireNonNull(serializedEvent);
+
+        return retryPolicy.executeWithRetry(() -> sendSerializedEventOnce(serializedEvent));
+    }
+
+    CustomerResourceEvent sendSerializedEventOnce(byte[] serializedEvent) {
+        return executeHttpPost(buildProducerURI(serviceRegion), toRequestBody(serializedEvent), CUSTOMER_RESOURCE_EVENT_TYPE);
     }
 
     @Override
     public PagedResponse getMatchedEvents(Map<QueryParameter, String> queryFilter) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpGet(buildMatchedEventsURI(serviceRegion, queryFilter))), PAGED_RESPONSE_TYPE);
+        return retryPolicy.executeWithRetry(() -> getMatchedEventsOnce(queryFilter));
+    }
+
+    PagedResponse getMatchedEventsOnce(Map<QueryParameter, String> queryFilter) {
+        return executeHttpGet(buildMatchedEventsURI(serviceRegion, queryFilter), PAGED_RESPONSE_TYPE);
     }
 
     @Override
     public PagedResponse getMatchedEvent(String eventId, Map<QueryParameter, String> queryFilter) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpGet(buildMatchedEventsURI(serviceRegion, eventId, queryFilter))), PAGED_RESPONSE_TYPE);
+        return retryPolicy.executeWithRetry(() -> getMatchedEventOnce(eventId, queryFilter));
+    }
+
+    PagedResponse getMatchedEventOnce(String eventId, Map<QueryParameter, String> queryFilter) {
+        return executeHttpGet(buildMatchedEventsURI(serviceRegion, eventId, queryFilter), PAGED_RESPONSE_TYPE);
     }
 
     @Override
     public PagedResponse getUndeliveredEvents(Map<QueryParameter, String> queryFilter) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpGet(buildUndeliveredEventsURI(serviceRegion, queryFilter))), PAGED_RESPONSE_TYPE);
+        return retryPolicy.executeWithRetry(() -> getUndeliveredEventsOnce(queryFilter));
+    }
+
+    PagedResponse getUndeliveredEventsOnce(Map<QueryParameter, String> queryFilter) {
+        return executeHttpGet(buildUndeliveredEventsURI(serviceRegion, queryFilter), PAGED_RESPONSE_TYPE);
     }
 
     @Override
     public PagedResponse getUndeliveredEvent(String eventId, Map<QueryParameter, String> queryFilter) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpGet(buildUndeliveredEventsURI(serviceRegion, eventId, queryFilter))), PAGED_RESPONSE_TYPE);
+        return retryPolicy.executeWithRetry(() -> getUndeliveredEventOnce(eventId, queryFilter));
+    }
+
+    PagedResponse getUndeliveredEventOnce(String eventId, Map<QueryParameter, String> queryFilter) {
+        return executeHttpGet(buildUndeliveredEventsURI(serviceRegion, eventId, queryFilter), PAGED_RESPONSE_TYPE);
+    }
+
+    public CompletableFuture<CustomerResourceEvent> sendEventAsync(CustomerResourceEvent event) {
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpPostAsync(buildProducerURI(serviceRegion), event, CUSTOMER_RESOURCE_EVENT_TYPE)));
+    }
+
+    public CompletableFuture<CustomerResourceEvent> sendSerializedEventAsync(byte[] serializedEvent) {
+        requireNonNull(serializedEvent);
+
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpPostAsync(buildProducerURI(serviceRegion), toRequestBody(serializedEvent), CUSTOMER_RESOURCE_EVENT_TYPE)));
+    }
+
+    public CompletableFuture<PagedResponse> getMatchedEventsAsync(Map<QueryParameter, String> queryFilter) {
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpGetAsync(buildMatchedEventsURI(serviceRegion, queryFilter), PAGED_RESPONSE_TYPE)));
+    }
+
+    public CompletableFuture<PagedResponse> getMatchedEventAsync(String eventId, Map<QueryParameter, String> queryFilter) {
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpGetAsync(buildMatchedEventsURI(serviceRegion, eventId, queryFilter), PAGED_RESPONSE_TYPE)));
+    }
+
+    public CompletableFuture<PagedResponse> getUndeliveredEventsAsync(Map<QueryParameter, String> queryFilter) {
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpGetAsync(buildUndeliveredEventsURI(serviceRegion, queryFilter), PAGED_RESPONSE_TYPE)));
+    }
+
+    public CompletableFuture<PagedResponse> getUndeliveredEventAsync(String eventId, Map<QueryParameter, String> queryFilter) {
+        return retryPolicy.executeWithRetryAsync(retriedOnExecutor(() -> executeHttpGetAsync(buildUndeliveredEventsURI(serviceRegion, eventId, queryFilter), PAGED_RESPONSE_TYPE)));
+    }
+
+    private static IHttpRequestBody toRequestBody(byte[] serializedEvent) {
+        return outputStream -> outputStream.write(serializedEvent);
     }
 }
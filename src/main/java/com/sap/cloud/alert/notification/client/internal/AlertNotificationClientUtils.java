@@ -3,9 +3,10 @@ package com.sap.cloud.alert.notification.client.internal;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
 import com.sap.cloud.alert.notification.client.QueryParameter;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
 import com.sap.cloud.alert.notification.client.exceptions.AuthorizationException;
@@ -23,15 +24,24 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.util.EntityUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
 import static java.util.Collections.*;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.collections4.IterableUtils.chainedIterable;
@@ -56,6 +66,7 @@ class AlertNotificationClientUtils {
 
     static final String X_VCAP_REQUEST_ID_HEADER = "x-vcap-request-id";
     private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper().setSerializationInclusion(NON_NULL);
+    private static final ObjectWriter JSON_OBJECT_WRITER = JSON_OBJECT_MAPPER.writer().without(AUTO_CLOSE_TARGET);
     private static final List<String> PRODUCER_PATH_SEGMENTS = unmodifiableList(asList("producer", "v1", "resource-events"));
     private static final List<String> MATCHED_EVENTS_PATH_SEGMENTS = unmodifiableList(asList("consumer", "v1", "matched-events"));
     private static final List<String> UNDELIVERED_EVENTS_PATH_SEGMENTS = unmodifiableList(asList("consumer", "v1", "undelivered-events"));
@@ -76,20 +87,16 @@ class AlertNotificationClientUtils {
         }
     }
 
-    static <T> T fromJsonString(String valueAsString, TypeReference<T> typeReference) {
-        try {
-            return JSON_OBJECT_MAPPER.readValue(valueAsString, typeReference);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+    static <T> T fromJsonStream(InputStream inputStream, Class<T> clazz) throws IOException {
+        return JSON_OBJECT_MAPPER.readValue(inputStream, clazz);
     }
 
-    static <T> String toJsonString(T value) {
-        try {
-            return JSON_OBJECT_MAPPER.writeValueAsString(value);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
+    static <T> T fromJsonStream(InputStream inputStream, TypeReference<T> typeReference) throws IOException {
+        return JSON_OBJECT_MAPPER.readValue(inputStream, typeReference);
+    }
+
+    static <T> void writeJson(OutputStream outputStream, T value) throws IOException {
+        JSON_OBJECT_WRITER.writeValue(outputStream, value);
     }
 
     static void consumeQuietly(HttpResponse response) {
@@ -98,6 +105,16 @@ class AlertNotificationClientUtils {
         }
     }
 
+    static void closeQuietly(Object resource) {
+        if (resource instanceof Closeable) {
+            try {
+                ((Closeable) resource).close();
+            } catch (IOException ignored) {
+                // Nothing left to release
+            }
+        }
+    }
+
     static void assertSuccessfulResponse(HttpResponse response) {
         int code = response.getStatusLine().getStatusCode();
 
@@ -139,6 +156,35 @@ class AlertNotificationClientUtils {
         }
     }
 
+    static String extractMessage(HttpTransportResponse response) {
+        try {
+            return fromJsonString(new String(response.getBody(), UTF_8), ErrorHttpResponse.class).getMessage();
+        } catch (Exception e) {
+            return response.getReasonPhrase();
+        }
+    }
+
+    /**
+     * @param retryAfter the value of a Retry-After header, either a number of seconds or an HTTP date
+     * @return the time to wait, zero if the date has passed, or null if the header is missing or malformed
+     */
+    static Duration parseRetryAfter(String retryAfter) {
+        if (isNull(retryAfter)) {
+            return null;
+        }
+
+        try {
+            return Duration.ofSeconds(Math.max(0L, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException exception) {
+            try {
+                Duration untilDate = Duration.between(Instant.now(), RFC_1123_DATE_TIME.parse(retryAfter.trim(), Instant::from));
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException dateException) {
+                return null;
+            }
+        }
+    }
+
     public static URI buildDestinationServiceURI(URI serviceURI, String destinationName) {
         return buildURI(
                 serviceURI,
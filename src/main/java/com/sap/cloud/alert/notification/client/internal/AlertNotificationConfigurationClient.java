@@ -1,6 +1,7 @@
 package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.IAlertNotificationConfigurationClient;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
 import com.sap.cloud.alert.notification.client.model.configuration.*;
@@ -82,6 +83,25 @@ public final class AlertNotificationConfigurationClient extends AbstractClient i
         this.subscriptionBaseUri = buildSubscriptionsUri(serviceRegion, emptyMap());
     }
 
+    public AlertNotificationConfigurationClient(
+            IHttpTransport httpTransport,
+            IRetryPolicy retryPolicy,
+            ServiceRegion serviceRegion,
+            IAuthorizationHeader authorizationHeader,
+            Long invalidationTime,
+            DestinationCredentialsProvider destinationCredentialsProvider
+    ) {
+        super(httpTransport, authorizationHeader, invalidationTime, destinationCredentialsProvider);
+
+        this.httpClient = null;
+        this.retryPolicy = requireNonNull(retryPolicy);
+        this.serviceRegion = requireNonNull(serviceRegion);
+        this.authorizationHeader = authorizationHeader;
+        this.actionBaseUri = buildActionsUri(serviceRegion, emptyMap());
+        this.conditionBaseUri = buildConditionsUri(serviceRegion, emptyMap());
+        this.subscriptionBaseUri = buildSubscriptionsUri(serviceRegion, emptyMap());
+    }
+
     public HttpClient getHttpClient() {
         return httpClient;
     }
@@ -98,24 +118,41 @@ public final class AlertNotificationConfigurationClient extends AbstractClient i
         return authorizationHeader;
     }
 
+    /**
+     * Obtains the credentials and opens a pooled connection to the service region, so that the first request is not delayed by them
+     */
+    public void warmUp() {
+        warmUp(1);
+    }
+
+    /**
+     * Obtains the credentials and opens up to the given number of pooled connections to the service region,
+     * so that the first requests sent concurrently are not delayed by them
+     *
+     * @param connectionsCount the number of connections to open
+     */
+    public void warmUp(int connectionsCount) {
+        warmUp(buildConfigurationManagementUri(serviceRegion), connectionsCount);
+    }
+
     @Override
     public ConfigurationResponse<Condition> getConditions(Map<ConfigurationQueryParameter, String> queryParameters) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildConditionsUri(serviceRegion, queryParameters))), CONDITION_CONFIGURATION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildConditionsUri(serviceRegion, queryParameters), CONDITION_CONFIGURATION_TYPE));
     }
 
     @Override
     public Condition createCondition(Condition condition) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPost(conditionBaseUri, toJsonString(condition))), CONDITION_TYPE);
+        return executeWithRetry(() -> executeHttpPost(conditionBaseUri, condition, CONDITION_TYPE));
     }
 
     @Override
     public Condition getCondition(String conditionName) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildConditionUri(serviceRegion, conditionName))), CONDITION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildConditionUri(serviceRegion, conditionName), CONDITION_TYPE));
     }
 
     @Override
     public Condition updateCondition(Condition condition) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPut(buildConditionUri(serviceRegion, condition.getName()), toJsonString(condition))), CONDITION_TYPE);
+        return executeWithRetry(() -> executeHttpPut(buildConditionUri(serviceRegion, condition.getName()), condition, CONDITION_TYPE));
     }
 
     @Override
@@ -125,22 +162,22 @@ public final class AlertNotificationConfigurationClient extends AbstractClient i
 
     @Override
     public ConfigurationResponse<Action> getActions(Map<ConfigurationQueryParameter, String> queryParameters) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildActionsUri(serviceRegion, queryParameters))), ACTION_CONFIGURATION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildActionsUri(serviceRegion, queryParameters), ACTION_CONFIGURATION_TYPE));
     }
 
     @Override
     public Action createAction(Action action) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPost(actionBaseUri, toJsonString(action))), ACTION_TYPE);
+        return executeWithRetry(() -> executeHttpPost(actionBaseUri, action, ACTION_TYPE));
     }
 
     @Override
     public Action getAction(String actionName) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildActionUri(serviceRegion, actionName))), ACTION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildActionUri(serviceRegion, actionName), ACTION_TYPE));
     }
 
     @Override
     public Action updateAction(Action action) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPut(buildActionUri(serviceRegion, action.getName()), toJsonString(action))), ACTION_TYPE);
+        return executeWithRetry(() -> executeHttpPut(buildActionUri(serviceRegion, action.getName()), action, ACTION_TYPE));
     }
 
     @Override
@@ -150,22 +187,22 @@ public final class AlertNotificationConfigurationClient extends AbstractClient i
 
     @Override
     public ConfigurationResponse<Subscription> getSubscriptions(Map<ConfigurationQueryParameter, String> queryParameters) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildSubscriptionsUri(serviceRegion, queryParameters))), SUBSCRIPTION_CONFIGURATION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildSubscriptionsUri(serviceRegion, queryParameters), SUBSCRIPTION_CONFIGURATION_TYPE));
     }
 
     @Override
     public Subscription createSubscription(Subscription subscription) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPost(subscriptionBaseUri, toJsonString(subscription))), SUBSCRIPTION_TYPE);
+        return executeWithRetry(() -> executeHttpPost(subscriptionBaseUri, subscription, SUBSCRIPTION_TYPE));
     }
 
     @Override
     public Subscription getSubscription(String subscriptionName) {
-        return fromJsonString(executeWithRetry(() -> executeHttpGet(buildSubscriptionUri(serviceRegion, subscriptionName))), SUBSCRIPTION_TYPE);
+        return executeWithRetry(() -> executeHttpGet(buildSubscriptionUri(serviceRegion, subscriptionName), SUBSCRIPTION_TYPE));
     }
 
     @Override
     public Subscription updateSubscription(Subscription subscription) {
-        return fromJsonString(executeWithRetry(() -> executeHttpPut(buildSubscriptionUri(serviceRegion, subscription.getName()), toJsonString(subscription))), SUBSCRIPTION_TYPE);
+        return executeWithRetry(() -> executeHttpPut(buildSubscriptionUri(serviceRegion, subscription.getName()), subscription, SUBSCRIPTION_TYPE));
     }
 
     @Override
@@ -175,15 +212,15 @@ public final class AlertNotificationConfigurationClient extends AbstractClient i
 
     @Override
     public Configuration importConfiguration(Configuration newConfiguration) {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpPost(buildConfigurationManagementUri(serviceRegion), toJsonString(newConfiguration))), CONFIGURATION_TYPE);
+        return retryPolicy.executeWithRetry(() -> executeHttpPost(buildConfigurationManagementUri(serviceRegion), newConfiguration, CONFIGURATION_TYPE));
     }
 
     @Override
     public Configuration exportConfiguration() {
-        return fromJsonString(retryPolicy.executeWithRetry(() -> executeHttpGet(buildConfigurationManagementUri(serviceRegion))), CONFIGURATION_TYPE);
+        return retryPolicy.executeWithRetry(() -> executeHttpGet(buildConfigurationManagementUri(serviceRegion), CONFIGURATION_TYPE));
     }
 
-    private String executeWithRetry(Supplier<String> supplier) {
+    private <T> T executeWithRetry(Supplier<T> supplier) {
        return retryPolicy.executeWithRetry(supplier);
     }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.closeQuietly;
+import static com.sap.cloud.alert.notification.client.internal.ApacheHttpAsyncTransport.awaitResponse;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.http.HttpHeaders.CONTENT_TYPE;
+
+public class ApacheHttp2Transport implements IHttpTransport {
+
+    private final CloseableHttpAsyncClient http2AsyncClient;
+
+    public ApacheHttp2Transport(CloseableHttpAsyncClient http2AsyncClient) {
+        this.http2AsyncClient = requireNonNull(http2AsyncClient);
+    }
+
+    public CloseableHttpAsyncClient getHttp2AsyncClient() {
+        return http2AsyncClient;
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        return awaitResponse(executeAsync(request));
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        CompletableFuture<HttpTransportResponse> result = new CompletableFuture<>();
+
+        http2AsyncClient.execute(toSimpleHttpRequest(request), new FutureCallback<SimpleHttpResponse>() {
+
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                result.complete(toTransportResponse(response));
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                result.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(http2AsyncClient);
+    }
+
+    private static SimpleHttpRequest toSimpleHttpRequest(HttpTransportRequest request) {
+        SimpleHttpRequest httpRequest = SimpleHttpRequest.create(request.getMethod(), request.getUri());
+        String contentType = null;
+
+        for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+            if (CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+                contentType = header.getValue();
+            } else {
+                httpRequest.setHeader(header.getKey(), header.getValue());
+            }
+        }
+
+        // A streamed body is written to memory on each call
+        byte[] body = request.getBody();
+        if (nonNull(body)) {
+            httpRequest.setBody(body, nonNull(contentType) ? ContentType.parse(contentType) : null);
+        }
+
+        return httpRequest;
+    }
+
+    private static HttpTransportResponse toTransportResponse(SimpleHttpResponse response) {
+        Map<String, String> headers = new HashMap<>();
+        for (Header header : response.getHeaders()) {
+            headers.putIfAbsent(header.getName(), header.getValue());
+        }
+
+        return new HttpTransportResponse(response.getCode(), response.getReasonPhrase(), headers, response.getBodyBytes());
+    }
+}
@@ -0,0 +1,88 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import org.apache.http.HttpResponse;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.nio.client.HttpAsyncClient;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.closeQuietly;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.consumeQuietly;
+import static com.sap.cloud.alert.notification.client.internal.ApacheHttpTransport.toHttpUriRequest;
+import static com.sap.cloud.alert.notification.client.internal.ApacheHttpTransport.toTransportResponse;
+import static java.util.Objects.requireNonNull;
+
+public class ApacheHttpAsyncTransport implements IHttpTransport {
+
+    private final HttpAsyncClient httpAsyncClient;
+
+    public ApacheHttpAsyncTransport(HttpAsyncClient httpAsyncClient) {
+        this.httpAsyncClient = requireNonNull(httpAsyncClient);
+    }
+
+    public HttpAsyncClient getHttpAsyncClient() {
+        return httpAsyncClient;
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        return awaitResponse(executeAsync(request));
+    }
+
+    static HttpTransportResponse awaitResponse(CompletableFuture<HttpTransportResponse> response) throws IOException {
+        try {
+            return response.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IOException(exception);
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof IOException ? (IOException) exception.getCause() : new IOException(exception.getCause());
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        CompletableFuture<HttpTransportResponse> result = new CompletableFuture<>();
+
+        httpAsyncClient.execute(toHttpUriRequest(request), new FutureCallback<HttpResponse>() {
+
+            @Override
+            public void completed(HttpResponse response) {
+                try {
+                    result.complete(toTransportResponse(response));
+                } catch (IOException exception) {
+                    result.completeExceptionally(exception);
+                } finally {
+                    consumeQuietly(response);
+                }
+            }
+
+            @Override
+            public void failed(Exception exception) {
+                result.completeExceptionally(exception);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        });
+
+        return result;
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(httpAsyncClient);
+    }
+}
@@ -0,0 +1,121 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpResponseHandler;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.EntityTemplate;
+import org.apache.http.util.EntityUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.closeQuietly;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.consumeQuietly;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNull;
+
+public class ApacheHttpTransport implements IHttpTransport {
+
+    private final HttpClient httpClient;
+
+    public ApacheHttpTransport(HttpClient httpClient) {
+        this.httpClient = requireNonNull(httpClient);
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        HttpResponse response = null;
+        try {
+            response = httpClient.execute(toHttpUriRequest(request));
+
+            return toTransportResponse(response);
+        } finally {
+            consumeQuietly(response);
+        }
+    }
+
+    @Override
+    public <T> T execute(HttpTransportRequest request, IHttpResponseHandler<T> responseHandler) throws IOException {
+        HttpResponse response = null;
+        try {
+            response = httpClient.execute(toHttpUriRequest(request));
+
+            return responseHandler.handle(toStreamedTransportResponse(response));
+        } finally {
+            consumeQuietly(response);
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(httpClient);
+    }
+
+    static HttpUriRequest toHttpUriRequest(HttpTransportRequest request) {
+        HttpRequestBase httpRequest = createHttpRequest(request);
+
+        request.getHeaders().forEach(httpRequest::setHeader);
+        if (nonNull(request.getRequestBody()) && httpRequest instanceof HttpEntityEnclosingRequest) {
+            ((HttpEntityEnclosingRequest) httpRequest).setEntity(new EntityTemplate(request.getRequestBody()::writeTo));
+        }
+
+        return httpRequest;
+    }
+
+    static HttpTransportResponse toTransportResponse(HttpResponse response) throws IOException {
+        return new HttpTransportResponse( //
+                response.getStatusLine().getStatusCode(), //
+                response.getStatusLine().getReasonPhrase(), //
+                toHeaders(response), //
+                isNull(response.getEntity()) ? null : EntityUtils.toByteArray(response.getEntity()) //
+        );
+    }
+
+    private static HttpTransportResponse toStreamedTransportResponse(HttpResponse response) throws IOException {
+        return HttpTransportResponse.withStreamedBody( //
+                response.getStatusLine().getStatusCode(), //
+                response.getStatusLine().getReasonPhrase(), //
+                toHeaders(response), //
+                isNull(response.getEntity()) ? new ByteArrayInputStream(new byte[0]) : response.getEntity().getContent() //
+        );
+    }
+
+    private static Map<String, String> toHeaders(HttpResponse response) {
+        Map<String, String> headers = new HashMap<>();
+        for (Header header : response.getAllHeaders()) {
+            headers.putIfAbsent(header.getName(), header.getValue());
+        }
+
+        return headers;
+    }
+
+    private static HttpRequestBase createHttpRequest(HttpTransportRequest request) {
+        switch (request.getMethod()) {
+            case HttpGet.METHOD_NAME:
+                return new HttpGet(request.getUri());
+            case HttpPost.METHOD_NAME:
+                return new HttpPost(request.getUri());
+            case HttpPut.METHOD_NAME:
+                return new HttpPut(request.getUri());
+            case HttpDelete.METHOD_NAME:
+                return new HttpDelete(request.getUri());
+            case HttpHead.METHOD_NAME:
+                return new HttpHead(request.getUri());
+            default:
+                throw new IllegalArgumentException("Unsupported request method '" + request.getMethod() + "'");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Starts a thread per task and lets at most a given number of tasks run at once. Tasks over the limit wait
+ * in their own thread for a permit instead of being queued or rejected, which is cheap with virtual threads.
+ */
+public class BoundedConcurrencyExecutorService extends AbstractExecutorService {
+
+    private static final String VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService threadPerTaskExecutor;
+
+    public BoundedConcurrencyExecutorService(ExecutorService threadPerTaskExecutor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+        }
+
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadPerTaskExecutor = requireNonNull(threadPerTaskExecutor);
+    }
+
+    /**
+     * Run tasks on virtual threads if the runtime supports them (Java 21+), otherwise on a fixed pool of as many daemon
+     * platform threads as tasks may run at once, queueing the tasks over the limit instead of blocking a thread for each
+     *
+     * @param maxConcurrency the maximum number of tasks running at once
+     * @return the executor service
+     */
+    public static BoundedConcurrencyExecutorService newVirtualThreadExecutor(int maxConcurrency) {
+        return new BoundedConcurrencyExecutorService(createThreadPerTaskExecutor(maxConcurrency), maxConcurrency);
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod(VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD);
+            return true;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        requireNonNull(task);
+
+        threadPerTaskExecutor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        threadPerTaskExecutor.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return threadPerTaskExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return threadPerTaskExecutor.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return threadPerTaskExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return threadPerTaskExecutor.awaitTermination(timeout, unit);
+    }
+
+    private static ExecutorService createThreadPerTaskExecutor(int maxConcurrency) {
+        // Looked up reflectively so the library keeps building and running on Java 8
+        try {
+            return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_PER_TASK_EXECUTOR_METHOD).invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            // Platform threads are too costly to park one per waiting task, so the pool never runs more tasks than permits
+            return Executors.newFixedThreadPool(maxConcurrency, new DaemonThreadFactory());
+        }
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadsCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "alert-notification-sender-" + threadsCount.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
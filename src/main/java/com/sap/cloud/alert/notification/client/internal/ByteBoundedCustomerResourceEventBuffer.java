@@ -0,0 +1,183 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+/**
+ * A buffer bounded by the estimated serialized size of its events as well as by their number, so that a burst of large
+ * events cannot take more heap than budgeted. The number of events still bounds the queue of the executor service
+ * the async client is built with.
+ */
+public class ByteBoundedCustomerResourceEventBuffer implements ICustomerResourceEventBuffer {
+
+    private final int capacity;
+    private final long capacityInBytes;
+    private final Map<UUID, BufferedEvent> eventBuffer;
+    // Fair, so the lock roughly orders the writers waiting for capacity, though a smaller event which fits first or a
+    // writer which does not wait can take freed capacity ahead of them
+    private final ReentrantLock lock;
+    private final Condition hasFreeCapacity;
+    private long sizeInBytes;
+
+    /**
+     * @param capacityInBytes the total estimated size of the events that could be kept simultaneously in the buffer
+     * @param capacity        the number of events that could be kept simultaneously in the buffer
+     */
+    public ByteBoundedCustomerResourceEventBuffer(long capacityInBytes, int capacity) {
+        if (capacityInBytes < 1L) {
+            throw new IllegalArgumentException("capacityInBytes must be positive: " + capacityInBytes);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.capacityInBytes = capacityInBytes;
+        this.eventBuffer = new HashMap<>();
+        this.lock = new ReentrantLock(true);
+        this.hasFreeCapacity = lock.newCondition();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    /**
+     * @return the number of events currently in the buffer
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return eventBuffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the total estimated size of the events currently in the buffer
+     */
+    public long getSizeInBytes() {
+        lock.lock();
+        try {
+            return sizeInBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public CustomerResourceEvent read(UUID eventUuid) {
+        lock.lock();
+        try {
+            BufferedEvent bufferedEvent = eventBuffer.remove(eventUuid);
+            if (isNull(bufferedEvent)) {
+                return null;
+            }
+
+            sizeInBytes -= bufferedEvent.size;
+            // Waiting writers need different sizes, so each of them checks whether its event fits now
+            hasFreeCapacity.signalAll();
+
+            return bufferedEvent.event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
+
+        return eventUuid;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        long eventSize = estimateSize(event);
+        long nanosLeft = timeout.toNanos();
+
+        lock.lock();
+        try {
+            while (!hasFreeCapacity(eventSize)) {
+                if (nanosLeft <= 0L) {
+                    throw new BufferOverflowException();
+                }
+
+                nanosLeft = hasFreeCapacity.awaitNanos(nanosLeft);
+            }
+
+            return put(event, eventSize);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        long eventSize = estimateSize(event);
+
+        lock.lock();
+        try {
+            return hasFreeCapacity(eventSize) ? put(event, eventSize) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long estimateSize(CustomerResourceEvent event) {
+        long eventSize = event.estimateSerializedSize();
+        if (eventSize > capacityInBytes) {
+            throw new IllegalArgumentException(format("Event of %d bytes exceeds the buffer capacity of %d bytes", eventSize, capacityInBytes));
+        }
+
+        return eventSize;
+    }
+
+    private boolean hasFreeCapacity(long eventSize) {
+        return eventBuffer.size() < capacity && sizeInBytes + eventSize <= capacityInBytes;
+    }
+
+    private UUID put(CustomerResourceEvent event, long eventSize) {
+        UUID eventUuid = UUID.randomUUID();
+
+        eventBuffer.put(eventUuid, new BufferedEvent(event, eventSize));
+        sizeInBytes += eventSize;
+
+        return eventUuid;
+    }
+
+    private static class BufferedEvent {
+
+        private final CustomerResourceEvent event;
+        private final long size;
+
+        private BufferedEvent(CustomerResourceEvent event, long size) {
+            this.event = event;
+            this.size = size;
+        }
+    }
+}
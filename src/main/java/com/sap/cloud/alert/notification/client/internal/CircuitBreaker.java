@@ -0,0 +1,95 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.CircuitBreakerState;
+
+import static com.sap.cloud.alert.notification.client.CircuitBreakerState.*;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks the outcome of the requests to a single circuit. A number of consecutive failures opens the circuit, so that
+ * requests fail right away instead of waiting for connection timeouts of a service which is down. Once the open
+ * duration elapses, a single trial request is let through, whose outcome closes or reopens the circuit.
+ */
+public class CircuitBreaker {
+
+    private final String name;
+    private final CircuitBreakerSettings settings;
+    private CircuitBreakerState state = CLOSED;
+    private int consecutiveFailuresCount;
+    private long openedAtNanos;
+    private boolean isTrialRequestInFlight;
+
+    public CircuitBreaker(String name, CircuitBreakerSettings settings) {
+        this.name = requireNonNull(name);
+        this.settings = requireNonNull(settings);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    /**
+     * @return whether a request could be sent, in which case its outcome has to be recorded
+     */
+    public boolean tryAcquirePermission() {
+        CircuitBreakerState previousState;
+        CircuitBreakerState newState;
+        boolean isPermitted;
+        synchronized (this) {
+            previousState = state;
+            if (state == OPEN && System.nanoTime() - openedAtNanos >= settings.getOpenDuration().toNanos()) {
+                state = HALF_OPEN;
+            }
+
+            isPermitted = state == CLOSED || (state == HALF_OPEN && !isTrialRequestInFlight);
+            if (state == HALF_OPEN && isPermitted) {
+                isTrialRequestInFlight = true;
+            }
+            newState = state;
+        }
+
+        notifyStateChange(previousState, newState);
+
+        return isPermitted;
+    }
+
+    public void onSuccess() {
+        CircuitBreakerState previousState;
+        synchronized (this) {
+            previousState = state;
+            consecutiveFailuresCount = 0;
+            isTrialRequestInFlight = false;
+            state = CLOSED;
+        }
+
+        notifyStateChange(previousState, CLOSED);
+    }
+
+    public void onFailure() {
+        CircuitBreakerState previousState;
+        CircuitBreakerState newState;
+        synchronized (this) {
+            previousState = state;
+            isTrialRequestInFlight = false;
+            // Failures of requests sent before the circuit opened do not prolong the open duration
+            if (state != OPEN && (state == HALF_OPEN || ++consecutiveFailuresCount >= settings.getFailureThreshold())) {
+                state = OPEN;
+                openedAtNanos = System.nanoTime();
+                consecutiveFailuresCount = 0;
+            }
+            newState = state;
+        }
+
+        notifyStateChange(previousState, newState);
+    }
+
+    private void notifyStateChange(CircuitBreakerState previousState, CircuitBreakerState newState) {
+        if (previousState != newState) {
+            settings.getListener().onStateChange(name, previousState, newState);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpResponseHandler;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import com.sap.cloud.alert.notification.client.exceptions.CircuitBreakerOpenException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.http.HttpStatus.SC_INTERNAL_SERVER_ERROR;
+
+/**
+ * Guards the wrapped transport with a circuit breaker per service region and endpoint family - producer, consumer,
+ * configuration - so that an outage of one of them does not slow down the requests to the others. The family is the
+ * path segment following the platform key, e.g. https://host/cf/producer/v1/resource-events. Requests to an
+ * open circuit fail with a {@link CircuitBreakerOpenException} without being sent. IO errors, 5xx and 429 responses
+ * count as failures, while any other response shows that the service is up.
+ */
+public class CircuitBreakerHttpTransport implements IHttpTransport {
+
+    private final IHttpTransport httpTransport;
+    private final CircuitBreakerSettings settings;
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerHttpTransport(IHttpTransport httpTransport, CircuitBreakerSettings settings) {
+        this.httpTransport = requireNonNull(httpTransport);
+        this.settings = requireNonNull(settings);
+    }
+
+    public IHttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    public CircuitBreakerSettings getSettings() {
+        return settings;
+    }
+
+    /**
+     * @param uri the URI of a request
+     * @return the circuit breaker guarding the requests to the endpoint family of the URI
+     */
+    public CircuitBreaker getCircuitBreaker(URI uri) {
+        return circuitBreakers.computeIfAbsent(getCircuitName(uri), circuitName -> new CircuitBreaker(circuitName, settings));
+    }
+
+    /**
+     * @return the circuit breakers of the endpoint families requested so far
+     */
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return unmodifiableCollection(circuitBreakers.values());
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        CircuitBreaker circuitBreaker = acquirePermission(request);
+
+        HttpTransportResponse response;
+        try {
+            response = httpTransport.execute(request);
+        } catch (IOException | RuntimeException exception) {
+            circuitBreaker.onFailure();
+            throw exception;
+        }
+
+        record(circuitBreaker, response);
+
+        return response;
+    }
+
+    @Override
+    public <T> T execute(HttpTransportRequest request, IHttpResponseHandler<T> responseHandler) throws IOException {
+        CircuitBreaker circuitBreaker = acquirePermission(request);
+        AtomicBoolean isRecorded = new AtomicBoolean();
+
+        try {
+            return httpTransport.execute(request, response -> {
+                record(circuitBreaker, response);
+                isRecorded.set(true);
+
+                return responseHandler.handle(response);
+            });
+        } catch (IOException | RuntimeException exception) {
+            if (!isRecorded.get()) {
+                circuitBreaker.onFailure();
+            }
+
+            throw exception;
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        CircuitBreaker circuitBreaker;
+        try {
+            circuitBreaker = acquirePermission(request);
+        } catch (CircuitBreakerOpenException exception) {
+            CompletableFuture<HttpTransportResponse> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(exception);
+            return failedExecution;
+        }
+
+        // A transport failing before it returns a future leaves no outcome to record, which would keep a trial request pending
+        CompletableFuture<HttpTransportResponse> execution;
+        try {
+            execution = httpTransport.executeAsync(request);
+        } catch (RuntimeException exception) {
+            circuitBreaker.onFailure();
+            throw exception;
+        }
+
+        return execution.whenComplete((response, exception) -> {
+            if (isNull(exception)) {
+                record(circuitBreaker, response);
+            } else {
+                circuitBreaker.onFailure();
+            }
+        });
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpTransport.isNonBlocking();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpTransport.close();
+    }
+
+    private CircuitBreaker acquirePermission(HttpTransportRequest request) {
+        CircuitBreaker circuitBreaker = getCircuitBreaker(request.getUri());
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new CircuitBreakerOpenException(circuitBreaker.getName());
+        }
+
+        return circuitBreaker;
+    }
+
+    private static void record(CircuitBreaker circuitBreaker, HttpTransportResponse response) {
+        if (response.getStatusCode() >= SC_INTERNAL_SERVER_ERROR || response.getStatusCode() == ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    // The request paths start with the platform key, followed by the endpoint family, e.g. https://host/cf/producer/v1/resource-events
+    // belongs to https://host/cf/producer
+    private static String getCircuitName(URI uri) {
+        String path = isNull(uri.getPath()) ? "" : uri.getPath();
+        int platformEnd = path.indexOf('/', 1);
+        int familyEnd = platformEnd < 0 ? -1 : path.indexOf('/', platformEnd + 1);
+
+        return uri.getScheme() + "://" + uri.getAuthority() + (familyEnd < 0 ? path : path.substring(0, familyEnd));
+    }
+}
@@ -0,0 +1,62 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICircuitBreakerListener;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public class CircuitBreakerSettings {
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30L);
+
+    private static final ICircuitBreakerListener NO_LISTENER = (circuitName, previousState, state) -> {
+    };
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final ICircuitBreakerListener listener;
+
+    public CircuitBreakerSettings() {
+        this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION);
+    }
+
+    public CircuitBreakerSettings(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, NO_LISTENER);
+    }
+
+    /**
+     * @param failureThreshold the number of consecutive failed requests which opens a circuit
+     * @param openDuration     how long an open circuit fails requests right away before letting a trial request through
+     * @param listener         notified of the state changes of each circuit
+     */
+    public CircuitBreakerSettings(int failureThreshold, Duration openDuration, ICircuitBreakerListener listener) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must not be negative: " + openDuration);
+        }
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.listener = requireNonNull(listener);
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    public ICircuitBreakerListener getListener() {
+        return listener;
+    }
+}
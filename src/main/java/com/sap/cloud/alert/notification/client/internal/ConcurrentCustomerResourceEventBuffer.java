@@ -0,0 +1,103 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A buffer for producers writing from many threads at once. Events are kept in a concurrent map, capacity is
+ * reserved without locking unless a writer waits for it, and identifiers are sequence numbers instead of random
+ * UUIDs, which all producers would otherwise draw from a single shared secure random generator.
+ */
+public class ConcurrentCustomerResourceEventBuffer implements ICustomerResourceEventBuffer {
+
+    private final int capacity;
+    // Fair, so waiting writers roughly acquire capacity in the order they started waiting - tryWrite still barges
+    // ahead of them
+    private final Semaphore freeCapacity;
+    private final Map<UUID, CustomerResourceEvent> eventBuffer;
+    private final long bufferId;
+    private final AtomicLong eventSequence;
+
+    public ConcurrentCustomerResourceEventBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.freeCapacity = new Semaphore(capacity, true);
+        this.eventBuffer = new ConcurrentHashMap<>(capacity);
+        this.bufferId = ThreadLocalRandom.current().nextLong();
+        this.eventSequence = new AtomicLong();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public CustomerResourceEvent read(UUID eventUuid) {
+        CustomerResourceEvent event = eventBuffer.remove(eventUuid);
+        if (!isNull(event)) {
+            freeCapacity.release();
+        }
+
+        return event;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
+
+        return eventUuid;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        requireNonNull(event);
+
+        try {
+            if (!freeCapacity.tryAcquire(timeout.toNanos(), NANOSECONDS)) {
+                throw new BufferOverflowException();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        }
+
+        return put(event);
+    }
+
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        requireNonNull(event);
+
+        return freeCapacity.tryAcquire() ? put(event) : null;
+    }
+
+    private UUID put(CustomerResourceEvent event) {
+        // The random buffer id keeps identifiers of different buffers apart
+        UUID eventUuid = new UUID(bufferId, eventSequence.incrementAndGet());
+
+        eventBuffer.put(eventUuid, event);
+
+        return eventUuid;
+    }
+}
@@ -0,0 +1,107 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public class ConnectionPoolSettings {
+
+    public static final int DEFAULT_MAX_TOTAL_CONNECTIONS = 50;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 20;
+    public static final Duration DEFAULT_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(2L);
+    public static final Duration DEFAULT_CONNECTION_TIME_TO_LIVE = Duration.ZERO;
+    public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofSeconds(30L);
+    public static final Duration DEFAULT_KEEP_ALIVE_DURATION = Duration.ofSeconds(30L);
+
+    private final int maxTotalConnections;
+    private final int maxConnectionsPerRoute;
+    private final Duration validateAfterInactivity;
+    private final Duration connectionTimeToLive;
+    private final Duration maxIdleTime;
+    private final Duration keepAliveDuration;
+
+    public ConnectionPoolSettings() {
+        this(DEFAULT_MAX_TOTAL_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE, DEFAULT_VALIDATE_AFTER_INACTIVITY, DEFAULT_CONNECTION_TIME_TO_LIVE);
+    }
+
+    /**
+     * @param maxTotalConnections     the maximum number of pooled connections across all routes
+     * @param maxConnectionsPerRoute  the maximum number of pooled connections to a single host, i.e. per service region
+     * @param validateAfterInactivity period of inactivity after which a pooled connection is re-validated before being leased
+     * @param connectionTimeToLive    maximum lifetime of a pooled connection, zero or negative for unlimited
+     */
+    public ConnectionPoolSettings(int maxTotalConnections, int maxConnectionsPerRoute, Duration validateAfterInactivity, Duration connectionTimeToLive) {
+        this(maxTotalConnections, maxConnectionsPerRoute, validateAfterInactivity, connectionTimeToLive, DEFAULT_MAX_IDLE_TIME, DEFAULT_KEEP_ALIVE_DURATION);
+    }
+
+    /**
+     * @param maxTotalConnections     the maximum number of pooled connections across all routes
+     * @param maxConnectionsPerRoute  the maximum number of pooled connections to a single host, i.e. per service region
+     * @param validateAfterInactivity period of inactivity after which a pooled connection is re-validated before being leased
+     * @param connectionTimeToLive    maximum lifetime of a pooled connection, zero or negative for unlimited
+     * @param maxIdleTime             period of inactivity after which a pooled connection is closed in the background, zero or negative to keep idle connections open
+     * @param keepAliveDuration       maximum period a connection is kept alive for reuse, shortened by a Keep-Alive header of the server,
+     *                                zero or negative to rely on the server's header only
+     */
+    public ConnectionPoolSettings(int maxTotalConnections, int maxConnectionsPerRoute, Duration validateAfterInactivity, Duration connectionTimeToLive,
+                                  Duration maxIdleTime, Duration keepAliveDuration) {
+        assertValidConnectionLimits(maxTotalConnections, maxConnectionsPerRoute);
+        assertValidValidateAfterInactivity(requireNonNull(validateAfterInactivity));
+
+        this.maxTotalConnections = maxTotalConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.validateAfterInactivity = requireNonNull(validateAfterInactivity);
+        this.connectionTimeToLive = requireNonNull(connectionTimeToLive);
+        this.maxIdleTime = requireNonNull(maxIdleTime);
+        this.keepAliveDuration = requireNonNull(keepAliveDuration);
+    }
+
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public Duration getValidateAfterInactivity() {
+        return validateAfterInactivity;
+    }
+
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public Duration getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    private static void assertValidConnectionLimits(int maxTotalConnections, int maxConnectionsPerRoute) {
+        if (maxTotalConnections < 1) {
+            throw new IllegalArgumentException("maxTotalConnections must be positive: " + maxTotalConnections);
+        }
+        if (maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerRoute must be positive: " + maxConnectionsPerRoute);
+        }
+        if (maxConnectionsPerRoute > maxTotalConnections) {
+            throw new IllegalArgumentException("maxConnectionsPerRoute must not exceed maxTotalConnections " + maxTotalConnections + ": " + maxConnectionsPerRoute);
+        }
+    }
+
+    // The connection manager takes the period in milliseconds as an int
+    private static void assertValidValidateAfterInactivity(Duration validateAfterInactivity) {
+        long validateAfterInactivityMillis = validateAfterInactivity.toMillis();
+        if (validateAfterInactivityMillis < Integer.MIN_VALUE || validateAfterInactivityMillis > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("validateAfterInactivity must be within " + Integer.MAX_VALUE + " milliseconds: " + validateAfterInactivity);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.IRetryPolicy;
+import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.RETRY_SCHEDULER;
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.getQuietly;
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.isNeverRetried;
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.recordSuccess;
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.sleepAtLeast;
+import static com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy.tryAcquireRetry;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.http.HttpStatus.*;
+
+/**
+ * A retry policy which retries only the failures that could pass on their own - IO errors and the 429, 502, 503 and 504
+ * responses - and rethrows all others at once. Before the n-th retry it waits a random time between zero and
+ * {@code min(maxBackoff, initialBackoff * 2^(n-1))}, so that clients failing together do not retry together. A wait
+ * requested by the service through a Retry-After header is honored instead, and a failure is not retried if that wait
+ * exceeds the maximal backoff. A {@link RetryBudget} could bound the retries of all executions of the policy as well.
+ */
+public class ExponentialBackoffRetryPolicy implements IRetryPolicy {
+
+    // Not defined by the HTTP components in use
+    static final int SC_TOO_MANY_REQUESTS = 429;
+
+    static final List<Integer> RETRYABLE_STATUS_CODES = unmodifiableList(asList(
+            SC_TOO_MANY_REQUESTS, //
+            SC_BAD_GATEWAY, //
+            SC_SERVICE_UNAVAILABLE, //
+            SC_GATEWAY_TIMEOUT //
+    ));
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final RetryBudget retryBudget;
+
+    public ExponentialBackoffRetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff) {
+        this(maxRetries, initialBackoff, maxBackoff, null);
+    }
+
+    /**
+     * @param maxRetries     the maximal number of retries of a single execution
+     * @param initialBackoff the backoff ceiling of the first retry
+     * @param maxBackoff     the backoff ceiling of any retry
+     * @param retryBudget    bounds the retries of all executions of the policy, null if they are not bounded
+     */
+    public ExponentialBackoffRetryPolicy(int maxRetries, Duration initialBackoff, Duration maxBackoff, RetryBudget retryBudget) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("maxRetries must not be negative: " + maxRetries);
+        }
+        if (initialBackoff.isNegative()) {
+            throw new IllegalArgumentException("initialBackoff must not be negative: " + initialBackoff);
+        }
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("maxBackoff must be at least initialBackoff " + initialBackoff + ": " + maxBackoff);
+        }
+
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = requireNonNull(maxBackoff);
+        this.retryBudget = retryBudget;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
+    @Override
+    public <T> T executeWithRetry(Supplier<T> supplier) {
+        for (int retry = 0; ; ++retry) {
+            try {
+                T result = supplier.get();
+                recordSuccess(retryBudget);
+                return result;
+            } catch (RuntimeException exception) {
+                Duration retryDelay = retry < maxRetries ? getRetryDelay(exception, retry) : null;
+                if (isNull(retryDelay) || !tryAcquireRetry(retryBudget)) {
+                    throw exception;
+                }
+
+                sleepAtLeast(retryDelay);
+            }
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<CompletableFuture<T>> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        executeWithRetryAsync(supplier, 0, result);
+
+        return result;
+    }
+
+    private <T> void executeWithRetryAsync(Supplier<CompletableFuture<T>> supplier, int retry, CompletableFuture<T> result) {
+        getQuietly(supplier).whenComplete((value, exception) -> {
+            if (isNull(exception)) {
+                recordSuccess(retryBudget);
+                result.complete(value);
+                return;
+            }
+
+            Throwable failure = exception instanceof CompletionException && !isNull(exception.getCause()) ? exception.getCause() : exception;
+            Duration retryDelay = retry < maxRetries ? getRetryDelay(failure, retry) : null;
+            if (isNull(retryDelay) || !tryAcquireRetry(retryBudget)) {
+                result.completeExceptionally(failure);
+            } else {
+                RETRY_SCHEDULER.schedule(() -> executeWithRetryAsync(supplier, retry + 1, result), retryDelay.toNanos(), NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * @param failure the failure of the last execution
+     * @param retry   the number of retries made so far
+     * @return the time to wait before retrying, or null if the failure should not be retried
+     */
+    Duration getRetryDelay(Throwable failure, int retry) {
+        if (isNeverRetried(failure)) {
+            return null;
+        }
+
+        if (failure instanceof ServerResponseException) {
+            ServerResponseException responseException = (ServerResponseException) failure;
+            if (!RETRYABLE_STATUS_CODES.contains(responseException.getStatusCode())) {
+                return null;
+            }
+
+            Duration retryAfter = responseException.getRetryAfter();
+            if (!isNull(retryAfter)) {
+                return retryAfter.compareTo(maxBackoff) <= 0 ? retryAfter : null;
+            }
+
+            return getJitteredBackoff(retry);
+        }
+
+        return isCausedByIOException(failure) ? getJitteredBackoff(retry) : null;
+    }
+
+    private Duration getJitteredBackoff(int retry) {
+        long maxBackoffNanos = maxBackoff.toNanos();
+        long initialBackoffNanos = initialBackoff.toNanos();
+        // Doubled for each retry until reaching the maximal backoff, without overflowing
+        int doublings = Math.min(retry, Long.SIZE - 2);
+        long backoffCeiling = initialBackoffNanos > maxBackoffNanos >> doublings ? maxBackoffNanos : initialBackoffNanos << doublings;
+
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(backoffCeiling + 1L));
+    }
+
+    private static boolean isCausedByIOException(Throwable failure) {
+        for (Throwable cause = failure; !isNull(cause); cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
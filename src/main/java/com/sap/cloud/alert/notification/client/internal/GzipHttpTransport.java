@@ -0,0 +1,146 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpResponseHandler;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.lang.String.CASE_INSENSITIVE_ORDER;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static org.apache.http.HttpHeaders.*;
+
+/**
+ * Compresses request bodies of at least a given size and decompresses gzip encoded responses of the wrapped transport.
+ * Request bodies are written to memory first, as their size has to be known before the headers are sent.
+ */
+public class GzipHttpTransport implements IHttpTransport {
+
+    public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+
+    static final String GZIP_ENCODING = "gzip";
+
+    private final IHttpTransport httpTransport;
+    private final int compressionThreshold;
+
+    /**
+     * @param httpTransport        the transport sending the compressed requests
+     * @param compressionThreshold the minimum size in bytes of a request body to be compressed - smaller bodies are
+     *                             sent as they are
+     */
+    public GzipHttpTransport(IHttpTransport httpTransport, int compressionThreshold) {
+        if (compressionThreshold < 1) {
+            throw new IllegalArgumentException("compressionThreshold must be positive: " + compressionThreshold);
+        }
+
+        this.httpTransport = requireNonNull(httpTransport);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public IHttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        return decompress(httpTransport.execute(compress(request)));
+    }
+
+    @Override
+    public <T> T execute(HttpTransportRequest request, IHttpResponseHandler<T> responseHandler) throws IOException {
+        return httpTransport.execute(compress(request), response -> responseHandler.handle(decompress(response)));
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        try {
+            return httpTransport.executeAsync(compress(request)).thenApply(response -> {
+                try {
+                    return decompress(response);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (IOException exception) {
+            CompletableFuture<HttpTransportResponse> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(exception);
+            return failedExecution;
+        }
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return httpTransport.isNonBlocking();
+    }
+
+    @Override
+    public void close() throws IOException {
+        httpTransport.close();
+    }
+
+    HttpTransportRequest compress(HttpTransportRequest request) throws IOException {
+        Map<String, String> headers = new LinkedHashMap<>(request.getHeaders());
+        headers.put(ACCEPT_ENCODING, GZIP_ENCODING);
+
+        byte[] body = request.getBody();
+        if (isNull(body) || body.length < compressionThreshold) {
+            return new HttpTransportRequest(request.getMethod(), request.getUri(), headers, body);
+        }
+
+        headers.put(CONTENT_ENCODING, GZIP_ENCODING);
+
+        return new HttpTransportRequest(request.getMethod(), request.getUri(), headers, gzip(body));
+    }
+
+    static HttpTransportResponse decompress(HttpTransportResponse response) throws IOException {
+        if (!GZIP_ENCODING.equalsIgnoreCase(response.getHeader(CONTENT_ENCODING))) {
+            return response;
+        }
+
+        Map<String, String> headers = new TreeMap<>(CASE_INSENSITIVE_ORDER);
+        headers.putAll(response.getHeaders());
+        headers.remove(CONTENT_ENCODING);
+        headers.remove(CONTENT_LENGTH);
+
+        // A response to a HEAD request, or one without content, may declare the encoding without carrying any gzip stream
+        PushbackInputStream bodyStream = new PushbackInputStream(response.getBodyStream());
+        int firstByte = bodyStream.read();
+        if (firstByte < 0) {
+            bodyStream.close();
+            return new HttpTransportResponse(response.getStatusCode(), response.getReasonPhrase(), headers, null);
+        }
+
+        bodyStream.unread(firstByte);
+
+        return HttpTransportResponse.withStreamedBody( //
+                response.getStatusCode(), //
+                response.getReasonPhrase(), //
+                headers, //
+                new GZIPInputStream(bodyStream) //
+        );
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressedBody = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedBody)) {
+            gzipOutputStream.write(body);
+        }
+
+        return compressedBody.toByteArray();
+    }
+}
@@ -1,27 +1,109 @@
 package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
+import org.apache.hc.client5.http.ssl.ClientTlsStrategyBuilder;
+import org.apache.hc.core5.http.nio.ssl.TlsStrategy;
 import org.apache.http.client.HttpClient;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.DefaultHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.client.HttpAsyncClient;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.ssl.SSLContexts;
 
 import javax.net.ssl.SSLContext;
 import java.security.KeyStore;
+import java.time.Duration;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.sap.cloud.alert.notification.client.internal.KeyStoreUtils.buildKeyStore;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class HttpClientFactory {
 
     private static final String EMPTY_STRING = "";
+    private static final String HTTP_SCHEME = "http";
+    private static final String HTTPS_SCHEME = "https";
+
+    private static final String IO_DISPATCHER_THREAD_NAME_FORMAT = "ans-io-dispatcher-%d";
+
+    public static final int NO_COMPRESSION = 0;
+
+    private final boolean isHttp2;
+    private final int compressionThreshold;
+    private final boolean isNonBlocking;
+    private final ConnectionPoolSettings connectionPoolSettings;
+    private final CircuitBreakerSettings circuitBreakerSettings;
+
     public HttpClientFactory() {
+        this(new ConnectionPoolSettings());
+    }
+
+    public HttpClientFactory(ConnectionPoolSettings connectionPoolSettings) {
+        this(builder().withConnectionPoolSettings(connectionPoolSettings));
+    }
+
+    private HttpClientFactory(Builder builder) {
+        if (builder.compressionThreshold < NO_COMPRESSION) {
+            throw new IllegalArgumentException("compressionThreshold must not be negative: " + builder.compressionThreshold);
+        }
+
+        this.isHttp2 = builder.isHttp2;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.isNonBlocking = builder.isNonBlocking;
+        this.connectionPoolSettings = requireNonNull(builder.connectionPoolSettings);
+        this.circuitBreakerSettings = builder.circuitBreakerSettings;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public ConnectionPoolSettings getConnectionPoolSettings() {
+        return connectionPoolSettings;
+    }
+
+    public boolean isNonBlocking() {
+        return isNonBlocking;
+    }
+
+    public boolean isHttp2() {
+        return isHttp2;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public CircuitBreakerSettings getCircuitBreakerSettings() {
+        return circuitBreakerSettings;
+    }
+
+    public HttpClient createHttpClient() {
+        return createHttpClient(SSLConnectionSocketFactory.getSocketFactory());
     }
 
     public HttpClient createHttpClient(KeyStoreDetails keyStoreDetails) {
-        return HttpClients.custom() //
-                .setSSLContext(buildSSLContext(buildKeyStore(keyStoreDetails), keyStoreDetails)) //
-                .setSSLHostnameVerifier(new DefaultHostnameVerifier()) //
-                .build();
+        return createHttpClient(buildSSLContext(buildKeyStore(keyStoreDetails), keyStoreDetails));
     }
 
     private SSLContext buildSSLContext(KeyStore keyStore, KeyStoreDetails keyStoreDetails) {
@@ -35,10 +117,7 @@ public class HttpClientFactory {
     }
 
     public HttpClient createHttpClient(String certificate, String privateKey) {
-        return HttpClients.custom() //
-                .setSSLContext(buildSSLContext(buildKeyStore(certificate, privateKey))) //
-                .setSSLHostnameVerifier(new DefaultHostnameVerifier()) //
-                .build();
+        return createHttpClient(buildSSLContext(buildKeyStore(certificate, privateKey)));
     }
 
     private SSLContext buildSSLContext(KeyStore keyStore) {
@@ -50,4 +129,210 @@ public class HttpClientFactory {
             throw new ClientRequestException("Failed to create ssl context", e);
         }
     }
+
+    private HttpClient createHttpClient(SSLContext sslContext) {
+        return createHttpClient(new SSLConnectionSocketFactory(sslContext, new DefaultHostnameVerifier()));
+    }
+
+    private HttpClient createHttpClient(SSLConnectionSocketFactory sslSocketFactory) {
+        HttpClientBuilder httpClientBuilder = HttpClients.custom() //
+                .setConnectionManager(buildConnectionManager(sslSocketFactory)) //
+                .setKeepAliveStrategy(buildKeepAliveStrategy(connectionPoolSettings.getKeepAliveDuration())) //
+                .evictExpiredConnections();
+
+        Duration maxIdleTime = connectionPoolSettings.getMaxIdleTime();
+        if (!maxIdleTime.isNegative() && !maxIdleTime.isZero()) {
+            httpClientBuilder.evictIdleConnections(maxIdleTime.toMillis(), MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    static ConnectionKeepAliveStrategy buildKeepAliveStrategy(Duration keepAliveDuration) {
+        long maxKeepAliveMillis = keepAliveDuration.toMillis();
+
+        return (response, context) -> {
+            long serverKeepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+
+            if (maxKeepAliveMillis <= 0) {
+                return serverKeepAliveMillis;
+            }
+
+            return serverKeepAliveMillis > 0 ? Math.min(serverKeepAliveMillis, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+    }
+
+    public HttpAsyncClient createHttpAsyncClient() {
+        return createHttpAsyncClient(SSLIOSessionStrategy.getDefaultStrategy());
+    }
+
+    public HttpAsyncClient createHttpAsyncClient(KeyStoreDetails keyStoreDetails) {
+        return createHttpAsyncClient(new SSLIOSessionStrategy(buildSSLContext(buildKeyStore(keyStoreDetails), keyStoreDetails), new DefaultHostnameVerifier()));
+    }
+
+    public HttpAsyncClient createHttpAsyncClient(String certificate, String privateKey) {
+        return createHttpAsyncClient(new SSLIOSessionStrategy(buildSSLContext(buildKeyStore(certificate, privateKey)), new DefaultHostnameVerifier()));
+    }
+
+    private HttpAsyncClient createHttpAsyncClient(SSLIOSessionStrategy sslSessionStrategy) {
+        ThreadFactory ioThreadFactory = createDaemonThreadFactory();
+        CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom() //
+                .setConnectionManager(buildAsyncConnectionManager(sslSessionStrategy, ioThreadFactory)) //
+                .setKeepAliveStrategy(buildKeepAliveStrategy(connectionPoolSettings.getKeepAliveDuration())) //
+                .setThreadFactory(ioThreadFactory) //
+                .build();
+
+        httpAsyncClient.start();
+
+        return httpAsyncClient;
+    }
+
+    public org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient createHttp2AsyncClient() {
+        return createHttp2AsyncClient(ClientTlsStrategyBuilder.create().build());
+    }
+
+    public org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient createHttp2AsyncClient(KeyStoreDetails keyStoreDetails) {
+        return createHttp2AsyncClient(ClientTlsStrategyBuilder.create().setSslContext(buildSSLContext(buildKeyStore(keyStoreDetails), keyStoreDetails)).build());
+    }
+
+    public org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient createHttp2AsyncClient(String certificate, String privateKey) {
+        return createHttp2AsyncClient(ClientTlsStrategyBuilder.create().setSslContext(buildSSLContext(buildKeyStore(certificate, privateKey))).build());
+    }
+
+    private org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient createHttp2AsyncClient(TlsStrategy tlsStrategy) {
+        org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient http2AsyncClient = H2AsyncClientBuilder.create() //
+                .setTlsStrategy(tlsStrategy) //
+                .setThreadFactory(createDaemonThreadFactory()) //
+                .disableAutomaticRetries() //
+                .build();
+
+        http2AsyncClient.start();
+
+        return http2AsyncClient;
+    }
+
+    private PoolingNHttpClientConnectionManager buildAsyncConnectionManager(SSLIOSessionStrategy sslSessionStrategy, ThreadFactory ioThreadFactory) {
+        Registry<SchemeIOSessionStrategy> sessionStrategyRegistry = RegistryBuilder.<SchemeIOSessionStrategy>create() //
+                .register(HTTP_SCHEME, NoopIOSessionStrategy.INSTANCE) //
+                .register(HTTPS_SCHEME, sslSessionStrategy) //
+                .build();
+
+        try {
+            PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager( //
+                    new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT, ioThreadFactory), //
+                    null, //
+                    sessionStrategyRegistry, //
+                    null, //
+                    null, //
+                    connectionPoolSettings.getConnectionTimeToLive().toMillis(), //
+                    MILLISECONDS //
+            );
+
+            connectionManager.setMaxTotal(connectionPoolSettings.getMaxTotalConnections());
+            connectionManager.setDefaultMaxPerRoute(connectionPoolSettings.getMaxConnectionsPerRoute());
+
+            return connectionManager;
+        } catch (IOReactorException e) {
+            throw new ClientRequestException("Failed to create I/O reactor", e);
+        }
+    }
+
+    private static ThreadFactory createDaemonThreadFactory() {
+        AtomicInteger threadsCount = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, String.format(IO_DISPATCHER_THREAD_NAME_FORMAT, threadsCount.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private PoolingHttpClientConnectionManager buildConnectionManager(SSLConnectionSocketFactory sslSocketFactory) {
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create() //
+                .register(HTTP_SCHEME, PlainConnectionSocketFactory.getSocketFactory()) //
+                .register(HTTPS_SCHEME, sslSocketFactory) //
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager( //
+                socketFactoryRegistry, //
+                null, //
+                null, //
+                null, //
+                connectionPoolSettings.getConnectionTimeToLive().toMillis(), //
+                MILLISECONDS //
+        );
+
+        connectionManager.setMaxTotal(connectionPoolSettings.getMaxTotalConnections());
+        connectionManager.setDefaultMaxPerRoute(connectionPoolSettings.getMaxConnectionsPerRoute());
+        // Within the int range, as checked by the connection pool settings
+        connectionManager.setValidateAfterInactivity((int) connectionPoolSettings.getValidateAfterInactivity().toMillis());
+
+        return connectionManager;
+    }
+
+    public static class Builder {
+
+        private ConnectionPoolSettings connectionPoolSettings = new ConnectionPoolSettings();
+        private boolean isNonBlocking;
+        private boolean isHttp2;
+        private int compressionThreshold = NO_COMPRESSION;
+        private CircuitBreakerSettings circuitBreakerSettings;
+
+        private Builder() {
+        }
+
+        /**
+         * @param connectionPoolSettings the connection pool configuration applied to every created client
+         * @return the builder
+         */
+        public Builder withConnectionPoolSettings(ConnectionPoolSettings connectionPoolSettings) {
+            this.connectionPoolSettings = requireNonNull(connectionPoolSettings);
+
+            return this;
+        }
+
+        /**
+         * @param isNonBlocking whether the clients built on the factory should additionally execute requests through a non-blocking HTTP client
+         * @return the builder
+         */
+        public Builder withNonBlocking(boolean isNonBlocking) {
+            this.isNonBlocking = isNonBlocking;
+
+            return this;
+        }
+
+        /**
+         * @param isHttp2 whether the clients built on the factory should execute requests through an HTTP/2 client multiplexing them over a single connection per host
+         * @return the builder
+         */
+        public Builder withHttp2(boolean isHttp2) {
+            this.isHttp2 = isHttp2;
+
+            return this;
+        }
+
+        /**
+         * @param compressionThreshold the minimum size in bytes of request bodies to be sent gzip compressed, {@link #NO_COMPRESSION} to send them as they are
+         * @return the builder
+         */
+        public Builder withCompressionThreshold(int compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+
+            return this;
+        }
+
+        /**
+         * @param circuitBreakerSettings the circuit breaker guarding the requests of the clients built on the factory, null for none
+         * @return the builder
+         */
+        public Builder withCircuitBreakerSettings(CircuitBreakerSettings circuitBreakerSettings) {
+            this.circuitBreakerSettings = circuitBreakerSettings;
+
+            return this;
+        }
+
+        public HttpClientFactory build() {
+            return new HttpClientFactory(this);
+        }
+    }
 }
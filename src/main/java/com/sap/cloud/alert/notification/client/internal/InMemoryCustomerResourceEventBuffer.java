@@ -2,20 +2,32 @@ package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
 import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
 
 public class InMemoryCustomerResourceEventBuffer implements ICustomerResourceEventBuffer {
 
     private final int capacity;
     private final Map<UUID, CustomerResourceEvent> eventBuffer;
+    // Fair, so the lock roughly orders the writers waiting for capacity - a writer which does not wait can still take
+    // freed capacity ahead of them
+    private final ReentrantLock lock;
+    private final Condition hasFreeCapacity;
 
     public InMemoryCustomerResourceEventBuffer(int capacity) {
         this.capacity = capacity;
         this.eventBuffer = new HashMap<>(capacity);
+        this.lock = new ReentrantLock(true);
+        this.hasFreeCapacity = lock.newCondition();
     }
 
     @Override
@@ -24,24 +36,68 @@ public class InMemoryCustomerResourceEventBuffer implements ICustomerResourceEve
     }
 
     @Override
-    public synchronized CustomerResourceEvent read(UUID eventUuid) {
-        return eventBuffer.remove(eventUuid);
+    public CustomerResourceEvent read(UUID eventUuid) {
+        lock.lock();
+        try {
+            CustomerResourceEvent event = eventBuffer.remove(eventUuid);
+            if (!isNull(event)) {
+                hasFreeCapacity.signal();
+            }
+
+            return event;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @Override
-    public synchronized UUID write(CustomerResourceEvent event) throws BufferOverflowException {
-        assertBufferHasFreeCapacity();
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
 
-        UUID eventUuid = UUID.randomUUID();
+        return eventUuid;
+    }
 
-        eventBuffer.put(eventUuid, event);
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        long nanosLeft = timeout.toNanos();
 
-        return eventUuid;
+        lock.lock();
+        try {
+            while (eventBuffer.size() >= capacity) {
+                if (nanosLeft <= 0L) {
+                    throw new BufferOverflowException();
+                }
+
+                nanosLeft = hasFreeCapacity.awaitNanos(nanosLeft);
+            }
+
+            return put(event);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        } finally {
+            lock.unlock();
+        }
     }
 
-    private void assertBufferHasFreeCapacity() {
-        if (eventBuffer.size() >= capacity) {
-            throw new BufferOverflowException();
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        lock.lock();
+        try {
+            return eventBuffer.size() < capacity ? put(event) : null;
+        } finally {
+            lock.unlock();
         }
     }
+
+    private UUID put(CustomerResourceEvent event) {
+        UUID eventUuid = UUID.randomUUID();
+
+        eventBuffer.put(eventUuid, event);
+
+        return eventUuid;
+    }
 }
@@ -0,0 +1,260 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Runs the tasks of each key one after another, in submission order, on a shared executor service. Every key with
+ * pending tasks has a lock-free lane occupying at most one thread of the executor, and the lane is discarded once
+ * drained, so idle keys hold no resources. A busy lane yields its thread after a batch of tasks to let other lanes run,
+ * and a lane waiting for an asynchronous task, e.g. a send parked until its next retry, holds no thread at all.
+ */
+public class KeyedSerialExecutor {
+
+    static final int MAX_TASKS_PER_TURN = 64;
+
+    private static final int RETIRED = -1;
+
+    private final ExecutorService executorService;
+    private final ConcurrentMap<Object, SerialLane> lanes;
+
+    public KeyedSerialExecutor(ExecutorService executorService) {
+        this.executorService = requireNonNull(executorService);
+        this.lanes = new ConcurrentHashMap<>();
+    }
+
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * @return the number of keys with tasks waiting or running
+     */
+    public int getActiveLanesCount() {
+        return lanes.size();
+    }
+
+    /**
+     * Run a task after all tasks previously submitted with the same key. If the executor service rejects the lane, its
+     * pending tasks are discarded and the futures of the asynchronous ones fail with the rejection, rather than run on
+     * the calling thread, which could be the I/O thread completing a parked task
+     *
+     * @param key  the key whose tasks are run in order
+     * @param task the task to be run
+     */
+    public void execute(Object key, Runnable task) {
+        requireNonNull(key);
+        requireNonNull(task);
+
+        while (true) {
+            SerialLane lane = lanes.computeIfAbsent(key, SerialLane::new);
+            if (lane.offer(task)) {
+                return;
+            }
+
+            lanes.remove(key, lane);
+        }
+    }
+
+    /**
+     * Start an asynchronous task after all tasks previously submitted with the same key. The following tasks of the key
+     * wait until the returned future completes, while the lane is parked without holding a thread of the executor service
+     *
+     * @param key       the key whose tasks are run in order
+     * @param asyncTask the task to be started, returning a future of its result
+     * @param <T>       the type of the result
+     * @return a future completed with the result of the task
+     */
+    public <T> CompletableFuture<T> submit(Object key, Supplier<CompletableFuture<T>> asyncTask) {
+        ParkingTask<T> parkingTask = new ParkingTask<>(requireNonNull(asyncTask));
+
+        execute(key, parkingTask);
+
+        return parkingTask.result;
+    }
+
+    private class SerialLane implements Runnable {
+
+        private final Object key;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        // Counts the offered tasks which have not completed yet, or RETIRED once the lane is drained and discarded
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+
+        private SerialLane(Object key) {
+            this.key = key;
+        }
+
+        private boolean offer(Runnable task) {
+            int currentPendingTasks;
+            do {
+                currentPendingTasks = pendingTasks.get();
+                if (currentPendingTasks == RETIRED) {
+                    return false;
+                }
+            } while (!pendingTasks.compareAndSet(currentPendingTasks, currentPendingTasks + 1));
+
+            tasks.add(task);
+
+            if (currentPendingTasks == 0) {
+                schedule();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void run() {
+            while (runTurn()) {
+                if (tryReschedule()) {
+                    return;
+                }
+            }
+        }
+
+        private void schedule() {
+            try {
+                executorService.execute(this);
+            } catch (RuntimeException exception) {
+                discardPendingTasks(exception);
+                throw exception;
+            }
+        }
+
+        private void resume() {
+            if (completeTask()) {
+                return;
+            }
+
+            try {
+                executorService.execute(this);
+            } catch (RuntimeException exception) {
+                discardPendingTasks(exception);
+            }
+        }
+
+        private boolean tryReschedule() {
+            try {
+                executorService.execute(this);
+                return true;
+            } catch (RuntimeException exception) {
+                return false;
+            }
+        }
+
+        private boolean runTurn() {
+            for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                Runnable task = nextTask();
+                runQuietly(task);
+
+                if (task instanceof ParkingTask && ((ParkingTask<?>) task).parkUntilDone(this::resume)) {
+                    return false;
+                }
+
+                if (completeTask()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private boolean completeTask() {
+            if (pendingTasks.decrementAndGet() == 0) {
+                retire();
+                return true;
+            }
+
+            return false;
+        }
+
+        private void discardPendingTasks(RuntimeException rejection) {
+            do {
+                Runnable task = nextTask();
+                if (task instanceof ParkingTask) {
+                    ((ParkingTask<?>) task).result.completeExceptionally(rejection);
+                }
+            } while (pendingTasks.decrementAndGet() > 0);
+
+            retire();
+        }
+
+        private void retire() {
+            // An offer which wins the race has scheduled the lane again, so it is kept
+            if (pendingTasks.compareAndSet(0, RETIRED)) {
+                lanes.remove(key, this);
+            }
+        }
+
+        private Runnable nextTask() {
+            Runnable task;
+            while ((task = tasks.poll()) == null) {
+                Thread.yield(); // The task has been counted, but its offer has not added it yet
+            }
+
+            return task;
+        }
+
+        private void runQuietly(Runnable task) {
+            try {
+                task.run();
+            } catch (RuntimeException exception) {
+                // A failing task must not stall the tasks queued behind it
+            }
+        }
+    }
+
+    private static class ParkingTask<T> implements Runnable {
+
+        private final Supplier<CompletableFuture<T>> asyncTask;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private CompletableFuture<T> execution;
+
+        private ParkingTask(Supplier<CompletableFuture<T>> asyncTask) {
+            this.asyncTask = asyncTask;
+        }
+
+        @Override
+        public void run() {
+            try {
+                execution = requireNonNull(asyncTask.get());
+            } catch (RuntimeException exception) {
+                execution = new CompletableFuture<>();
+                execution.completeExceptionally(exception);
+            }
+        }
+
+        private boolean parkUntilDone(Runnable resumption) {
+            if (execution.isDone()) {
+                completeResult();
+                return false;
+            }
+
+            execution.whenComplete((value, exception) -> {
+                completeResult();
+                resumption.run();
+            });
+
+            return true;
+        }
+
+        private void completeResult() {
+            execution.whenComplete((value, exception) -> {
+                if (isNull(exception)) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(exception instanceof CompletionException && !isNull(exception.getCause()) ? exception.getCause() : exception);
+                }
+            });
+        }
+    }
+}
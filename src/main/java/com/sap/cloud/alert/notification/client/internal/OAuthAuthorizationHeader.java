@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.net.URI;
 
 import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.buildCertOAuthServiceUri;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.closeQuietly;
 import static java.lang.String.format;
 import static java.lang.System.currentTimeMillis;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -105,7 +106,11 @@ public class OAuthAuthorizationHeader implements IAuthorizationHeader {
     }
 
     private void setSSLContext() {
+        HttpClient replacedHttpClient = httpClient;
         httpClient = httpClientFactory.createHttpClient(certificate, privateKey);
+
+        // Token requests are executed one at a time and their responses are consumed, so nothing is in flight anymore
+        closeQuietly(replacedHttpClient);
     }
 
     private void adjustHttpClient() {
@@ -0,0 +1,306 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.fromJsonStream;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.writeJson;
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A buffer keeping its events serialized outside of the heap, so that a burst of events does not fill the old
+ * generation with their object graphs. Each event is written as JSON into fixed-size blocks of direct memory slabs,
+ * chained through the first bytes of each block, and only its first block and length are kept on the heap. The async
+ * client sends such events as they are, without deserializing them. Slabs are allocated on demand up to the given
+ * size in bytes and are reused afterwards.
+ */
+public class OffHeapCustomerResourceEventBuffer implements ICustomerResourceEventBuffer {
+
+    public static final int BLOCK_SIZE = 256;
+
+    static final int MAX_SLAB_SIZE = 1024 * 1024;
+
+    private static final int NO_BLOCK = -1;
+    private static final int BLOCK_PAYLOAD_SIZE = BLOCK_SIZE - Integer.BYTES;
+
+    private final int capacity;
+    private final long capacityInBytes;
+    private final int blocksCount;
+    private final int blocksPerSlab;
+    private final ByteBuffer[] slabs;
+    private final Map<UUID, BufferedEvent> eventBuffer;
+    // Fair, so the lock roughly orders the writers waiting for capacity, though a smaller event which fits first or a
+    // writer which does not wait can take freed capacity ahead of them
+    private final ReentrantLock lock;
+    private final Condition hasFreeCapacity;
+    // The blocks released by read events, reused before the blocks which were never used
+    private int[] releasedBlocks;
+    private int releasedBlocksCount;
+    private int firstUnusedBlock;
+    private int usedBlocksCount;
+
+    /**
+     * @param capacity        the number of events that could be kept simultaneously in the buffer
+     * @param capacityInBytes the direct memory the serialized events could take, rounded down to whole blocks
+     */
+    public OffHeapCustomerResourceEventBuffer(int capacity, long capacityInBytes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (capacityInBytes < BLOCK_SIZE) {
+            throw new IllegalArgumentException("capacityInBytes must be at least a block of " + BLOCK_SIZE + " bytes: " + capacityInBytes);
+        }
+
+        this.capacity = capacity;
+        this.capacityInBytes = capacityInBytes;
+        this.blocksCount = (int) Math.min(capacityInBytes / BLOCK_SIZE, Integer.MAX_VALUE);
+        this.blocksPerSlab = Math.min(blocksCount, MAX_SLAB_SIZE / BLOCK_SIZE);
+        this.slabs = new ByteBuffer[(blocksCount + blocksPerSlab - 1) / blocksPerSlab];
+        this.eventBuffer = new HashMap<>();
+        this.lock = new ReentrantLock(true);
+        this.hasFreeCapacity = lock.newCondition();
+        this.releasedBlocks = new int[blocksPerSlab];
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getCapacityInBytes() {
+        return capacityInBytes;
+    }
+
+    /**
+     * @return the number of events currently in the buffer
+     */
+    public int getSize() {
+        lock.lock();
+        try {
+            return eventBuffer.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the direct memory taken by the blocks of the events currently in the buffer
+     */
+    public long getSizeInBytes() {
+        lock.lock();
+        try {
+            return (long) usedBlocksCount * BLOCK_SIZE;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isSerializing() {
+        return true;
+    }
+
+    @Override
+    public CustomerResourceEvent read(UUID eventUuid) {
+        byte[] serializedEvent = readSerialized(eventUuid);
+        if (isNull(serializedEvent)) {
+            return null;
+        }
+
+        try {
+            return fromJsonStream(new ByteArrayInputStream(serializedEvent), CustomerResourceEvent.class);
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        }
+    }
+
+    @Override
+    public byte[] readSerialized(UUID eventUuid) {
+        lock.lock();
+        try {
+            BufferedEvent bufferedEvent = eventBuffer.remove(eventUuid);
+            if (isNull(bufferedEvent)) {
+                return null;
+            }
+
+            byte[] serializedEvent = unload(bufferedEvent);
+            // Waiting writers need different numbers of blocks, so each of them checks whether its event fits now
+            hasFreeCapacity.signalAll();
+
+            return serializedEvent;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
+
+        return eventUuid;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        byte[] serializedEvent = serialize(event);
+        int eventBlocksCount = countBlocks(serializedEvent);
+        long nanosLeft = timeout.toNanos();
+
+        lock.lock();
+        try {
+            while (!hasFreeCapacity(eventBlocksCount)) {
+                if (nanosLeft <= 0L) {
+                    throw new BufferOverflowException();
+                }
+
+                nanosLeft = hasFreeCapacity.awaitNanos(nanosLeft);
+            }
+
+            return put(serializedEvent);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        byte[] serializedEvent = serialize(event);
+        int eventBlocksCount = countBlocks(serializedEvent);
+
+        lock.lock();
+        try {
+            return hasFreeCapacity(eventBlocksCount) ? put(serializedEvent) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static byte[] serialize(CustomerResourceEvent event) {
+        requireNonNull(event);
+
+        ByteArrayOutputStream serializedEvent = new ByteArrayOutputStream();
+        try {
+            writeJson(serializedEvent, event);
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        }
+
+        return serializedEvent.toByteArray();
+    }
+
+    private int countBlocks(byte[] serializedEvent) {
+        int eventBlocksCount = (serializedEvent.length + BLOCK_PAYLOAD_SIZE - 1) / BLOCK_PAYLOAD_SIZE;
+        if (eventBlocksCount > blocksCount) {
+            throw new IllegalArgumentException(format("Event of %d bytes exceeds the buffer capacity of %d bytes", serializedEvent.length, capacityInBytes));
+        }
+
+        return eventBlocksCount;
+    }
+
+    private boolean hasFreeCapacity(int eventBlocksCount) {
+        return eventBuffer.size() < capacity && usedBlocksCount + eventBlocksCount <= blocksCount;
+    }
+
+    private UUID put(byte[] serializedEvent) {
+        UUID eventUuid = UUID.randomUUID();
+
+        eventBuffer.put(eventUuid, new BufferedEvent(load(serializedEvent), serializedEvent.length));
+
+        return eventUuid;
+    }
+
+    private int load(byte[] serializedEvent) {
+        int firstBlock = allocateBlock();
+        int block = firstBlock;
+
+        for (int offset = 0; offset < serializedEvent.length; offset += BLOCK_PAYLOAD_SIZE) {
+            int nextBlock = offset + BLOCK_PAYLOAD_SIZE < serializedEvent.length ? allocateBlock() : NO_BLOCK;
+            ByteBuffer slab = slabs[block / blocksPerSlab];
+            int blockPosition = (block % blocksPerSlab) * BLOCK_SIZE;
+
+            slab.putInt(blockPosition, nextBlock);
+            slab.position(blockPosition + Integer.BYTES);
+            slab.put(serializedEvent, offset, Math.min(BLOCK_PAYLOAD_SIZE, serializedEvent.length - offset));
+            block = nextBlock;
+        }
+
+        return firstBlock;
+    }
+
+    private byte[] unload(BufferedEvent bufferedEvent) {
+        byte[] serializedEvent = new byte[bufferedEvent.length];
+        int block = bufferedEvent.firstBlock;
+
+        for (int offset = 0; offset < serializedEvent.length; offset += BLOCK_PAYLOAD_SIZE) {
+            ByteBuffer slab = slabs[block / blocksPerSlab];
+            int blockPosition = (block % blocksPerSlab) * BLOCK_SIZE;
+            int nextBlock = slab.getInt(blockPosition);
+
+            slab.position(blockPosition + Integer.BYTES);
+            slab.get(serializedEvent, offset, Math.min(BLOCK_PAYLOAD_SIZE, serializedEvent.length - offset));
+            releaseBlock(block);
+            block = nextBlock;
+        }
+
+        return serializedEvent;
+    }
+
+    private int allocateBlock() {
+        usedBlocksCount++;
+
+        if (releasedBlocksCount > 0) {
+            return releasedBlocks[--releasedBlocksCount];
+        }
+
+        int block = firstUnusedBlock++;
+        int slabIndex = block / blocksPerSlab;
+        if (isNull(slabs[slabIndex])) {
+            int slabBlocksCount = Math.min(blocksPerSlab, blocksCount - slabIndex * blocksPerSlab);
+            slabs[slabIndex] = ByteBuffer.allocateDirect(slabBlocksCount * BLOCK_SIZE);
+        }
+
+        return block;
+    }
+
+    private void releaseBlock(int block) {
+        usedBlocksCount--;
+
+        if (releasedBlocksCount == releasedBlocks.length) {
+            releasedBlocks = Arrays.copyOf(releasedBlocks, Math.min(2 * releasedBlocks.length, blocksCount));
+        }
+        releasedBlocks[releasedBlocksCount++] = block;
+    }
+
+    private static class BufferedEvent {
+
+        private final int firstBlock;
+        private final int length;
+
+        private BufferedEvent(int firstBlock, int length) {
+            this.firstBlock = firstBlock;
+            this.length = length;
+        }
+    }
+}
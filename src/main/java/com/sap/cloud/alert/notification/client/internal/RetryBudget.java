@@ -0,0 +1,81 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket bounding the retries of all requests sharing it to a ratio of their successful requests. Each success
+ * adds {@code retryRatio} tokens and each retry takes one, while the bucket holds at most {@code maxTokens}, so only the
+ * recent successes count. While the service is failing, the bucket drains and failures are no longer retried, instead
+ * of multiplying the load by the number of retries of each request.
+ */
+public class RetryBudget {
+
+    public static final double DEFAULT_RETRY_RATIO = 0.1;
+    public static final int DEFAULT_MAX_TOKENS = 10;
+
+    // Tokens are counted in thousandths, so that fractional ratios could be deposited atomically
+    private static final long MILLI_TOKENS_PER_RETRY = 1000L;
+
+    private final double retryRatio;
+    private final int maxTokens;
+    private final long successMilliTokens;
+    private final long maxMilliTokens;
+    private final AtomicLong milliTokens;
+
+    public RetryBudget() {
+        this(DEFAULT_RETRY_RATIO, DEFAULT_MAX_TOKENS);
+    }
+
+    /**
+     * @param retryRatio the number of retries earned by a successful request, e.g. 0.1 for a retry per 10 successes
+     * @param maxTokens  the maximal number of retries that could be made in a row, which are also available initially
+     */
+    public RetryBudget(double retryRatio, int maxTokens) {
+        if (!(retryRatio >= 0.0 && retryRatio <= 1.0)) {
+            throw new IllegalArgumentException("retryRatio must be within 0 and 1: " + retryRatio);
+        }
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("maxTokens must be positive: " + maxTokens);
+        }
+
+        this.retryRatio = retryRatio;
+        this.maxTokens = maxTokens;
+        this.successMilliTokens = Math.round(retryRatio * MILLI_TOKENS_PER_RETRY);
+        this.maxMilliTokens = maxTokens * MILLI_TOKENS_PER_RETRY;
+        this.milliTokens = new AtomicLong(maxMilliTokens);
+    }
+
+    public double getRetryRatio() {
+        return retryRatio;
+    }
+
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    /**
+     * @return the number of retries which could be made right now
+     */
+    public double getAvailableTokens() {
+        return (double) milliTokens.get() / MILLI_TOKENS_PER_RETRY;
+    }
+
+    public void onSuccess() {
+        milliTokens.accumulateAndGet(successMilliTokens, (tokens, deposit) -> Math.min(maxMilliTokens, tokens + deposit));
+    }
+
+    /**
+     * @return whether a retry could be made, in which case a token is taken for it
+     */
+    public boolean tryAcquireRetry() {
+        long tokens;
+        do {
+            tokens = milliTokens.get();
+            if (tokens < MILLI_TOKENS_PER_RETRY) {
+                return false;
+            }
+        } while (!milliTokens.compareAndSet(tokens, tokens - MILLI_TOKENS_PER_RETRY));
+
+        return true;
+    }
+}
@@ -1,25 +1,51 @@
 package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
+import com.sap.cloud.alert.notification.client.exceptions.CircuitBreakerOpenException;
 import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.exceptions.ResponseParsingException;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class SimpleRetryPolicy implements IRetryPolicy {
 
+    // Shared by all policies, so it only starts the retries - a supplier which may block submits its work to an executor instead
+    static final ScheduledExecutorService RETRY_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ans-retry-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final int maxRetries;
     private final Duration retryBackoff;
+    private final RetryBudget retryBudget;
 
     public SimpleRetryPolicy() {
         this(0, Duration.ZERO);
     }
 
     public SimpleRetryPolicy(int maxRetries, Duration retryBackoff) {
+        this(maxRetries, retryBackoff, null);
+    }
+
+    /**
+     * @param maxRetries   the maximal number of retries of a single execution
+     * @param retryBackoff the time to wait before each retry
+     * @param retryBudget  bounds the retries of all executions of the policy, null if they are not bounded
+     */
+    public SimpleRetryPolicy(int maxRetries, Duration retryBackoff, RetryBudget retryBudget) {
         this.maxRetries = maxRetries;
         this.retryBackoff = retryBackoff;
+        this.retryBudget = retryBudget;
     }
 
     public int getMaxRetries() {
@@ -30,20 +56,80 @@ public class SimpleRetryPolicy implements IRetryPolicy {
         return retryBackoff;
     }
 
+    public RetryBudget getRetryBudget() {
+        return retryBudget;
+    }
+
     @Override
     public <T> T executeWithRetry(Supplier<T> supplier) {
-        for (int i = 0; i < maxRetries; ++i) {
+        for (int retry = 0; ; ++retry) {
             try {
-                return supplier.get();
+                T result = supplier.get();
+                recordSuccess(retryBudget);
+                return result;
             } catch (Exception exception) {
+                if (retry >= maxRetries || isNeverRetried(exception) || !tryAcquireRetry(retryBudget)) {
+                    throw exception;
+                }
+
                 sleepAtLeast(retryBackoff);
             }
         }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> executeWithRetryAsync(Supplier<CompletableFuture<T>> supplier) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        executeWithRetryAsync(supplier, maxRetries, result);
+
+        return result;
+    }
+
+    private <T> void executeWithRetryAsync(Supplier<CompletableFuture<T>> supplier, int retriesLeft, CompletableFuture<T> result) {
+        getQuietly(supplier).whenComplete((value, exception) -> {
+            if (isNull(exception)) {
+                recordSuccess(retryBudget);
+                result.complete(value);
+                return;
+            }
+
+            Throwable failure = exception instanceof CompletionException && !isNull(exception.getCause()) ? exception.getCause() : exception;
+            if (retriesLeft > 0 && !isNeverRetried(failure) && tryAcquireRetry(retryBudget)) {
+                RETRY_SCHEDULER.schedule(() -> executeWithRetryAsync(supplier, retriesLeft - 1, result), retryBackoff.toMillis(), MILLISECONDS);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    // The response of an accepted request which could not be read would be sent twice, and a request to an open circuit would fail
+    // again without being sent, after holding its caller through the backoff
+    static boolean isNeverRetried(Throwable failure) {
+        return failure instanceof ResponseParsingException || failure instanceof CircuitBreakerOpenException;
+    }
+
+    static void recordSuccess(RetryBudget retryBudget) {
+        if (!isNull(retryBudget)) {
+            retryBudget.onSuccess();
+        }
+    }
+
+    static boolean tryAcquireRetry(RetryBudget retryBudget) {
+        return isNull(retryBudget) || retryBudget.tryAcquireRetry();
+    }
 
-        return supplier.get();
+    static <T> CompletableFuture<T> getQuietly(Supplier<CompletableFuture<T>> supplier) {
+        try {
+            return supplier.get();
+        } catch (Exception exception) {
+            CompletableFuture<T> failedExecution = new CompletableFuture<>();
+            failedExecution.completeExceptionally(exception);
+            return failedExecution;
+        }
     }
 
-    private static void sleepAtLeast(Duration duration) {
+    static void sleepAtLeast(Duration duration) {
         long sleepUntil = currentTimeMillis() + duration.toMillis();
         long currentTime;
 
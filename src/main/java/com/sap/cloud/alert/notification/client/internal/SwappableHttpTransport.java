@@ -0,0 +1,124 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpResponseHandler;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.closeQuietly;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Routes requests to a transport which can be replaced while requests are in flight, e.g. on certificate rotation.
+ * New requests go to the latest transport, while a replaced one is closed as soon as its last request completes.
+ */
+public class SwappableHttpTransport implements IHttpTransport {
+
+    private final AtomicReference<TransportLease> currentLease;
+
+    public SwappableHttpTransport(IHttpTransport httpTransport) {
+        this.currentLease = new AtomicReference<>(new TransportLease(requireNonNull(httpTransport)));
+    }
+
+    public IHttpTransport getHttpTransport() {
+        return currentLease.get().httpTransport;
+    }
+
+    /**
+     * Routes all following requests to the given transport and closes the replaced one once its requests are drained
+     *
+     * @param httpTransport the transport replacing the current one
+     */
+    public void swap(IHttpTransport httpTransport) {
+        currentLease.getAndSet(new TransportLease(requireNonNull(httpTransport))).release();
+    }
+
+    @Override
+    public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+        TransportLease lease = acquireLease();
+        try {
+            return lease.httpTransport.execute(request);
+        } finally {
+            lease.release();
+        }
+    }
+
+    @Override
+    public <T> T execute(HttpTransportRequest request, IHttpResponseHandler<T> responseHandler) throws IOException {
+        TransportLease lease = acquireLease();
+        try {
+            return lease.httpTransport.execute(request, responseHandler);
+        } finally {
+            lease.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+        TransportLease lease = acquireLease();
+        try {
+            return lease.httpTransport.executeAsync(request).whenComplete((response, exception) -> lease.release());
+        } catch (RuntimeException exception) {
+            lease.release();
+            throw exception;
+        }
+    }
+
+    @Override
+    public boolean isNonBlocking() {
+        return getHttpTransport().isNonBlocking();
+    }
+
+    @Override
+    public void close() {
+        currentLease.get().release();
+    }
+
+    private TransportLease acquireLease() {
+        while (true) {
+            TransportLease lease = currentLease.get();
+            if (lease.tryAcquire()) {
+                return lease;
+            }
+
+            if (lease == currentLease.get()) {
+                // Only a closed transport keeps a drained lease
+                throw new IllegalStateException("The transport is closed");
+            }
+        }
+    }
+
+    private static class TransportLease {
+
+        private final IHttpTransport httpTransport;
+        // Starts with the reference held by the swappable transport itself, released when the lease is replaced
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        private TransportLease(IHttpTransport httpTransport) {
+            this.httpTransport = httpTransport;
+        }
+
+        private boolean tryAcquire() {
+            int currentReferences;
+            do {
+                currentReferences = references.get();
+                if (currentReferences <= 0) {
+                    return false;
+                }
+            } while (!references.compareAndSet(currentReferences, currentReferences + 1));
+
+            return true;
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                closeQuietly(httpTransport);
+            }
+        }
+    }
+}
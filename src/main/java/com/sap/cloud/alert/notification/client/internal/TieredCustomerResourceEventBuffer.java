@@ -0,0 +1,598 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.fromJsonStream;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.writeJson;
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A buffer which keeps up to a given number of events in memory and spills the events beyond it to files, instead of
+ * rejecting them, so that an outage or throttling of the service can be ridden out without dropping events or holding
+ * all of them on the heap. Each time an event is read from memory, the oldest spilled event is loaded back into the
+ * freed place, ahead of its sender. Spilled events are written to append-only segment files, and a segment is deleted
+ * once all its events are read. Events are serialized and written, and segment files are created, without holding the
+ * lock of the buffer - only the place of an event in a segment is reserved under it. The spill files do not outlive the
+ * buffer - they are deleted on closing and on opening.
+ */
+public class TieredCustomerResourceEventBuffer implements ICustomerResourceEventBuffer, Closeable {
+
+    public static final long DEFAULT_SEGMENT_SIZE = 8L * 1024 * 1024;
+
+    static final String SEGMENT_FILE_SUFFIX = ".spill";
+
+    private final int memoryCapacity;
+    private final int spillCapacity;
+    private final Path spillDirectory;
+    private final long segmentSize;
+    private final Map<UUID, CustomerResourceEvent> memoryEvents;
+    // Kept in spill order, so that the oldest spilled events are loaded back first
+    private final LinkedHashMap<UUID, SpilledEvent> spilledEvents;
+    // The spilled events being loaded back into the memory freed for them, which their senders could still take
+    private final Map<UUID, SpilledEvent> loadingEvents;
+    // Fair, so the lock roughly orders the writers waiting for capacity - a writer which does not wait can still take
+    // freed capacity ahead of them
+    private final ReentrantLock lock;
+    private final Condition hasFreeCapacity;
+    private Segment activeSegment;
+    private long nextSegmentIndex;
+    // The events being written to files, which take their place before they are spilled
+    private int spillingCount;
+    // The spilled events being read by their senders, which keep their place until read
+    private int unspillingCount;
+    private boolean isClosed;
+
+    public TieredCustomerResourceEventBuffer(int memoryCapacity, Path spillDirectory, int spillCapacity) {
+        this(memoryCapacity, spillDirectory, spillCapacity, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param memoryCapacity the number of events kept in memory
+     * @param spillDirectory the directory of the spill files, used by no other buffer
+     * @param spillCapacity  the number of events which could be spilled to files once the memory is full
+     * @param segmentSize    the size in bytes after which a new spill file is started
+     */
+    public TieredCustomerResourceEventBuffer(int memoryCapacity, Path spillDirectory, int spillCapacity, long segmentSize) {
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("memoryCapacity must be positive: " + memoryCapacity);
+        }
+        if (spillCapacity < 0) {
+            throw new IllegalArgumentException("spillCapacity must not be negative: " + spillCapacity);
+        }
+        if (segmentSize < 1L) {
+            throw new IllegalArgumentException("segmentSize must be positive: " + segmentSize);
+        }
+        if ((long) memoryCapacity + spillCapacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("memoryCapacity and spillCapacity must not exceed " + Integer.MAX_VALUE + " together: " + ((long) memoryCapacity + spillCapacity));
+        }
+
+        this.memoryCapacity = memoryCapacity;
+        this.spillCapacity = spillCapacity;
+        this.spillDirectory = requireNonNull(spillDirectory);
+        this.segmentSize = segmentSize;
+        this.memoryEvents = new HashMap<>(memoryCapacity);
+        this.spilledEvents = new LinkedHashMap<>();
+        this.loadingEvents = new HashMap<>();
+        this.lock = new ReentrantLock(true);
+        this.hasFreeCapacity = lock.newCondition();
+
+        try {
+            Files.createDirectories(spillDirectory);
+            deleteSpillFiles();
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        }
+    }
+
+    /**
+     * @return the number of events kept in memory and spilled to files together
+     */
+    @Override
+    public int getCapacity() {
+        return memoryCapacity + spillCapacity;
+    }
+
+    public int getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    public int getSpillCapacity() {
+        return spillCapacity;
+    }
+
+    /**
+     * @return true, as the events beyond the memory capacity are kept in files
+     */
+    @Override
+    public boolean isKeepingEventsOffHeap() {
+        return true;
+    }
+
+    /**
+     * @return the number of events currently kept in memory
+     */
+    public int getMemorySize() {
+        lock.lock();
+        try {
+            return memoryEvents.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of events currently spilled to files
+     */
+    public int getSpilledSize() {
+        lock.lock();
+        try {
+            return spilledEvents.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Read an event, and load the oldest spilled event into the memory it frees. The files are read without holding the
+     * lock of the buffer, and a spilled event which could not be read is kept in the buffer
+     */
+    @Override
+    public CustomerResourceEvent read(UUID eventUuid) {
+        CustomerResourceEvent event;
+        SpilledEvent spilledEvent;
+        Map.Entry<UUID, SpilledEvent> oldestSpilledEvent = null;
+
+        lock.lock();
+        try {
+            event = memoryEvents.remove(eventUuid);
+            if (isNull(event)) {
+                spilledEvent = spilledEvents.remove(eventUuid);
+                if (isNull(spilledEvent)) {
+                    spilledEvent = loadingEvents.remove(eventUuid);
+                }
+                if (isNull(spilledEvent)) {
+                    return null;
+                }
+
+                unspillingCount++;
+            } else {
+                spilledEvent = null;
+                oldestSpilledEvent = takeOldestSpilledEvent();
+                hasFreeCapacity.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (isNull(event)) {
+            return unspill(eventUuid, spilledEvent);
+        }
+
+        if (!isNull(oldestSpilledEvent)) {
+            loadIntoMemory(oldestSpilledEvent.getKey(), oldestSpilledEvent.getValue());
+        }
+
+        return event;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
+
+        return eventUuid;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        requireNonNull(event);
+        long nanosLeft = timeout.toNanos();
+        UUID eventUuid = UUID.randomUUID();
+
+        lock.lock();
+        try {
+            while (!hasFreeCapacity()) {
+                if (nanosLeft <= 0L) {
+                    throw new BufferOverflowException();
+                }
+
+                nanosLeft = hasFreeCapacity.awaitNanos(nanosLeft);
+            }
+
+            if (tryPutIntoMemory(eventUuid, event)) {
+                return eventUuid;
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        } finally {
+            lock.unlock();
+        }
+
+        return spill(eventUuid, event);
+    }
+
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        requireNonNull(event);
+        UUID eventUuid = UUID.randomUUID();
+
+        lock.lock();
+        try {
+            if (!hasFreeCapacity()) {
+                return null;
+            }
+
+            if (tryPutIntoMemory(eventUuid, event)) {
+                return eventUuid;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return spill(eventUuid, event);
+    }
+
+    /**
+     * Delete the spill files, and stop spilling writes. The events still spilled are dropped, as the spill files would be
+     * deleted by the next buffer opened on the directory anyway, so close the buffer only once its events are sent or
+     * reported as undelivered, e.g. by {@link AlertNotificationAsyncClient#shutdown(Duration)}
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            spilledEvents.values().forEach(spilledEvent -> spilledEvent.segment.closeQuietly());
+            spilledEvents.clear();
+            loadingEvents.values().forEach(spilledEvent -> spilledEvent.segment.closeQuietly());
+            loadingEvents.clear();
+            if (!isNull(activeSegment)) {
+                activeSegment.closeQuietly();
+                activeSegment = null;
+            }
+            deleteSpillFiles();
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasFreeCapacity() {
+        return isMemoryFree() || !isSpillFull();
+    }
+
+    // The memory freed for the events being loaded back is taken already
+    private boolean isMemoryFree() {
+        return memoryEvents.size() + loadingEvents.size() < memoryCapacity;
+    }
+
+    private boolean isSpillFull() {
+        return isClosed || spilledEvents.size() + spillingCount + unspillingCount >= spillCapacity;
+    }
+
+    // Otherwise the event takes its place among the events being spilled, and has to be spilled by the caller
+    private boolean tryPutIntoMemory(UUID eventUuid, CustomerResourceEvent event) {
+        // Events spilled earlier go first into the memory freed by reads, so new ones have to join them while any is left,
+        // unless a spilled event failed to be loaded back and no more fit in the files
+        if (isMemoryFree() && (spilledEvents.isEmpty() || isSpillFull())) {
+            memoryEvents.put(eventUuid, event);
+            return true;
+        }
+
+        spillingCount++;
+        return false;
+    }
+
+    private UUID spill(UUID eventUuid, CustomerResourceEvent event) {
+        SpilledEvent spilledEvent = null;
+        boolean isWritten = false;
+        try {
+            ByteArrayOutputStream serializedEvent = new ByteArrayOutputStream();
+            writeJson(serializedEvent, event);
+
+            spilledEvent = reserve(serializedEvent.size());
+            ByteBuffer record = ByteBuffer.wrap(serializedEvent.toByteArray());
+            while (record.hasRemaining()) {
+                spilledEvent.segment.channel.write(record, spilledEvent.position + record.position());
+            }
+            isWritten = true;
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        } finally {
+            if (!isWritten) {
+                cancelSpill(spilledEvent);
+            }
+        }
+
+        Map.Entry<UUID, SpilledEvent> oldestSpilledEvent = null;
+        lock.lock();
+        try {
+            spillingCount--;
+            if (isClosed) {
+                // Its segment could hold no other event, and be left open by closing
+                spilledEvent.segment.closeQuietly();
+                throw new ClientRequestException(new ClosedChannelException());
+            }
+
+            spilledEvents.put(eventUuid, spilledEvent);
+            // The memory freed by reads while the event was written had no spilled event to be loaded back into it
+            if (isMemoryFree()) {
+                oldestSpilledEvent = takeOldestSpilledEvent();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (!isNull(oldestSpilledEvent)) {
+            loadIntoMemory(oldestSpilledEvent.getKey(), oldestSpilledEvent.getValue());
+        }
+
+        return eventUuid;
+    }
+
+    // The next segment is created without holding the lock, and dropped if another writer started one meanwhile
+    private SpilledEvent reserve(int length) throws IOException {
+        Segment createdSegment = null;
+        try {
+            while (true) {
+                long segmentIndex;
+                lock.lock();
+                try {
+                    if (isClosed) {
+                        throw new ClosedChannelException();
+                    }
+
+                    if (!isNull(activeSegment) && activeSegment.size < segmentSize) {
+                        return reserveInActiveSegment(length);
+                    }
+                    if (!isNull(createdSegment)) {
+                        activeSegment = createdSegment;
+                        createdSegment = null;
+                        return reserveInActiveSegment(length);
+                    }
+
+                    segmentIndex = nextSegmentIndex++;
+                } finally {
+                    lock.unlock();
+                }
+
+                createdSegment = Segment.create(spillDirectory, segmentIndex);
+            }
+        } finally {
+            deleteQuietly(createdSegment);
+        }
+    }
+
+    private SpilledEvent reserveInActiveSegment(int length) {
+        SpilledEvent spilledEvent = new SpilledEvent(activeSegment, activeSegment.size, length);
+        activeSegment.size += length;
+        activeSegment.liveEventsCount++;
+
+        return spilledEvent;
+    }
+
+    // The reserved place of the event is left unused in its segment
+    private void cancelSpill(SpilledEvent spilledEvent) {
+        Segment drainedSegment = null;
+        lock.lock();
+        try {
+            spillingCount--;
+            if (!isNull(spilledEvent)) {
+                if (isClosed) {
+                    spilledEvent.segment.closeQuietly();
+                } else {
+                    drainedSegment = release(spilledEvent.segment);
+                }
+            }
+            hasFreeCapacity.signal();
+        } finally {
+            lock.unlock();
+        }
+        deleteQuietly(drainedSegment);
+    }
+
+    private CustomerResourceEvent unspill(UUID eventUuid, SpilledEvent spilledEvent) {
+        CustomerResourceEvent event;
+        try {
+            event = readSpilledEvent(spilledEvent);
+        } catch (IOException exception) {
+            lock.lock();
+            try {
+                unspillingCount--;
+                restoreSpilledEvent(eventUuid, spilledEvent);
+            } finally {
+                lock.unlock();
+            }
+
+            throw new ClientRequestException(exception);
+        }
+
+        Segment drainedSegment;
+        lock.lock();
+        try {
+            unspillingCount--;
+            drainedSegment = release(spilledEvent.segment);
+            hasFreeCapacity.signal();
+        } finally {
+            lock.unlock();
+        }
+        deleteQuietly(drainedSegment);
+
+        return event;
+    }
+
+    private void loadIntoMemory(UUID eventUuid, SpilledEvent spilledEvent) {
+        CustomerResourceEvent event = null;
+        try {
+            event = readSpilledEvent(spilledEvent);
+        } catch (IOException exception) {
+            // Left spilled for its sender, which fails to read it in turn rather than the read which freed the memory
+        }
+
+        Segment drainedSegment = null;
+        lock.lock();
+        try {
+            // Unless its sender took it meanwhile
+            if (loadingEvents.remove(eventUuid, spilledEvent)) {
+                if (isNull(event)) {
+                    restoreSpilledEvent(eventUuid, spilledEvent);
+                } else {
+                    memoryEvents.put(eventUuid, event);
+                    drainedSegment = release(spilledEvent.segment);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        deleteQuietly(drainedSegment);
+    }
+
+    private static CustomerResourceEvent readSpilledEvent(SpilledEvent spilledEvent) throws IOException {
+        Segment segment = spilledEvent.segment;
+        ByteBuffer record = ByteBuffer.allocate(spilledEvent.length);
+        while (record.hasRemaining()) {
+            if (segment.channel.read(record, spilledEvent.position + record.position()) < 0) {
+                throw new IOException(format("Spill file %s is truncated", segment.file));
+            }
+        }
+
+        return fromJsonStream(new ByteArrayInputStream(record.array()), CustomerResourceEvent.class);
+    }
+
+    private Map.Entry<UUID, SpilledEvent> takeOldestSpilledEvent() {
+        Iterator<Map.Entry<UUID, SpilledEvent>> oldestSpilledEvents = spilledEvents.entrySet().iterator();
+        if (!oldestSpilledEvents.hasNext()) {
+            return null;
+        }
+
+        Map.Entry<UUID, SpilledEvent> oldestSpilledEvent = oldestSpilledEvents.next();
+        oldestSpilledEvents.remove();
+        loadingEvents.put(oldestSpilledEvent.getKey(), oldestSpilledEvent.getValue());
+
+        return oldestSpilledEvent;
+    }
+
+    // Put back ahead of the other spilled events, so that it is the next one loaded into memory
+    private void restoreSpilledEvent(UUID eventUuid, SpilledEvent spilledEvent) {
+        if (isClosed) {
+            return;
+        }
+
+        Map<UUID, SpilledEvent> laterSpilledEvents = new LinkedHashMap<>(spilledEvents);
+        spilledEvents.clear();
+        spilledEvents.put(eventUuid, spilledEvent);
+        spilledEvents.putAll(laterSpilledEvents);
+    }
+
+    // Each segment is deleted as soon as it holds no event, so the files are gone once the spilled events are drained
+    private Segment release(Segment segment) {
+        segment.liveEventsCount--;
+        if (segment.liveEventsCount > 0) {
+            return null;
+        }
+
+        if (segment == activeSegment) {
+            activeSegment = null;
+        }
+
+        return segment;
+    }
+
+    private static void deleteQuietly(Segment segment) {
+        if (isNull(segment)) {
+            return;
+        }
+
+        try {
+            segment.delete();
+        } catch (IOException exception) {
+            // The file is left to be deleted on closing or opening the buffer
+        }
+    }
+
+    private void deleteSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(spillDirectory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.getFileName().toString().endsWith(SEGMENT_FILE_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static class SpilledEvent {
+
+        private final Segment segment;
+        private final long position;
+        private final int length;
+
+        private SpilledEvent(Segment segment, long position, int length) {
+            this.segment = segment;
+            this.position = position;
+            this.length = length;
+        }
+    }
+
+    private static class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private long size;
+        private int liveEventsCount;
+
+        private Segment(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+
+        private static Segment create(Path directory, long index) throws IOException {
+            Path file = directory.resolve(format("%020d%s", index, SEGMENT_FILE_SUFFIX));
+
+            return new Segment(file, FileChannel.open(file, CREATE_NEW, READ, WRITE));
+        }
+
+        private void delete() throws IOException {
+            closeQuietly();
+            Files.deleteIfExists(file);
+        }
+
+        private void closeQuietly() {
+            AlertNotificationClientUtils.closeQuietly(channel);
+        }
+    }
+}
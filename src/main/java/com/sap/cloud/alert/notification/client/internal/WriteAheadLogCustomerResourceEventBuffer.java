@@ -0,0 +1,621 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.fromJsonStream;
+import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.writeJson;
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * A durable buffer keeping its events in an append-only log of memory-mapped segment files, so that the events not yet
+ * delivered survive a crash of the JVM and are handed back by {@link #takeRecoveredEvents()} once the buffer is opened
+ * again. Writing an event appends it to the active segment, reading it hands it out for sending, and acknowledging its
+ * delivery appends an acknowledgement; a full segment is sealed and a new one is started. Sealed segments at the head
+ * of the log are deleted once all their events are acknowledged. The events still live in the oldest one are copied to
+ * the active segment once few of its events are left, or once acknowledged segments wait behind it, so a long-lived
+ * event does not keep the whole log behind it on disk.
+ */
+public class WriteAheadLogCustomerResourceEventBuffer implements ICustomerResourceEventBuffer, Closeable {
+
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofSeconds(1L);
+
+    static final String SEGMENT_FILE_SUFFIX = ".log";
+
+    // A record is its body length and checksum, followed by the body: the record type, the event UUID and the event JSON
+    private static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int RECORD_KEY_SIZE = Byte.BYTES + 2 * Long.BYTES;
+    private static final byte WRITE_RECORD = 1;
+    private static final byte ACK_RECORD = 2;
+    // A sealed segment which keeps no acknowledged segment on disk is copied only once at most a quarter of its events
+    // are live, bounding the extra writes
+    private static final int MAX_LIVE_EVENTS_RATIO_TO_COPY = 4;
+    // A mapping is otherwise released only when its buffer is garbage collected, keeping the disk space of deleted
+    // segments in use and their files locked on some platforms
+    private static final Consumer<MappedByteBuffer> UNMAPPER = createUnmapper();
+
+    public enum FsyncPolicy {
+        /**
+         * Force every record to the storage device before the write or read returns
+         */
+        EVERY_RECORD,
+        /**
+         * Force the active segment when a record is appended at least the fsync interval after the last force
+         */
+        PERIODIC,
+        /**
+         * Leave writing to the operating system, which still keeps the records through a crash of the JVM
+         */
+        NEVER
+    }
+
+    private final Path directory;
+    private final int capacity;
+    private final int segmentSize;
+    private final FsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
+    // Fair, so the lock roughly orders the writers waiting for capacity - a writer which does not wait can still take
+    // freed capacity ahead of them
+    private final Semaphore freeCapacity;
+    private final Map<UUID, BufferedEvent> eventBuffer;
+    // The events handed out by reading them, which stay live in the log until their delivery is acknowledged
+    private final Map<UUID, BufferedEvent> unacknowledgedEvents;
+    private final long bufferId;
+    private final AtomicLong eventSequence;
+    private final ReentrantLock appendLock;
+    // The segments still on disk, oldest first, guarded by the append lock like all the segment state
+    private final Deque<Segment> segments;
+    private Map<UUID, CustomerResourceEvent> recoveredEvents;
+    private Segment activeSegment;
+    private long lastFsyncNanos;
+    private boolean isCompacting;
+    private boolean isClosed;
+
+    public WriteAheadLogCustomerResourceEventBuffer(Path directory, int capacity) {
+        this(directory, capacity, DEFAULT_SEGMENT_SIZE, FsyncPolicy.PERIODIC, DEFAULT_FSYNC_INTERVAL);
+    }
+
+    /**
+     * Open the log in the given directory, creating it if missing, and recover the events it holds
+     *
+     * @param directory     the directory of the segment files, used by no other buffer
+     * @param capacity      the number of events that could be kept simultaneously in the buffer
+     * @param segmentSize   the size in bytes of each segment file, which bounds the size of a single event
+     * @param fsyncPolicy   when the records are forced to the storage device
+     * @param fsyncInterval the interval between forces with {@link FsyncPolicy#PERIODIC}
+     */
+    public WriteAheadLogCustomerResourceEventBuffer(Path directory, int capacity, int segmentSize, FsyncPolicy fsyncPolicy, Duration fsyncInterval) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (segmentSize <= RECORD_HEADER_SIZE + RECORD_KEY_SIZE) {
+            throw new IllegalArgumentException("segmentSize must exceed the record header of " + (RECORD_HEADER_SIZE + RECORD_KEY_SIZE) + " bytes: " + segmentSize);
+        }
+        if (fsyncInterval.isNegative()) {
+            throw new IllegalArgumentException("fsyncInterval must not be negative: " + fsyncInterval);
+        }
+
+        this.directory = requireNonNull(directory);
+        this.capacity = capacity;
+        this.segmentSize = segmentSize;
+        this.fsyncPolicy = requireNonNull(fsyncPolicy);
+        this.fsyncIntervalNanos = fsyncInterval.toNanos();
+        this.eventBuffer = new ConcurrentHashMap<>(capacity);
+        this.unacknowledgedEvents = new ConcurrentHashMap<>();
+        this.bufferId = ThreadLocalRandom.current().nextLong();
+        this.eventSequence = new AtomicLong();
+        this.appendLock = new ReentrantLock();
+        this.segments = new ArrayDeque<>();
+
+        try {
+            recover();
+        } catch (IOException | RuntimeException exception) {
+            segments.forEach(Segment::closeQuietly);
+            throw exception instanceof ClientRequestException ? (ClientRequestException) exception : new ClientRequestException(exception);
+        }
+
+        // Recovered events beyond the capacity are kept, and new writes wait until enough of them are read
+        this.freeCapacity = new Semaphore(capacity - eventBuffer.size(), true);
+        this.lastFsyncNanos = System.nanoTime();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of segment files currently kept on disk
+     */
+    public int getSegmentsCount() {
+        appendLock.lock();
+        try {
+            return segments.size();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<UUID, CustomerResourceEvent> takeRecoveredEvents() {
+        appendLock.lock();
+        try {
+            Map<UUID, CustomerResourceEvent> takenEvents = new LinkedHashMap<>();
+            recoveredEvents.forEach((eventUuid, event) -> {
+                // Skips the events which were already read
+                if (eventBuffer.containsKey(eventUuid)) {
+                    takenEvents.put(eventUuid, event);
+                }
+            });
+            recoveredEvents = emptyMap();
+
+            return unmodifiableMap(takenEvents);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Hand out an event for sending and free its capacity. The event stays in the log until its delivery is acknowledged,
+     * and is recovered if the buffer is opened again before
+     */
+    @Override
+    public CustomerResourceEvent read(UUID eventUuid) {
+        BufferedEvent bufferedEvent;
+
+        // Moved under the lock, so that compaction finds each live event exactly once
+        appendLock.lock();
+        try {
+            bufferedEvent = eventBuffer.remove(eventUuid);
+            if (isNull(bufferedEvent)) {
+                return null;
+            }
+
+            unacknowledgedEvents.put(eventUuid, bufferedEvent);
+        } finally {
+            appendLock.unlock();
+        }
+
+        freeCapacity.release();
+
+        return bufferedEvent.event;
+    }
+
+    /**
+     * Append the acknowledgement of a read event, after which it is no longer recovered. An event whose acknowledgement
+     * fails stays in the log, and is recovered once the buffer is opened again
+     */
+    @Override
+    public void acknowledge(UUID eventUuid) {
+        appendLock.lock();
+        try {
+            BufferedEvent bufferedEvent = unacknowledgedEvents.get(eventUuid);
+            if (isNull(bufferedEvent) || isClosed) {
+                return;
+            }
+
+            append(ACK_RECORD, eventUuid, new byte[0]);
+            unacknowledgedEvents.remove(eventUuid);
+            // Read after appending, as starting a segment may have copied the event forward
+            bufferedEvent.segment.liveEventsCount--;
+            deleteAcknowledgedSegments();
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event) throws BufferOverflowException {
+        UUID eventUuid = tryWrite(event);
+        if (isNull(eventUuid)) {
+            throw new BufferOverflowException();
+        }
+
+        return eventUuid;
+    }
+
+    @Override
+    public UUID write(CustomerResourceEvent event, Duration timeout) throws BufferOverflowException {
+        byte[] payload = toPayload(event);
+
+        try {
+            if (!freeCapacity.tryAcquire(timeout.toNanos(), NANOSECONDS)) {
+                throw new BufferOverflowException();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ClientRequestException(exception);
+        }
+
+        return put(event, payload);
+    }
+
+    @Override
+    public UUID tryWrite(CustomerResourceEvent event) {
+        byte[] payload = toPayload(event);
+
+        return freeCapacity.tryAcquire() ? put(event, payload) : null;
+    }
+
+    /**
+     * Force all records to the storage device and unmap the segments. Events still in the buffer are recovered when
+     * the directory is opened again
+     */
+    @Override
+    public void close() {
+        appendLock.lock();
+        try {
+            if (isClosed) {
+                return;
+            }
+
+            isClosed = true;
+            segments.forEach(segment -> {
+                segment.force();
+                segment.closeQuietly();
+            });
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private UUID put(CustomerResourceEvent event, byte[] payload) {
+        // The random buffer id keeps identifiers apart from those of the events recovered from earlier runs
+        UUID eventUuid = new UUID(bufferId, eventSequence.incrementAndGet());
+
+        appendLock.lock();
+        try {
+            if (isClosed) {
+                throw new IllegalStateException("The buffer is closed");
+            }
+
+            Segment segment = append(WRITE_RECORD, eventUuid, payload);
+            segment.writtenEventsCount++;
+            segment.liveEventsCount++;
+            eventBuffer.put(eventUuid, new BufferedEvent(event, segment));
+        } catch (IOException | RuntimeException exception) {
+            freeCapacity.release();
+            throw exception instanceof RuntimeException ? (RuntimeException) exception : new ClientRequestException(exception);
+        } finally {
+            appendLock.unlock();
+        }
+
+        return eventUuid;
+    }
+
+    private Segment append(byte type, UUID eventUuid, byte[] payload) throws IOException {
+        int bodyLength = RECORD_KEY_SIZE + payload.length;
+        if (RECORD_HEADER_SIZE + bodyLength > segmentSize) {
+            throw new IllegalArgumentException(format("Event of %d bytes does not fit in a segment", payload.length));
+        }
+
+        if (activeSegment.buffer.remaining() < RECORD_HEADER_SIZE + bodyLength) {
+            rollSegment();
+        }
+
+        byte[] body = ByteBuffer.allocate(bodyLength) //
+                .put(type) //
+                .putLong(eventUuid.getMostSignificantBits()) //
+                .putLong(eventUuid.getLeastSignificantBits()) //
+                .put(payload) //
+                .array();
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+
+        // The length is written last, so a record torn by a crash reads as the end of the segment or fails its checksum
+        MappedByteBuffer buffer = activeSegment.buffer;
+        int recordPosition = buffer.position();
+        buffer.position(recordPosition + Integer.BYTES);
+        buffer.putInt((int) checksum.getValue());
+        buffer.put(body);
+        buffer.putInt(recordPosition, bodyLength);
+
+        forceIfDue();
+
+        return activeSegment;
+    }
+
+    private void forceIfDue() {
+        if (fsyncPolicy == FsyncPolicy.EVERY_RECORD) {
+            activeSegment.force();
+        } else if (fsyncPolicy == FsyncPolicy.PERIODIC && System.nanoTime() - lastFsyncNanos >= fsyncIntervalNanos) {
+            activeSegment.force();
+            lastFsyncNanos = System.nanoTime();
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        if (fsyncPolicy != FsyncPolicy.NEVER) {
+            activeSegment.force();
+        }
+
+        activeSegment = Segment.create(directory, activeSegment.index + 1, segmentSize);
+        segments.addLast(activeSegment);
+
+        if (!isCompacting) {
+            compact();
+        }
+    }
+
+    private void compact() throws IOException {
+        deleteAcknowledgedSegments();
+
+        // Each copied segment is deleted, so a log full of live events, with none acknowledged, is not rewritten over and over
+        isCompacting = true;
+        try {
+            Segment oldestSegment;
+            while (isWorthCopying(oldestSegment = segments.peekFirst())) {
+                copyLiveEvents(eventBuffer, oldestSegment);
+                copyLiveEvents(unacknowledgedEvents, oldestSegment);
+                deleteAcknowledgedSegments();
+
+                if (segments.peekFirst() == oldestSegment) {
+                    return;
+                }
+            }
+        } finally {
+            isCompacting = false;
+        }
+    }
+
+    private boolean isWorthCopying(Segment oldestSegment) {
+        if (oldestSegment == activeSegment) {
+            return false;
+        }
+
+        // With large events a segment holds just a few of them, so a single long-lived one could keep it live for good
+        return oldestSegment.liveEventsCount * MAX_LIVE_EVENTS_RATIO_TO_COPY <= oldestSegment.writtenEventsCount
+                || segments.stream().anyMatch(segment -> segment != activeSegment && segment.liveEventsCount <= 0);
+    }
+
+    private void copyLiveEvents(Map<UUID, BufferedEvent> liveEvents, Segment sourceSegment) throws IOException {
+        for (Map.Entry<UUID, BufferedEvent> liveEntry : liveEvents.entrySet()) {
+            BufferedEvent bufferedEvent = liveEntry.getValue();
+            if (bufferedEvent.segment == sourceSegment) {
+                Segment segment = append(WRITE_RECORD, liveEntry.getKey(), toPayload(bufferedEvent.event));
+                segment.writtenEventsCount++;
+                segment.liveEventsCount++;
+                sourceSegment.liveEventsCount--;
+                bufferedEvent.segment = segment;
+            }
+        }
+    }
+
+    private void deleteAcknowledgedSegments() throws IOException {
+        // Only whole segments at the head are deleted, as their acknowledgements may still cancel records further on
+        while (segments.peekFirst() != activeSegment && segments.peekFirst().liveEventsCount <= 0) {
+            segments.removeFirst().delete();
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        List<Path> segmentFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            segmentFiles = files //
+                    .filter(file -> file.getFileName().toString().endsWith(SEGMENT_FILE_SUFFIX)) //
+                    .sorted() //
+                    .collect(toList());
+        }
+
+        Map<UUID, CustomerResourceEvent> unreadEvents = new LinkedHashMap<>();
+        for (Path segmentFile : segmentFiles) {
+            Segment segment = Segment.open(segmentFile);
+            segments.addLast(segment);
+            replay(segment, unreadEvents);
+        }
+
+        if (segments.isEmpty()) {
+            segments.addLast(Segment.create(directory, 0L, segmentSize));
+        }
+
+        activeSegment = segments.peekLast();
+        recoveredEvents = unreadEvents;
+        deleteAcknowledgedSegments();
+    }
+
+    private void replay(Segment segment, Map<UUID, CustomerResourceEvent> unreadEvents) throws IOException {
+        MappedByteBuffer buffer = segment.buffer;
+        CRC32 checksum = new CRC32();
+
+        while (buffer.remaining() >= RECORD_HEADER_SIZE + RECORD_KEY_SIZE) {
+            int recordPosition = buffer.position();
+            int bodyLength = buffer.getInt();
+            int expectedChecksum = buffer.getInt();
+            if (bodyLength < RECORD_KEY_SIZE || bodyLength > buffer.remaining()) {
+                buffer.position(recordPosition);
+                break;
+            }
+
+            byte[] body = new byte[bodyLength];
+            buffer.get(body);
+            checksum.reset();
+            checksum.update(body);
+            if ((int) checksum.getValue() != expectedChecksum) {
+                // A torn record ends the segment, and the next record overwrites it
+                buffer.position(recordPosition);
+                break;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(body);
+            byte type = record.get();
+            UUID eventUuid = new UUID(record.getLong(), record.getLong());
+            if (type == WRITE_RECORD) {
+                CustomerResourceEvent event = fromJsonStream(new ByteArrayInputStream(body, RECORD_KEY_SIZE, bodyLength - RECORD_KEY_SIZE), CustomerResourceEvent.class);
+                BufferedEvent previousEvent = eventBuffer.put(eventUuid, new BufferedEvent(event, segment));
+                // A copy made by compaction moves the event to the later segment
+                if (!isNull(previousEvent)) {
+                    previousEvent.segment.liveEventsCount--;
+                }
+                segment.writtenEventsCount++;
+                segment.liveEventsCount++;
+                unreadEvents.putIfAbsent(eventUuid, event);
+            } else if (type == ACK_RECORD) {
+                BufferedEvent acknowledgedEvent = eventBuffer.remove(eventUuid);
+                if (!isNull(acknowledgedEvent)) {
+                    acknowledgedEvent.segment.liveEventsCount--;
+                }
+                unreadEvents.remove(eventUuid);
+            }
+        }
+    }
+
+    private static byte[] toPayload(CustomerResourceEvent event) {
+        requireNonNull(event);
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try {
+            writeJson(payload, event);
+        } catch (IOException exception) {
+            throw new ClientRequestException(exception);
+        }
+
+        return payload.toByteArray();
+    }
+
+    // Java offers no public way to unmap a buffer, so its internal cleaner is looked up reflectively
+    private static Consumer<MappedByteBuffer> createUnmapper() {
+        try {
+            // Java 9+
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            Object unsafe = theUnsafe.get(null);
+
+            return buffer -> invokeQuietly(() -> invokeCleaner.invoke(unsafe, buffer));
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // Falls back to the cleaner of Java 8
+        }
+
+        try {
+            Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+            Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+
+            return buffer -> invokeQuietly(() -> clean.invoke(cleaner.invoke(buffer)));
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return buffer -> {
+            };
+        }
+    }
+
+    private static void invokeQuietly(ReflectiveCall call) {
+        try {
+            call.invoke();
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // The buffer stays mapped until it is garbage collected
+        }
+    }
+
+    private static class BufferedEvent {
+
+        private final CustomerResourceEvent event;
+        private Segment segment;
+
+        private BufferedEvent(CustomerResourceEvent event, Segment segment) {
+            this.event = event;
+            this.segment = segment;
+        }
+    }
+
+    private static class Segment {
+
+        private final long index;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int writtenEventsCount;
+        // The events written to this segment which are neither acknowledged nor copied to a later segment
+        private int liveEventsCount;
+
+        private Segment(long index, Path file, FileChannel channel, MappedByteBuffer buffer) {
+            this.index = index;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        private static Segment create(Path directory, long index, int size) throws IOException {
+            Path file = directory.resolve(format("%020d%s", index, SEGMENT_FILE_SUFFIX));
+            FileChannel channel = FileChannel.open(file, CREATE, READ, WRITE);
+
+            return new Segment(index, file, channel, channel.map(READ_WRITE, 0L, size));
+        }
+
+        private static Segment open(Path file) throws IOException {
+            String fileName = file.getFileName().toString();
+            long index = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_FILE_SUFFIX.length()));
+            FileChannel channel = FileChannel.open(file, READ, WRITE);
+
+            return new Segment(index, file, channel, channel.map(READ_WRITE, 0L, channel.size()));
+        }
+
+        private void force() {
+            buffer.force();
+        }
+
+        private void delete() throws IOException {
+            closeQuietly();
+            Files.deleteIfExists(file);
+        }
+
+        // The segment must not be accessed afterwards, as its buffer no longer maps any memory
+        private void closeQuietly() {
+            AlertNotificationClientUtils.closeQuietly(channel);
+            UNMAPPER.accept(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ReflectiveCall {
+
+        Object invoke() throws ReflectiveOperationException;
+    }
+}
@@ -47,4 +47,16 @@ public class AffectedCustomerResource {
     public Map<String, String> getTags() {
         return unmodifiableMap(tags);
     }
+
+    /**
+     * @return the approximate size of the resource JSON in bytes
+     */
+    public long estimateSerializedSize() {
+        return new JsonSizeEstimator() //
+                .withField("resourceName", name) //
+                .withField("resourceType", type) //
+                .withField("resourceInstance", instance) //
+                .withField("tags", tags) //
+                .estimate();
+    }
 }
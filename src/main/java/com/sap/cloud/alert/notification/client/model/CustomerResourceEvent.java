@@ -91,6 +91,26 @@ public class CustomerResourceEvent {
         return resource;
     }
 
+    /**
+     * Estimate the size of the event once serialized, e.g. to bound the memory taken by buffered events
+     *
+     * @return the approximate size of the event JSON in bytes
+     */
+    public long estimateSerializedSize() {
+        return new JsonSizeEstimator() //
+                .withField("id", id) //
+                .withField("eventType", type) //
+                .withField("eventTimestamp", timestamp) //
+                .withField("severity", severity) //
+                .withField("category", category) //
+                .withField("priority", priority) //
+                .withField("subject", subject) //
+                .withField("body", body) //
+                .withField("tags", tags) //
+                .withField("resource", resource.estimateSerializedSize()) //
+                .estimate();
+    }
+
     private static Integer requireValidPriority(Integer priority) {
         if (nonNull(priority) && !ALLOWED_EVENT_PRIORITY_RANGE.isValidValue(priority)) {
             throw new IllegalArgumentException();
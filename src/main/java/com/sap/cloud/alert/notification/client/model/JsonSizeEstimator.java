@@ -0,0 +1,72 @@
+package com.sap.cloud.alert.notification.client.model;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Estimates the size in bytes of the JSON the model is serialized to, without serializing it. Names and values are
+ * counted by their UTF-8 length, while the escaping of quotes and control characters is not accounted for.
+ */
+final class JsonSizeEstimator {
+
+    private static final int EMPTY_OBJECT_SIZE = 2;
+
+    private long size = EMPTY_OBJECT_SIZE;
+    private boolean hasFields;
+
+    JsonSizeEstimator withField(String name, String value) {
+        return isNull(value) ? this : withField(name, stringSize(value));
+    }
+
+    JsonSizeEstimator withField(String name, Number value) {
+        return isNull(value) ? this : withField(name, value.toString().length());
+    }
+
+    JsonSizeEstimator withField(String name, Enum<?> value) {
+        return isNull(value) ? this : withField(name, value.name());
+    }
+
+    JsonSizeEstimator withField(String name, Map<String, String> value) {
+        if (isNull(value)) {
+            return this;
+        }
+
+        JsonSizeEstimator mapSize = new JsonSizeEstimator();
+        value.forEach(mapSize::withField);
+
+        return withField(name, mapSize.estimate());
+    }
+
+    JsonSizeEstimator withField(String name, long valueSize) {
+        // The quoted name and a colon, preceded by a comma unless it is the first field
+        size += stringSize(name) + 1L + valueSize + (hasFields ? 1L : 0L);
+        hasFields = true;
+
+        return this;
+    }
+
+    long estimate() {
+        return size;
+    }
+
+    private static long stringSize(String value) {
+        long utf8Length = 0L;
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character < 0x80) {
+                utf8Length += 1L;
+            } else if (character < 0x800) {
+                utf8Length += 2L;
+            } else if (Character.isHighSurrogate(character)) {
+                // Jackson writes characters outside the basic multilingual plane as two escaped surrogates
+                utf8Length += 12L;
+                i++;
+            } else {
+                utf8Length += 3L;
+            }
+        }
+
+        return utf8Length + 2L;
+    }
+}
@@ -0,0 +1,59 @@
+package com.sap.cloud.alert.notification.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpTransportRequestTest {
+
+    private static final String TEST_METHOD = "POST";
+    private static final URI TEST_URI = URI.create("https://nowhere.com/producer/v1/resource-events");
+    private static final byte[] TEST_BODY = "{\"subject\":\"TEST_SUBJECT\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void givenByteArrayBody_whenGetBodyIsCalled_thenSameBytesAreReturned() {
+        HttpTransportRequest classUnderTest = new HttpTransportRequest(TEST_METHOD, TEST_URI, Collections.emptyMap(), TEST_BODY);
+
+        assertSame(TEST_BODY, classUnderTest.getBody());
+        assertNotNull(classUnderTest.getRequestBody());
+    }
+
+    @Test
+    public void givenNoBody_whenBodyGettersAreCalled_thenNullIsReturned() {
+        HttpTransportRequest classUnderTest = new HttpTransportRequest(TEST_METHOD, TEST_URI, Collections.emptyMap(), null);
+
+        assertNull(classUnderTest.getBody());
+        assertNull(classUnderTest.getRequestBody());
+    }
+
+    @Test
+    public void givenStreamedBody_whenGetBodyIsCalled_thenBodyIsWrittenToMemory() {
+        AtomicInteger writesCount = new AtomicInteger();
+        HttpTransportRequest classUnderTest = HttpTransportRequest.withStreamedBody(TEST_METHOD, TEST_URI, Collections.emptyMap(), outputStream -> {
+            writesCount.incrementAndGet();
+            outputStream.write(TEST_BODY);
+        });
+
+        assertEquals(0, writesCount.get());
+        assertArrayEquals(TEST_BODY, classUnderTest.getBody());
+        assertEquals(1, writesCount.get());
+    }
+
+    @Test
+    public void givenStreamedBodyIsNull_whenRequestIsCreated_thenExceptionIsThrown() {
+        assertThrows(NullPointerException.class, () -> HttpTransportRequest.withStreamedBody(TEST_METHOD, TEST_URI, Collections.emptyMap(), null));
+    }
+
+    @Test
+    public void givenEqualByteArrayBodies_whenRequestsAreCompared_thenTheyAreEqual() {
+        assertEquals(
+                new HttpTransportRequest(TEST_METHOD, TEST_URI, Collections.emptyMap(), TEST_BODY.clone()),
+                new HttpTransportRequest(TEST_METHOD, TEST_URI, Collections.emptyMap(), TEST_BODY.clone())
+        );
+    }
+}
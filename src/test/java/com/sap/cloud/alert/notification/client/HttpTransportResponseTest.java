@@ -0,0 +1,67 @@
+package com.sap.cloud.alert.notification.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpTransportResponseTest {
+
+    private static final int TEST_STATUS_CODE = 200;
+    private static final String TEST_REASON_PHRASE = "OK";
+    private static final String TEST_HEADER_NAME = "x-vcap-request-id";
+    private static final String TEST_HEADER_VALUE = "TEST_REQUEST_ID";
+    private static final byte[] TEST_BODY = "{\"subject\":\"TEST_SUBJECT\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void givenByteArrayBody_whenGettersAreCalled_thenCorrectValuesAreReturned() throws Exception {
+        HttpTransportResponse classUnderTest = new HttpTransportResponse(TEST_STATUS_CODE, TEST_REASON_PHRASE,
+                Collections.singletonMap(TEST_HEADER_NAME, TEST_HEADER_VALUE), TEST_BODY);
+
+        assertEquals(TEST_STATUS_CODE, classUnderTest.getStatusCode());
+        assertEquals(TEST_REASON_PHRASE, classUnderTest.getReasonPhrase());
+        assertEquals(TEST_HEADER_VALUE, classUnderTest.getHeader(TEST_HEADER_NAME.toUpperCase()));
+        assertSame(TEST_BODY, classUnderTest.getBody());
+        assertArrayEquals(TEST_BODY, readFully(classUnderTest.getBodyStream()));
+    }
+
+    @Test
+    public void givenNoBody_whenGetBodyIsCalled_thenEmptyBodyIsReturned() {
+        HttpTransportResponse classUnderTest = new HttpTransportResponse(TEST_STATUS_CODE, TEST_REASON_PHRASE, Collections.emptyMap(), null);
+
+        assertEquals(0, classUnderTest.getBody().length);
+    }
+
+    @Test
+    public void givenStreamedBody_whenGetBodyStreamIsCalled_thenStreamIsNotBuffered() {
+        InputStream bodyStream = new ByteArrayInputStream(TEST_BODY);
+        HttpTransportResponse classUnderTest = HttpTransportResponse.withStreamedBody(TEST_STATUS_CODE, TEST_REASON_PHRASE, Collections.emptyMap(), bodyStream);
+
+        assertSame(bodyStream, classUnderTest.getBodyStream());
+    }
+
+    @Test
+    public void givenStreamedBody_whenGetBodyIsCalled_thenBodyIsReadOnceAndKept() throws Exception {
+        HttpTransportResponse classUnderTest = HttpTransportResponse.withStreamedBody(TEST_STATUS_CODE, TEST_REASON_PHRASE, Collections.emptyMap(),
+                new ByteArrayInputStream(TEST_BODY));
+
+        assertArrayEquals(TEST_BODY, classUnderTest.getBody());
+        assertArrayEquals(TEST_BODY, classUnderTest.getBody());
+        assertArrayEquals(TEST_BODY, readFully(classUnderTest.getBodyStream()));
+    }
+
+    @Test
+    public void givenStreamedBodyIsNull_whenResponseIsCreated_thenExceptionIsThrown() {
+        assertThrows(NullPointerException.class, () -> HttpTransportResponse.withStreamedBody(TEST_STATUS_CODE, TEST_REASON_PHRASE, Collections.emptyMap(), null));
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws Exception {
+        byte[] content = new byte[inputStream.available()];
+        assertEquals(content.length, inputStream.read(content));
+        return content;
+    }
+}
@@ -2,7 +2,9 @@ package com.sap.cloud.alert.notification.client.builder;
 
 import com.sap.cloud.alert.notification.client.IAlertNotificationClient;
 import com.sap.cloud.alert.notification.client.ICustomerResourceEventBuffer;
+import com.sap.cloud.alert.notification.client.internal.AdaptiveConcurrencyLimiter;
 import com.sap.cloud.alert.notification.client.internal.AlertNotificationAsyncClient;
+import com.sap.cloud.alert.notification.client.internal.BoundedConcurrencyExecutorService;
 import com.sap.cloud.alert.notification.client.internal.InMemoryCustomerResourceEventBuffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class AlertNotificationAsyncClientBuilderTest {
@@ -42,7 +47,8 @@ public class AlertNotificationAsyncClientBuilderTest {
 
         assertEquals(testEventBuffer, createdClient.getEventBuffer());
         assertEquals(testAlertNotificationClient, createdClient.getAlertNotificationClient());
-        assertEquals(TEST_ORDERED_EVENT_SENDERS_COUNT, createdClient.getOrderedEventExecutorServices().size());
+        assertEquals(TEST_ORDERED_EVENT_SENDERS_COUNT, createdClient.getOrderedEventSendersCount());
+        assertEquals(createdClient.getExecutorService(), createdClient.getOrderedEventsExecutor().getExecutorService());
     }
 
     @Test
@@ -50,7 +56,8 @@ public class AlertNotificationAsyncClientBuilderTest {
         AlertNotificationAsyncClient createdClient = classUnderTest.build();
 
         assertEquals(testAlertNotificationClient, createdClient.getAlertNotificationClient());
-        assertEquals(0, createdClient.getOrderedEventExecutorServices().size());
+        assertEquals(0, createdClient.getOrderedEventSendersCount());
+        assertNull(createdClient.getOrderedEventsExecutor());
     }
 
     @Test
@@ -73,4 +80,33 @@ public class AlertNotificationAsyncClientBuilderTest {
                     .build();
         });
     }
+
+    @Test
+    public void givenThatVirtualThreadsAreRequested_whenBuildIsCalled_thenConcurrencyBoundedExecutorIsUsed() {
+        AlertNotificationAsyncClient createdClient = classUnderTest
+                .withEventBuffer(testEventBuffer)
+                .withVirtualThreads(TEST_MAX_THREADS_COUNT)
+                .build();
+
+        try {
+            assertTrue(createdClient.getExecutorService() instanceof BoundedConcurrencyExecutorService);
+            assertEquals(TEST_MAX_THREADS_COUNT, ((BoundedConcurrencyExecutorService) createdClient.getExecutorService()).getMaxConcurrency());
+        } finally {
+            createdClient.shutdown();
+        }
+    }
+
+    @Test
+    public void givenThatAdaptiveConcurrencyIsRequested_whenBuildIsCalled_thenConcurrencyLimiterIsUsed() {
+        AdaptiveConcurrencyLimiter testConcurrencyLimiter = new AdaptiveConcurrencyLimiter();
+
+        assertNull(classUnderTest.build().getConcurrencyLimiter());
+        assertEquals(testConcurrencyLimiter, classUnderTest.withAdaptiveConcurrency(testConcurrencyLimiter).build().getConcurrencyLimiter());
+        assertNotNull(classUnderTest.withAdaptiveConcurrency().build().getConcurrencyLimiter());
+    }
+
+    @Test
+    public void givenThatNonPositiveMaxConcurrentRequestsCountIsGiven_whenWithVirtualThreadsIsCalled_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> classUnderTest.withVirtualThreads(0));
+    }
 }
@@ -1,19 +1,25 @@
 package com.sap.cloud.alert.notification.client.builder;
 
 import com.sap.cloud.alert.notification.client.IAlertNotificationClient;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
 import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.internal.ApacheHttp2Transport;
 import com.sap.cloud.alert.notification.client.internal.AlertNotificationClient;
 import com.sap.cloud.alert.notification.client.internal.BasicAuthorizationHeader;
+import com.sap.cloud.alert.notification.client.internal.CircuitBreakerHttpTransport;
+import com.sap.cloud.alert.notification.client.internal.GzipHttpTransport;
 import com.sap.cloud.alert.notification.client.internal.OAuthAuthorizationHeader;
 import com.sap.cloud.alert.notification.client.internal.SimpleRetryPolicy;
 import com.sap.cloud.alert.notification.client.model.AlertNotificationServiceBinding;
 import com.sap.cloud.alert.notification.client.model.DestinationServiceBinding;
 import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpHead;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.net.URI;
 
 import static com.sap.cloud.alert.notification.client.TestUtils.*;
@@ -21,6 +27,7 @@ import static org.apache.http.impl.client.HttpClients.createDefault;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AlertNotificationClientBuilderTest {
@@ -122,6 +129,79 @@ public class AlertNotificationClientBuilderTest {
         assertEquals(((SimpleRetryPolicy) testRetryPolicy).getMaxRetries(), ((SimpleRetryPolicy) createdClient.getRetryPolicy()).getMaxRetries());
     }
 
+    @Test
+    public void givenThatHttpTransportIsGiven_whenBuildIsCalled_thenClientUsingTheTransportIsCreated() {
+        IHttpTransport testHttpTransport = mock(IHttpTransport.class);
+
+        AlertNotificationClient createdClient = classUnderTest.withRetryPolicy(testRetryPolicy).withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withHttpTransport(testHttpTransport).build();
+
+        assertEquals(testHttpTransport, createdClient.getHttpTransport());
+        assertEquals(testServiceRegion, createdClient.getServiceRegion());
+        assertEquals(new BasicAuthorizationHeader(TEST_CLIENT_ID, TEST_CLIENT_SECRET).getValue(), createdClient.getAuthorizationHeader().getValue());
+    }
+
+    @Test
+    public void givenThatHttpTransportIsGivenWithCertificateAuthentication_whenBuildIsCalled_thenExceptionIsThrown() {
+        assertThrows(ClientRequestException.class, () -> classUnderTest.withServiceRegion(testServiceRegion)
+                .withCertificate(TEST_CERTIFICATE, TEST_PRIVATE_KEY).withHttpTransport(mock(IHttpTransport.class)).build());
+    }
+
+    @Test
+    public void givenThatHttp2TransportIsRequested_whenBuildIsCalled_thenHttp2TransportIsUsed() {
+        AlertNotificationClient createdClient = new AlertNotificationClientBuilder().withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withHttp2Transport().build();
+
+        assertTrue(createdClient.getHttpTransport() instanceof ApacheHttp2Transport);
+        assertTrue(createdClient.isNonBlocking());
+    }
+
+    @Test
+    public void givenThatHttpClientIsGivenWithNonBlockingOrHttp2Transport_whenBuildIsCalled_thenExceptionIsThrown() {
+        assertThrows(ClientRequestException.class, () -> new AlertNotificationClientBuilder().withHttpClient(testHttpClient).withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withNonBlockingTransport().build());
+        assertThrows(ClientRequestException.class, () -> classUnderTest.withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withHttp2Transport().build());
+    }
+
+    @Test
+    public void givenThatCompressionIsRequested_whenBuildIsCalled_thenGzipTransportIsUsed() {
+        AlertNotificationClient createdClient = classUnderTest.withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withCompression().build();
+
+        assertTrue(createdClient.getHttpTransport() instanceof GzipHttpTransport);
+        assertEquals(GzipHttpTransport.DEFAULT_COMPRESSION_THRESHOLD, ((GzipHttpTransport) createdClient.getHttpTransport()).getCompressionThreshold());
+    }
+
+    @Test
+    public void givenThatCircuitBreakerIsRequested_whenBuildIsCalled_thenCircuitBreakerTransportWrapsCompression() {
+        AlertNotificationClient createdClient = classUnderTest.withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withCompression().withCircuitBreaker().build();
+
+        assertTrue(createdClient.getHttpTransport() instanceof CircuitBreakerHttpTransport);
+        assertTrue(((CircuitBreakerHttpTransport) createdClient.getHttpTransport()).getHttpTransport() instanceof GzipHttpTransport);
+    }
+
+    @Test
+    public void givenNonPositiveCompressionThreshold_whenWithCompressionIsCalled_thenExceptionIsThrown() {
+        assertThrows(ClientRequestException.class, () -> classUnderTest.withCompression(0));
+    }
+
+    @Test
+    public void givenNonPositiveConnectionsCount_whenWithWarmUpIsCalled_thenExceptionIsThrown() {
+        assertThrows(ClientRequestException.class, () -> classUnderTest.withWarmUp(0));
+    }
+
+    @Test
+    public void givenThatWarmUpIsRequested_andServiceRegionIsUnreachable_whenBuildIsCalled_thenExceptionIsThrown() throws Exception {
+        when(testHttpClient.execute(any())).thenThrow(new IOException());
+
+        assertThrows(ClientRequestException.class, () -> classUnderTest.withServiceRegion(testServiceRegion)
+                .withAuthentication(TEST_CLIENT_ID, TEST_CLIENT_SECRET).withWarmUp().build());
+
+        verify(testHttpClient).execute(any(HttpHead.class));
+    }
+
     @Test
     public void givenThatAuthenticationWithCertificateIsUsed_whenBuildIsCalled_thenCorrectClientIsCreated() {
         AlertNotificationClient createdClient = classUnderTest.withRetryPolicy(testRetryPolicy).withServiceRegion(testServiceRegion)
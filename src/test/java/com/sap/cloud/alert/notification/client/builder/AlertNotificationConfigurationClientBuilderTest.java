@@ -240,6 +240,16 @@ public class AlertNotificationConfigurationClientBuilderTest {
         assertEquals(((SimpleRetryPolicy) TEST_RETRY_POLICY).getMaxRetries(),  ((SimpleRetryPolicy) alertNotificationConfigurationClient.getRetryPolicy()).getMaxRetries());
     }
 
+    @Test
+    public void givenThatHttpClientIsGivenWithHttp2Transport_whenBuildIsCalled_thenExceptionIsThrown() {
+        assertThrows(ClientRequestException.class, () -> classUnderTest //
+                .withHttpClient(TEST_HTTP_CLIENT) //
+                .withHttp2Transport() //
+                .withServiceRegion(TEST_SERVICE_REGION)
+                .build()
+        );
+    }
+
     @Test
     public void givenThatHttpClientIsGiven_whenBuildIsCalled_thenUseProvidedHttpClient() {
         assertEquals(new AlertNotificationClientBuilder(TEST_HTTP_CLIENT).withServiceRegion(TEST_SERVICE_REGION).build().getHttpClient(), TEST_HTTP_CLIENT);
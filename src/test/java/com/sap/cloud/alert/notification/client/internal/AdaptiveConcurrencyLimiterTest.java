@@ -0,0 +1,193 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.sap.cloud.alert.notification.client.internal.ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final String TEST_RESULT = "TEST_RESULT";
+    private static final int TEST_MIN_LIMIT = 1;
+    private static final int TEST_INITIAL_LIMIT = 4;
+    private static final int TEST_MAX_LIMIT = 100;
+
+    private List<CompletableFuture<String>> sentRequests;
+    private AdaptiveConcurrencyLimiter classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        sentRequests = new ArrayList<>();
+        classUnderTest = new AdaptiveConcurrencyLimiter(TEST_MIN_LIMIT, TEST_INITIAL_LIMIT, TEST_MAX_LIMIT);
+    }
+
+    @Test
+    public void whenGettersAreCalled_thenCorrectValuesAreReturned() {
+        assertEquals(TEST_MIN_LIMIT, classUnderTest.getMinLimit());
+        assertEquals(TEST_INITIAL_LIMIT, classUnderTest.getLimit());
+        assertEquals(TEST_MAX_LIMIT, classUnderTest.getMaxLimit());
+        assertEquals(0, classUnderTest.getInFlightCount());
+    }
+
+    @Test
+    public void givenInvalidLimits_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(0, TEST_INITIAL_LIMIT, TEST_MAX_LIMIT));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(TEST_INITIAL_LIMIT, TEST_MIN_LIMIT, TEST_MAX_LIMIT));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(TEST_MIN_LIMIT, TEST_MAX_LIMIT, TEST_INITIAL_LIMIT));
+    }
+
+    @Test
+    public void givenRequestsOverLimit_whenExecuteIsCalled_thenTheyWaitUntilOthersComplete() throws Exception {
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < TEST_INITIAL_LIMIT + 2; i++) {
+            results.add(classUnderTest.execute(this::sendRequest));
+        }
+
+        assertEquals(TEST_INITIAL_LIMIT, sentRequests.size());
+        assertEquals(TEST_INITIAL_LIMIT, classUnderTest.getInFlightCount());
+        assertEquals(2, classUnderTest.getWaitingCount());
+
+        sentRequests.get(0).complete(TEST_RESULT);
+        sentRequests.get(1).complete(TEST_RESULT);
+
+        assertEquals(TEST_INITIAL_LIMIT + 2, sentRequests.size());
+        assertEquals(0, classUnderTest.getWaitingCount());
+        assertEquals(TEST_RESULT, results.get(0).get(5, SECONDS));
+        assertFalse(results.get(TEST_INITIAL_LIMIT).isDone());
+    }
+
+    @Test
+    public void givenThrottledRequests_whenTheyComplete_thenLimitIsDecreasedOncePerRoundTrip() {
+        for (int i = 0; i < TEST_INITIAL_LIMIT; i++) {
+            classUnderTest.execute(this::sendRequest);
+        }
+
+        sentRequests.forEach(request -> request.completeExceptionally(new ServerResponseException("", SC_TOO_MANY_REQUESTS, null)));
+
+        assertEquals((int) (TEST_INITIAL_LIMIT * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), classUnderTest.getLimit());
+        assertEquals(0, classUnderTest.getInFlightCount());
+    }
+
+    @Test
+    public void givenFailuresOtherThanThrottling_whenTheyComplete_thenLimitIsKept() {
+        for (int i = 0; i < TEST_INITIAL_LIMIT; i++) {
+            classUnderTest.execute(this::sendRequest);
+        }
+
+        sentRequests.forEach(request -> request.completeExceptionally(new ServerResponseException("", SC_BAD_REQUEST, null)));
+
+        assertEquals(TEST_INITIAL_LIMIT, classUnderTest.getLimit());
+    }
+
+    @Test
+    public void givenFastSuccessfulRequests_whenLimitIsInUse_thenLimitIsIncreased() throws Exception {
+        ScheduledExecutorService latencyInjector = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                results.add(classUnderTest.execute(() -> respondAfter(latencyInjector, 5L, () -> TEST_RESULT)));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(30, SECONDS);
+        } finally {
+            latencyInjector.shutdownNow();
+        }
+
+        assertTrue(classUnderTest.getLimit() > TEST_INITIAL_LIMIT);
+    }
+
+    @Test
+    public void givenLatencyIncrease_whenRequestCompletes_thenLimitIsDecreased() throws Exception {
+        ScheduledExecutorService latencyInjector = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            classUnderTest.execute(() -> respondAfter(latencyInjector, 10L, () -> TEST_RESULT)).get(5, SECONDS);
+            classUnderTest.execute(() -> respondAfter(latencyInjector, 100L, () -> TEST_RESULT)).get(5, SECONDS);
+        } finally {
+            latencyInjector.shutdownNow();
+        }
+
+        assertEquals((int) (TEST_INITIAL_LIMIT * AdaptiveConcurrencyLimiter.BACKOFF_RATIO), classUnderTest.getLimit());
+    }
+
+    @Test
+    public void givenRequestWhichCannotBeStarted_whenExecuteIsCalled_thenExceptionIsThrown_and_itsPlaceIsReleased() {
+        assertThrows(RejectedExecutionException.class, () -> classUnderTest.execute(() -> {
+            throw new RejectedExecutionException();
+        }));
+
+        assertEquals(0, classUnderTest.getInFlightCount());
+    }
+
+    @Test
+    public void givenServiceThrottlingOverItsCapacity_whenManyRequestsAreSent_thenLimitSettlesAroundCapacity() throws Exception {
+        int serviceCapacity = 20;
+        int requestsCount = 3000;
+        AtomicInteger serviceInFlightCount = new AtomicInteger();
+        AtomicInteger throttledCount = new AtomicInteger();
+        ScheduledExecutorService latencyInjector = Executors.newScheduledThreadPool(4);
+        classUnderTest = new AdaptiveConcurrencyLimiter(TEST_MIN_LIMIT, TEST_INITIAL_LIMIT, TEST_MAX_LIMIT);
+
+        try {
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < requestsCount; i++) {
+                results.add(classUnderTest.execute(() -> {
+                    // A throttled request takes none of the capacity of the service
+                    if (serviceInFlightCount.incrementAndGet() > serviceCapacity) {
+                        serviceInFlightCount.decrementAndGet();
+                        throttledCount.incrementAndGet();
+                        return respondAfter(latencyInjector, 1L, () -> {
+                            throw new ServerResponseException("", SC_TOO_MANY_REQUESTS, null);
+                        });
+                    }
+
+                    return respondAfter(latencyInjector, 5L, () -> {
+                        serviceInFlightCount.decrementAndGet();
+                        return TEST_RESULT;
+                    });
+                }).exceptionally(exception -> null));
+            }
+            CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(60, SECONDS);
+        } finally {
+            latencyInjector.shutdownNow();
+        }
+
+        assertTrue(classUnderTest.getLimit() >= serviceCapacity / 2, "limit " + classUnderTest.getLimit());
+        assertTrue(classUnderTest.getLimit() <= serviceCapacity * 3 / 2, "limit " + classUnderTest.getLimit());
+        assertTrue(throttledCount.get() < requestsCount / 10, "throttled " + throttledCount.get());
+    }
+
+    private CompletableFuture<String> sendRequest() {
+        CompletableFuture<String> sentRequest = new CompletableFuture<>();
+        sentRequests.add(sentRequest);
+
+        return sentRequest;
+    }
+
+    private static CompletableFuture<String> respondAfter(ScheduledExecutorService latencyInjector, long latencyMillis, Supplier<String> response) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        latencyInjector.schedule(() -> {
+            try {
+                result.complete(response.get());
+            } catch (RuntimeException exception) {
+                result.completeExceptionally(exception);
+            }
+        }, latencyMillis, MILLISECONDS);
+
+        return result;
+    }
+}
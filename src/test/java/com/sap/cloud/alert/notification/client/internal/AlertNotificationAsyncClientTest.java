@@ -1,46 +1,74 @@
 package com.sap.cloud.alert.notification.client.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sap.cloud.alert.notification.client.*;
 import com.sap.cloud.alert.notification.client.builder.AlertNotificationAsyncClientBuilder;
+import com.sap.cloud.alert.notification.client.builder.AlertNotificationClientBuilder;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
 import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
 import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
 import com.sap.cloud.alert.notification.client.model.AffectedCustomerResource;
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
 import com.sap.cloud.alert.notification.client.model.PagedResponse;
 import com.sap.cloud.alert.notification.client.util.SynchronousExecutorService;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static com.sap.cloud.alert.notification.client.Platform.CF;
 import static com.sap.cloud.alert.notification.client.QueryParameter.CORRELATION_ID;
 import static com.sap.cloud.alert.notification.client.model.EventCategory.NOTIFICATION;
 import static com.sap.cloud.alert.notification.client.model.EventSeverity.INFO;
 import static com.sap.cloud.alert.notification.client.model.PredefinedEventTag.SOURCE_EVENT_ID;
 import static java.lang.Integer.valueOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
+import static java.util.Objects.isNull;
 import static java.util.concurrent.Executors.newFixedThreadPool;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 public class AlertNotificationAsyncClientTest {
 
     private static final String TEST_EVENT_ID = "TEST_EVENT_ID";
+    private static final int OVERLOAD_EVENTS_COUNT = 50;
     private static final Map<QueryParameter, String> TEST_QUERY_PARAMETERS = singletonMap(CORRELATION_ID, "test_correlation_id");
 
     private PagedResponse testPagedResponse;
@@ -87,10 +115,10 @@ public class AlertNotificationAsyncClientTest {
     }
 
     @Test
-    public void whenGetOrderedEventExecutorServicesIsCalled_thenCorrectResultIsReturned() {
-        assertEquals(0, classUnderTest.getOrderedEventExecutorServices().size());
-        assertEquals(3, new AlertNotificationAsyncClient(testExecutorService, testEventBuffer, testAlertNotificationClient, 3)
-                .getOrderedEventExecutorServices().size());
+    public void whenGetOrderedEventsExecutorIsCalled_thenCorrectResultIsReturned() {
+        assertNull(classUnderTest.getOrderedEventsExecutor());
+        assertSame(testExecutorService, new AlertNotificationAsyncClient(testExecutorService, testEventBuffer, testAlertNotificationClient, 3)
+                .getOrderedEventsExecutor().getExecutorService());
     }
 
     @Test
@@ -115,6 +143,60 @@ public class AlertNotificationAsyncClientTest {
                 });
     }
 
+    @Test
+    public void givenThatBufferIsFull_whenTrySendIsCalled_thenEventIsNotAccepted() {
+        ExecutorService idleExecutorService = mock(ExecutorService.class);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClient(idleExecutorService, new InMemoryCustomerResourceEventBuffer(1), testAlertNotificationClient);
+
+        assertTrue(asyncClient.trySend(testResourceEvent).isPresent());
+        assertFalse(asyncClient.trySend(testResourceEvent).isPresent());
+        verify(idleExecutorService, times(1)).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void givenThatExecutorServiceRejectsEvent_whenSendEventIsCalled_thenBufferCapacityIsFreed() {
+        ExecutorService rejectingExecutorService = mock(ExecutorService.class);
+        ICustomerResourceEventBuffer eventBuffer = new InMemoryCustomerResourceEventBuffer(1);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClient(rejectingExecutorService, eventBuffer, testAlertNotificationClient);
+        doThrow(BufferOverflowException.class).when(rejectingExecutorService).execute(any(Runnable.class));
+
+        assertThrows(BufferOverflowException.class, () -> asyncClient.sendEvent(testResourceEvent));
+        assertFalse(asyncClient.trySend(testResourceEvent).isPresent());
+        assertNotNull(eventBuffer.tryWrite(testResourceEvent));
+    }
+
+    @Test
+    public void givenOverloadedClient_whenEventsAreSentWithoutWaiting_thenSomeEventsAreRejected() {
+        AlertNotificationAsyncClient asyncClient = buildOverloadedClient();
+        int rejectedEventsCount = 0;
+
+        for (int i = 0; i < OVERLOAD_EVENTS_COUNT; i++) {
+            try {
+                asyncClient.sendEvent(testResourceEvent);
+            } catch (BufferOverflowException exception) {
+                rejectedEventsCount++;
+            }
+        }
+        asyncClient.shutdown();
+
+        assertTrue(rejectedEventsCount > 0);
+    }
+
+    @Test
+    public void givenOverloadedClient_whenEventsAreSentWithTimeout_thenProducerIsSlowedDownAndNoEventIsLost() throws Exception {
+        AlertNotificationAsyncClient asyncClient = buildOverloadedClient();
+        List<CompletableFuture<CustomerResourceEvent>> sentEvents = new ArrayList<>();
+
+        for (int i = 0; i < OVERLOAD_EVENTS_COUNT; i++) {
+            sentEvents.add(asyncClient.sendEvent(testResourceEvent, Duration.ofSeconds(5L)));
+        }
+        CompletableFuture.allOf(sentEvents.toArray(new CompletableFuture<?>[0])).get(10, SECONDS);
+        asyncClient.shutdown();
+
+        verify(testAlertNotificationClient, times(OVERLOAD_EVENTS_COUNT)).sendEvent(testResourceEvent);
+        sentEvents.forEach(sentEvent -> assertSame(testResourceEvent, sentEvent.join()));
+    }
+
     @Test
     public void whenGetMatchedEventsIsCalled_thenCorrectRequestIsScheduledForSending() {
         doReturn(testPagedResponse).when(testAlertNotificationClient).getMatchedEvents(TEST_QUERY_PARAMETERS);
@@ -170,6 +252,346 @@ public class AlertNotificationAsyncClientTest {
         verify(testExecutorService).shutdownNow();
     }
 
+    @Test
+    public void givenQueuedEvents_whenShutdownWithDeadlineIsCalled_thenTheyAreDeliveredBeforeExecutorServiceIsStopped() {
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sendingReleased.await(10, SECONDS);
+            return invocation.getArgument(0);
+        }).when(testAlertNotificationClient).sendEvent(testResourceEvent);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                .withThreadsCount(2, 2)
+                .build();
+        for (int i = 0; i < 10; i++) {
+            asyncClient.sendEvent(testResourceEvent);
+        }
+        CompletableFuture.runAsync(() -> {
+            sleepQuietly(200L);
+            sendingReleased.countDown();
+        });
+
+        ShutdownReport report = asyncClient.shutdown(Duration.ofSeconds(10L));
+
+        assertEquals(10, report.getDeliveredEventsCount());
+        assertTrue(report.isFullyDrained());
+        assertTrue(asyncClient.getExecutorService().isShutdown());
+        verify(testAlertNotificationClient, times(10)).sendEvent(testResourceEvent);
+    }
+
+    @Test
+    public void givenEventsWhichCannotBeSentInTime_whenShutdownWithDeadlineIsCalled_thenTheyAreReportedAsUndelivered() {
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        CustomerResourceEvent failingEvent = mock(CustomerResourceEvent.class);
+        CustomerResourceEvent blockedEvent = mock(CustomerResourceEvent.class);
+        doReturn(testResourceEvent).when(testAlertNotificationClient).sendEvent(testResourceEvent);
+        doThrow(ClientRequestException.class).when(testAlertNotificationClient).sendEvent(failingEvent);
+        doAnswer(invocation -> sendingReleased.await(10, SECONDS)).when(testAlertNotificationClient).sendEvent(blockedEvent);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                .withThreadsCount(2, 2)
+                .build();
+
+        try {
+            asyncClient.sendEvent(blockedEvent);
+            asyncClient.sendEvent(testResourceEvent);
+            asyncClient.sendEvent(failingEvent);
+
+            ShutdownReport report = asyncClient.shutdown(Duration.ofMillis(500L));
+
+            assertEquals(1, report.getDeliveredEventsCount());
+            assertFalse(report.isFullyDrained());
+            assertEquals(2, report.getUndeliveredEvents().size());
+            assertTrue(report.getUndeliveredEvents().containsAll(asList(blockedEvent, failingEvent)));
+        } finally {
+            sendingReleased.countDown();
+        }
+    }
+
+    @Test
+    public void givenEventsLeftInDurableBuffer_whenClientIsBuilt_thenTheyAreReplayedAndAcknowledged(@TempDir Path bufferDirectory) throws Exception {
+        CustomerResourceEvent undeliveredEvent = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject", "test_body",
+                singletonMap(TEST_EVENT_ID, TEST_EVENT_ID), new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap()));
+        WriteAheadLogCustomerResourceEventBuffer crashedBuffer = new WriteAheadLogCustomerResourceEventBuffer(bufferDirectory, 10);
+        crashedBuffer.write(undeliveredEvent);
+        crashedBuffer.close();
+        List<CustomerResourceEvent> sentEvents = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sentEvents.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        }).when(testAlertNotificationClient).sendEvent(any(CustomerResourceEvent.class));
+        WriteAheadLogCustomerResourceEventBuffer reopenedBuffer = new WriteAheadLogCustomerResourceEventBuffer(bufferDirectory, 10);
+
+        try {
+            AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                    .withEventBuffer(reopenedBuffer)
+                    .build();
+
+            assertTrue(asyncClient.shutdown(Duration.ofSeconds(5L)).isFullyDrained());
+            assertEquals(1, sentEvents.size());
+            assertEquals(undeliveredEvent.getSubject(), sentEvents.get(0).getSubject());
+            assertEquals(undeliveredEvent.getTags(), sentEvents.get(0).getTags());
+        } finally {
+            reopenedBuffer.close();
+        }
+
+        WriteAheadLogCustomerResourceEventBuffer restartedBuffer = new WriteAheadLogCustomerResourceEventBuffer(bufferDirectory, 10);
+        try {
+            assertTrue(restartedBuffer.takeRecoveredEvents().isEmpty());
+        } finally {
+            restartedBuffer.close();
+        }
+    }
+
+    @Test
+    public void givenEventWaitingForRetry_whenJvmCrashes_thenDurableBufferRecoversIt(@TempDir Path bufferDirectory) throws Exception {
+        CustomerResourceEvent event = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject", "test_body",
+                null, new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap()));
+        CountDownLatch firstAttempt = new CountDownLatch(1);
+        IHttpTransport testTransport = request -> {
+            firstAttempt.countDown();
+            return new HttpTransportResponse(503, null, emptyMap(), null);
+        };
+        AlertNotificationClient client = new AlertNotificationClient(testTransport, new SimpleRetryPolicy(1, Duration.ofSeconds(10L)), ServiceRegion.AE1,
+                mock(IAuthorizationHeader.class), null, null);
+        WriteAheadLogCustomerResourceEventBuffer crashedBuffer = new WriteAheadLogCustomerResourceEventBuffer(bufferDirectory, 10);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(client).withEventBuffer(crashedBuffer).build();
+
+        asyncClient.sendEvent(event);
+        assertTrue(firstAttempt.await(5L, SECONDS));
+        // The records written so far are all that is left of the buffer after a crash
+        crashedBuffer.close();
+        asyncClient.shutdown();
+
+        WriteAheadLogCustomerResourceEventBuffer restartedBuffer = new WriteAheadLogCustomerResourceEventBuffer(bufferDirectory, 10);
+        try {
+            Map<UUID, CustomerResourceEvent> recoveredEvents = restartedBuffer.takeRecoveredEvents();
+
+            assertEquals(1, recoveredEvents.size());
+            assertEquals(event.getSubject(), recoveredEvents.values().iterator().next().getSubject());
+        } finally {
+            restartedBuffer.close();
+        }
+    }
+
+    @Test
+    public void givenTieredBuffer_whenEventsWaitToBeSent_thenSpilledEventsAreNotKeptOnTheHeap(@TempDir Path spillDirectory) throws Exception {
+        int eventsCount = 10;
+        int memoryCapacity = 2;
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        List<String> sentSubjects = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            sendingReleased.await(10, SECONDS);
+            sentSubjects.add(invocation.<CustomerResourceEvent>getArgument(0).getSubject());
+            return null;
+        }).when(testAlertNotificationClient).sendEvent(any(CustomerResourceEvent.class));
+        TieredCustomerResourceEventBuffer tieredBuffer = new TieredCustomerResourceEventBuffer(memoryCapacity, spillDirectory, 100);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                .withThreadsCount(1, 1)
+                .withEventBuffer(tieredBuffer)
+                .build();
+
+        try {
+            List<WeakReference<CustomerResourceEvent>> sentEvents = new ArrayList<>();
+            List<CompletableFuture<CustomerResourceEvent>> sentEventFutures = new ArrayList<>();
+            for (int i = 0; i < eventsCount; i++) {
+                CustomerResourceEvent event = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject_" + i, "test_body",
+                        null, new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap()));
+                sentEvents.add(new WeakReference<>(event));
+                sentEventFutures.add(asyncClient.sendEvent(event));
+            }
+
+            // Only the event in flight and those in memory stay reachable
+            for (int i = 0; i < 50 && countReachable(sentEvents) > memoryCapacity + 1; i++) {
+                System.gc();
+                sleepQuietly(10L);
+            }
+
+            assertTrue(countReachable(sentEvents) <= memoryCapacity + 1, "reachable " + countReachable(sentEvents));
+            assertTrue(tieredBuffer.getSpilledSize() > 0);
+            assertTrue(((ThreadPoolExecutor) asyncClient.getExecutorService()).getQueue() instanceof LinkedBlockingQueue);
+
+            sendingReleased.countDown();
+
+            CompletableFuture.allOf(sentEventFutures.toArray(new CompletableFuture<?>[0])).get(10, SECONDS);
+            assertEquals(IntStream.range(0, eventsCount).mapToObj(i -> "test_subject_" + i).collect(toList()), sentSubjects);
+        } finally {
+            sendingReleased.countDown();
+            asyncClient.shutdown();
+            tieredBuffer.close();
+        }
+    }
+
+    @Test
+    public void givenSerializingBuffer_whenSendEventIsCalled_thenEventIsSentWithoutBeingDeserialized() throws Exception {
+        CustomerResourceEvent event = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject", "test_body",
+                null, new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap()));
+        OffHeapCustomerResourceEventBuffer serializingBuffer = new OffHeapCustomerResourceEventBuffer(10, 64 * 1024);
+        AlertNotificationClient serializedEventsClient = mock(AlertNotificationClient.class);
+        doReturn(new SimpleRetryPolicy()).when(serializedEventsClient).getRetryPolicy();
+        doReturn(event).when(serializedEventsClient).sendSerializedEventOnce(any(byte[].class));
+        classUnderTest = new AlertNotificationAsyncClient(testExecutorService, serializingBuffer, serializedEventsClient);
+
+        assertSame(event, classUnderTest.sendEvent(event).get(5, SECONDS));
+
+        verify(serializedEventsClient).sendSerializedEventOnce(new ObjectMapper().setSerializationInclusion(NON_NULL).writeValueAsBytes(event));
+        verify(serializedEventsClient, never()).sendEvent(any(CustomerResourceEvent.class));
+        assertEquals(0, serializingBuffer.getSize());
+    }
+
+    @Test
+    public void givenSerializingBuffer_whenSerializedEventCannotBeSentBeforeShutdown_thenItIsReportedAsUndelivered() {
+        CustomerResourceEvent event = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject", "test_body",
+                null, new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap()));
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        AlertNotificationClient serializedEventsClient = mock(AlertNotificationClient.class);
+        doAnswer(invocation -> {
+            sendingReleased.await(10, SECONDS);
+            throw new ClientRequestException("test_failure");
+        }).when(serializedEventsClient).sendSerializedEventOnce(any(byte[].class));
+        doReturn(new SimpleRetryPolicy()).when(serializedEventsClient).getRetryPolicy();
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(serializedEventsClient)
+                .withThreadsCount(1, 1)
+                .withEventBuffer(new OffHeapCustomerResourceEventBuffer(10, 64 * 1024))
+                .build();
+
+        try {
+            asyncClient.sendEvent(event);
+            asyncClient.sendEvent(event);
+
+            ShutdownReport report = asyncClient.shutdown(Duration.ofMillis(200L));
+
+            assertEquals(2, report.getUndeliveredEvents().size());
+            report.getUndeliveredEvents().forEach(undeliveredEvent -> assertEquals(event.getSubject(), undeliveredEvent.getSubject()));
+        } finally {
+            sendingReleased.countDown();
+        }
+    }
+
+    @Test
+    public void givenThatEventWaitsForRetry_whenAnotherEventIsSent_thenItIsNotBlockedByTheBackoff() throws Exception {
+        AffectedCustomerResource resource = new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap());
+        CustomerResourceEvent failingEvent = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "FAILING", "test_body", null, resource);
+        CustomerResourceEvent healthyEvent = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "HEALTHY", "test_body", null, resource);
+        AtomicInteger failingEventAttempts = new AtomicInteger();
+        IHttpTransport testTransport = request -> {
+            String requestBody = new String(request.getBody(), UTF_8);
+            if (requestBody.contains("FAILING")) {
+                failingEventAttempts.incrementAndGet();
+                return new HttpTransportResponse(503, null, emptyMap(), null);
+            }
+
+            return new HttpTransportResponse(201, null, emptyMap(), request.getBody());
+        };
+        AlertNotificationClient client = new AlertNotificationClient(testTransport, new SimpleRetryPolicy(1, Duration.ofSeconds(2L)), ServiceRegion.AE1,
+                mock(IAuthorizationHeader.class), null, null);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(client).withThreadsCount(1, 1).build();
+
+        try {
+            CompletableFuture<CustomerResourceEvent> failingSend = asyncClient.sendEvent(failingEvent);
+            CompletableFuture<CustomerResourceEvent> healthySend = asyncClient.sendEvent(healthyEvent);
+
+            assertEquals("HEALTHY", healthySend.get(1, SECONDS).getSubject());
+            assertFalse(failingSend.isDone());
+            assertEquals(1, failingEventAttempts.get());
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> failingSend.get(10, SECONDS));
+            assertEquals(ServerResponseException.class, exception.getCause().getClass());
+            assertEquals(2, failingEventAttempts.get());
+        } finally {
+            asyncClient.shutdown();
+        }
+    }
+
+    @Test
+    public void givenRetryPolicyWithoutAsynchronousRetries_whenRequestsAreRetried_thenAllAttemptsRunOnTheExecutor() throws Exception {
+        AffectedCustomerResource resource = new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap());
+        CustomerResourceEvent event = new CustomerResourceEvent(null, "test_type", null, INFO, NOTIFICATION, null, "test_subject", "test_body", null, resource);
+        List<String> attemptThreadNames = new CopyOnWriteArrayList<>();
+        AtomicInteger attemptsCount = new AtomicInteger();
+        IHttpTransport testTransport = request -> {
+            attemptThreadNames.add(Thread.currentThread().getName());
+            if (attemptsCount.incrementAndGet() % 2 == 1) {
+                return new HttpTransportResponse(503, null, emptyMap(), null);
+            }
+
+            return "GET".equals(request.getMethod()) //
+                    ? new HttpTransportResponse(200, null, emptyMap(), "{}".getBytes(UTF_8)) //
+                    : new HttpTransportResponse(201, null, emptyMap(), request.getBody());
+        };
+        IRetryPolicy retryPolicy = new IRetryPolicy() {
+            @Override
+            public <T> T executeWithRetry(Supplier<T> supplier) {
+                try {
+                    return supplier.get();
+                } catch (ServerResponseException exception) {
+                    return supplier.get();
+                }
+            }
+        };
+        AlertNotificationClient client = new AlertNotificationClient(testTransport, retryPolicy, ServiceRegion.AE1,
+                mock(IAuthorizationHeader.class), null, null);
+        AtomicInteger threadsCount = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "test-executor-" + threadsCount.incrementAndGet()));
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClient(executorService, new InMemoryCustomerResourceEventBuffer(10),
+                client, 1);
+
+        try {
+            asyncClient.sendEvent(event).get(10, SECONDS);
+            asyncClient.sendEvent(buildSourceEvent(TEST_EVENT_ID, "test_subject")).get(10, SECONDS);
+            asyncClient.getMatchedEvents(TEST_QUERY_PARAMETERS).get(10, SECONDS);
+
+            assertEquals(6, attemptThreadNames.size());
+            assertTrue(attemptThreadNames.stream().allMatch(threadName -> threadName.startsWith("test-executor-")), attemptThreadNames.toString());
+        } finally {
+            asyncClient.shutdown();
+        }
+    }
+
+    @Test
+    public void givenAdaptiveConcurrency_whenMoreEventsThanTheLimitAreSent_thenTheRestWaitWithoutHoldingThreads() throws Exception {
+        CountDownLatch sendingReleased = new CountDownLatch(1);
+        AtomicInteger startedSendsCount = new AtomicInteger();
+        doAnswer(invocation -> {
+            startedSendsCount.incrementAndGet();
+            sendingReleased.await(10, SECONDS);
+            return invocation.getArgument(0);
+        }).when(testAlertNotificationClient).sendEvent(testResourceEvent);
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(1, 2, 2);
+        AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                .withThreadsCount(4, 4)
+                .withAdaptiveConcurrency(concurrencyLimiter)
+                .build();
+
+        try {
+            List<CompletableFuture<CustomerResourceEvent>> sentEvents = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                sentEvents.add(asyncClient.sendEvent(testResourceEvent));
+            }
+            sleepQuietly(200L);
+
+            assertEquals(2, startedSendsCount.get());
+            assertEquals(2, concurrencyLimiter.getWaitingCount());
+
+            sendingReleased.countDown();
+
+            CompletableFuture.allOf(sentEvents.toArray(new CompletableFuture<?>[0])).get(10, SECONDS);
+            assertEquals(4, startedSendsCount.get());
+            assertEquals(0, concurrencyLimiter.getInFlightCount());
+        } finally {
+            asyncClient.shutdown();
+        }
+    }
+
+    @Test
+    public void givenThatClientIsShutDown_whenEventIsSent_thenItIsNotAccepted() {
+        ShutdownReport report = classUnderTest.shutdown(Duration.ofSeconds(1L));
+
+        assertTrue(report.isFullyDrained());
+        assertThrows(RejectedExecutionException.class, () -> classUnderTest.sendEvent(testResourceEvent));
+        assertFalse(classUnderTest.trySend(testResourceEvent).isPresent());
+        verify(testExecutorService).shutdownNow();
+        verify(testEventBuffer, never()).write(any(CustomerResourceEvent.class));
+    }
+
     @Test
     public void whenShutdownIsCalled_thenExecutorThreadsAreInterruptedProperly() throws Exception {
         HttpClient httpClient = mock(HttpClient.class);
@@ -258,6 +680,202 @@ public class AlertNotificationAsyncClientTest {
         });
     }
 
+    @Test
+    public void givenThatOrderedEventFails_whenItIsRetried_thenOtherSourcesAreSentDuringBackoffAndOrderIsPreserved() throws Exception {
+        List<String> receivedSubjects = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] requestBody = IOUtils.toByteArray(exchange.getRequestBody());
+            String subject = new String(requestBody, UTF_8).replaceAll(".*\"subject\"\\s*:\\s*\"([^\"]*)\".*", "$1");
+            boolean isFirstAttempt = !receivedSubjects.contains(subject);
+            receivedSubjects.add(subject);
+
+            int statusCode = "FIRST_OF_A".equals(subject) && isFirstAttempt ? 500 : 201;
+            exchange.sendResponseHeaders(statusCode, requestBody.length);
+            try (OutputStream responseStream = exchange.getResponseBody()) {
+                responseStream.write(requestBody);
+            }
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            IAlertNotificationClient alertNotificationClient = new AlertNotificationClientBuilder()
+                    .withRetryPolicy(new SimpleRetryPolicy(1, Duration.ofMillis(500L)))
+                    .withServiceRegion(new ServiceRegion(CF, "http://localhost:" + server.getAddress().getPort()))
+                    .withAuthentication("TEST_CLIENT_ID", "TEST_CLIENT_SECRET")
+                    .build();
+            AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(alertNotificationClient)
+                    .withThreadsCount(1, 1)
+                    .withOrderedEventSendersCount(1)
+                    .build();
+
+            CompletableFuture<CustomerResourceEvent> firstOfA = asyncClient.sendEvent(buildSourceEvent("A", "FIRST_OF_A"));
+            CompletableFuture<CustomerResourceEvent> secondOfA = asyncClient.sendEvent(buildSourceEvent("A", "SECOND_OF_A"));
+            CompletableFuture<CustomerResourceEvent> firstOfB = asyncClient.sendEvent(buildSourceEvent("B", "FIRST_OF_B"));
+
+            assertEquals("FIRST_OF_B", firstOfB.get(10, SECONDS).getSubject());
+            assertFalse(firstOfA.isDone());
+            assertEquals("FIRST_OF_A", firstOfA.get(10, SECONDS).getSubject());
+            assertEquals("SECOND_OF_A", secondOfA.get(10, SECONDS).getSubject());
+            asyncClient.shutdown();
+
+            assertEquals(asList("FIRST_OF_A", "FIRST_OF_B", "FIRST_OF_A", "SECOND_OF_A"), receivedSubjects);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void givenThatConnectionPoolAllowsMoreThanTwoConnectionsPerRoute_whenSendingConcurrentEvents_thenAllEventsAreSentInParallel() throws Exception {
+        final int concurrentEventsCount = 8;
+        final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+        HttpServer server = startHeldEchoServer(concurrentEventsCount, maxInFlightRequests);
+
+        try {
+            IAlertNotificationClient alertNotificationClient = new AlertNotificationClientBuilder()
+                    .withConnectionPool(new ConnectionPoolSettings(concurrentEventsCount, concurrentEventsCount, Duration.ofSeconds(2L), Duration.ZERO))
+                    .withServiceRegion(new ServiceRegion(CF, "http://localhost:" + server.getAddress().getPort()))
+                    .withAuthentication("TEST_CLIENT_ID", "TEST_CLIENT_SECRET")
+                    .build();
+            AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(alertNotificationClient)
+                    .withThreadsCount(concurrentEventsCount, concurrentEventsCount)
+                    .build();
+
+            assertEventsAreSentConcurrently(asyncClient, concurrentEventsCount, maxInFlightRequests);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void givenThatNonBlockingTransportIsUsed_whenSendingConcurrentEvents_thenAllEventsAreInFlightWithASingleExecutorThread() throws Exception {
+        final int concurrentEventsCount = 50;
+        final AtomicInteger maxInFlightRequests = new AtomicInteger();
+
+        HttpServer server = startHeldEchoServer(concurrentEventsCount, maxInFlightRequests);
+
+        try {
+            IAlertNotificationClient alertNotificationClient = new AlertNotificationClientBuilder()
+                    .withNonBlockingTransport()
+                    .withConnectionPool(new ConnectionPoolSettings(concurrentEventsCount, concurrentEventsCount, Duration.ofSeconds(2L), Duration.ZERO))
+                    .withServiceRegion(new ServiceRegion(CF, "http://localhost:" + server.getAddress().getPort()))
+                    .withAuthentication("TEST_CLIENT_ID", "TEST_CLIENT_SECRET")
+                    .build();
+            AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(alertNotificationClient)
+                    .withThreadsCount(1, 1)
+                    .build();
+
+            assertTrue(asyncClient.isNonBlocking());
+            assertEventsAreSentConcurrently(asyncClient, concurrentEventsCount, maxInFlightRequests);
+            assertEquals(0, ((ThreadPoolExecutor) asyncClient.getExecutorService()).getCompletedTaskCount());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void givenThatNonBlockingTransportIsUsed_whenServerRespondsWithError_thenFutureCompletesExceptionally() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            IAlertNotificationClient alertNotificationClient = new AlertNotificationClientBuilder()
+                    .withNonBlockingTransport()
+                    .withServiceRegion(new ServiceRegion(CF, "http://localhost:" + server.getAddress().getPort()))
+                    .withAuthentication("TEST_CLIENT_ID", "TEST_CLIENT_SECRET")
+                    .build();
+            AlertNotificationAsyncClient asyncClient = new AlertNotificationAsyncClientBuilder(alertNotificationClient).build();
+
+            CompletableFuture<PagedResponse> matchedEvents = asyncClient.getMatchedEvents(TEST_QUERY_PARAMETERS);
+
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> matchedEvents.get(10, SECONDS));
+            assertEquals(valueOf(500), ((ServerResponseException) exception.getCause()).getStatusCode());
+            asyncClient.shutdown();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static long countReachable(List<WeakReference<CustomerResourceEvent>> events) {
+        return events.stream().filter(event -> !isNull(event.get())).count();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private AlertNotificationAsyncClient buildOverloadedClient() {
+        doAnswer(invocation -> {
+            Thread.sleep(5L);
+            return invocation.getArgument(0);
+        }).when(testAlertNotificationClient).sendEvent(testResourceEvent);
+
+        return new AlertNotificationAsyncClientBuilder(testAlertNotificationClient)
+                .withThreadsCount(1, 1)
+                .withEventBuffer(new InMemoryCustomerResourceEventBuffer(2))
+                .build();
+    }
+
+    private static CustomerResourceEvent buildSourceEvent(String sourceEventId, String subject) {
+        return new CustomerResourceEvent(null, "TEST_TYPE", null, INFO, NOTIFICATION, 1, subject, "TEST_BODY",
+                singletonMap(SOURCE_EVENT_ID, sourceEventId), new AffectedCustomerResource("TEST_NAME", "TEST_RESOURCE_TYPE", null, null));
+    }
+
+    private static void assertEventsAreSentConcurrently(AlertNotificationAsyncClient asyncClient, int concurrentEventsCount, AtomicInteger maxInFlightRequests) throws Exception {
+        CustomerResourceEvent event = new CustomerResourceEvent(null, "TEST_TYPE", null, INFO, NOTIFICATION, 1, "TEST_SUBJECT",
+                "TEST_BODY", null, new AffectedCustomerResource("TEST_NAME", "TEST_RESOURCE_TYPE", null, null));
+        List<CompletableFuture<CustomerResourceEvent>> sentEvents = IntStream.range(0, concurrentEventsCount)
+                .mapToObj(index -> asyncClient.sendEvent(event))
+                .collect(toList());
+
+        CompletableFuture.allOf(sentEvents.toArray(new CompletableFuture<?>[0])).get(10, SECONDS);
+        asyncClient.shutdown();
+
+        assertEquals(concurrentEventsCount, maxInFlightRequests.get());
+        sentEvents.forEach(sentEvent -> assertEquals("TEST_SUBJECT", sentEvent.join().getSubject()));
+    }
+
+    private static HttpServer startHeldEchoServer(int concurrentRequestsCount, AtomicInteger maxInFlightRequests) throws IOException {
+        final AtomicInteger inFlightRequests = new AtomicInteger();
+        final CountDownLatch allRequestsReceived = new CountDownLatch(concurrentRequestsCount);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), concurrentRequestsCount);
+        server.setExecutor(newFixedThreadPool(concurrentRequestsCount));
+        server.createContext("/", exchange -> {
+            maxInFlightRequests.accumulateAndGet(inFlightRequests.incrementAndGet(), Math::max);
+            allRequestsReceived.countDown();
+
+            try {
+                // every request is held until all of them are in flight, which is only possible with enough concurrent connections
+                allRequestsReceived.await(5, SECONDS);
+
+                byte[] responseBody = IOUtils.toByteArray(exchange.getRequestBody());
+                exchange.sendResponseHeaders(201, responseBody.length);
+                try (OutputStream responseStream = exchange.getResponseBody()) {
+                    responseStream.write(responseBody);
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlightRequests.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+
+        return server;
+    }
+
     private static class EventSender implements Runnable {
 
         Map<String, String> tags = new HashMap<>();
@@ -2,12 +2,19 @@ package com.sap.cloud.alert.notification.client.internal;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
 import com.sap.cloud.alert.notification.client.IRetryPolicy;
+import com.sap.cloud.alert.notification.client.Platform;
 import com.sap.cloud.alert.notification.client.QueryParameter;
 import com.sap.cloud.alert.notification.client.ServiceRegion;
 import com.sap.cloud.alert.notification.client.builder.CustomerResourceEventBuilder;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.exceptions.ResponseParsingException;
 import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
 import com.sap.cloud.alert.notification.client.model.*;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
@@ -16,24 +23,41 @@ import org.apache.http.StatusLine;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicStatusLine;
+import org.apache.http.util.EntityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.sap.cloud.alert.notification.client.TestUtils.*;
 import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.*;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.http.HttpStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -140,6 +164,25 @@ public class AlertNotificationClientTest {
         assertEquals(JSON_OBJECT_MAPPER.writeValueAsString(TEST_CUSTOMER_RESOURCE_EVENT), IOUtils.toString(sentRequest.getEntity().getContent(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void whenSendSerializedEventIsCalled_thenSerializedEventIsSentAsItIs() throws Exception {
+        ArgumentCaptor<HttpPost> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpPost.class);
+        byte[] serializedEvent = JSON_OBJECT_MAPPER.writeValueAsBytes(TEST_CUSTOMER_RESOURCE_EVENT);
+
+        doReturn(createMockedSendEventResponse(TEST_CUSTOMER_RESOURCE_EVENT)).when(mockedHttpClient).execute(any(HttpPost.class));
+
+        CustomerResourceEvent storedEvent = classUnderTest.sendSerializedEvent(serializedEvent);
+
+        verify(mockedHttpClient).execute(httpRequestArgumentCaptor.capture());
+
+        HttpPost sentRequest = httpRequestArgumentCaptor.getValue();
+
+        assertEquals(buildProducerURI(TEST_SERVICE_REGION).toString(), sentRequest.getURI().toString());
+        assertEquals(ContentType.APPLICATION_JSON.toString(), sentRequest.getFirstHeader(HttpHeaders.CONTENT_TYPE).getValue());
+        assertArrayEquals(serializedEvent, IOUtils.toByteArray(sentRequest.getEntity().getContent()));
+        assertEquals(TEST_CUSTOMER_RESOURCE_EVENT.getSubject(), storedEvent.getSubject());
+    }
+
     @Test
     public void givenFromBinding_withCertificateAuthentication_whenSendEventIsCalled_thenCorrectRequestIsSent() throws Exception {
         ArgumentCaptor<HttpPost> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpPost.class);
@@ -238,6 +281,161 @@ public class AlertNotificationClientTest {
         assertEquals(JSON_OBJECT_MAPPER.writeValueAsString(TEST_CUSTOMER_RESOURCE_EVENT), IOUtils.toString(sentRequest.getEntity().getContent(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void givenFromDestinationBinding_andValidCertificateDueForRotation_whenSendEventIsCalled_thenHttpClientIsReplacedAndClosed() throws Exception {
+        HttpClient initialHttpClient = mock(HttpClient.class, withSettings().extraInterfaces(Closeable.class));
+        HttpClient rotatedHttpClient = mock(HttpClient.class, withSettings().extraInterfaces(Closeable.class));
+
+        doReturn(TEST_KEYSTORE_DETAILS_PEM).when(mockedDestinationCredentialsProvider).getKeyStoreDetails();
+        when(mockedHttpClientFactory.createHttpClient(TEST_KEYSTORE_DETAILS_PEM)).thenReturn(initialHttpClient, rotatedHttpClient);
+        doAnswer(invocation -> createMockedSendEventResponse(TEST_CUSTOMER_RESOURCE_EVENT)).when(initialHttpClient).execute(any(HttpPost.class));
+        doAnswer(invocation -> createMockedSendEventResponse(TEST_CUSTOMER_RESOURCE_EVENT)).when(rotatedHttpClient).execute(any(HttpPost.class));
+
+        classUnderTest = new AlertNotificationClient(
+                mockedHttpClient,
+                TEST_RETRY_POLICY,
+                TEST_SERVICE_REGION,
+                null,
+                null,
+                TEST_KEYSTORE_DETAILS_PEM,
+                mockedDestinationCredentialsProvider,
+                mockedHttpClientFactory,
+                true
+        );
+
+        classUnderTest.certificateExpirationTime = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        classUnderTest.credentialsLoadTime = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+
+        classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT);
+
+        verify((Closeable) initialHttpClient, timeout(5000)).close();
+
+        classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT);
+
+        verify(rotatedHttpClient, atLeastOnce()).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void givenValidCertificateDueForRotation_andFailingRotation_whenSendEventIsCalled_thenRotationRunsOnClientExecutor_and_nextRequestFails() throws Exception {
+        HttpClient initialHttpClient = mock(HttpClient.class);
+        RuntimeException rotationFailure = new RuntimeException("TEST_ROTATION_FAILURE");
+        List<Runnable> backgroundTasks = new ArrayList<>();
+
+        doThrow(rotationFailure).when(mockedDestinationCredentialsProvider).getKeyStoreDetails();
+        when(mockedHttpClientFactory.createHttpClient(TEST_KEYSTORE_DETAILS_PEM)).thenReturn(initialHttpClient);
+        doAnswer(invocation -> createMockedSendEventResponse(TEST_CUSTOMER_RESOURCE_EVENT)).when(initialHttpClient).execute(any(HttpPost.class));
+
+        classUnderTest = new AlertNotificationClient(
+                mockedHttpClient,
+                new SimpleRetryPolicy(),
+                TEST_SERVICE_REGION,
+                null,
+                null,
+                TEST_KEYSTORE_DETAILS_PEM,
+                mockedDestinationCredentialsProvider,
+                mockedHttpClientFactory,
+                true
+        );
+        classUnderTest.setExecutor(backgroundTasks::add);
+        classUnderTest.certificateExpirationTime = System.currentTimeMillis() + Duration.ofHours(1).toMillis();
+        classUnderTest.credentialsLoadTime = System.currentTimeMillis() - Duration.ofHours(1).toMillis();
+
+        classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT);
+
+        verifyNoInteractions(mockedDestinationCredentialsProvider);
+        assertEquals(1, backgroundTasks.size());
+
+        backgroundTasks.get(0).run();
+
+        ClientRequestException exception = assertThrows(ClientRequestException.class, () -> classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT));
+        assertSame(rotationFailure, exception.getCause());
+        verify(initialHttpClient, times(1)).execute(any(HttpPost.class));
+    }
+
+    @Test
+    public void whenWarmUpIsCalled_thenCredentialsAreObtainedAndConnectionsAreOpenedConcurrently() throws Exception {
+        int connectionsCount = 5;
+        Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+        List<String> receivedRequests = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allRequestsReceived = new CountDownLatch(connectionsCount);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), connectionsCount);
+        server.setExecutor(Executors.newFixedThreadPool(connectionsCount));
+        server.createContext("/", exchange -> {
+            clientAddresses.add(exchange.getRemoteAddress());
+            receivedRequests.add(exchange.getRequestMethod() + " " + exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+            allRequestsReceived.countDown();
+
+            try {
+                // every request is held until all of them are in flight, which is only possible with a connection for each of them
+                allRequestsReceived.await(5, SECONDS);
+                exchange.sendResponseHeaders(SC_OK, -1);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+
+        try {
+            IAuthorizationHeader mockedAuthorizationHeader = mock(IAuthorizationHeader.class);
+            doReturn("Bearer TEST_TOKEN").when(mockedAuthorizationHeader).getValue();
+            classUnderTest = new AlertNotificationClient(
+                    new HttpClientFactory().createHttpClient(),
+                    TEST_RETRY_POLICY,
+                    new ServiceRegion(Platform.CF, "http://localhost:" + server.getAddress().getPort()),
+                    mockedAuthorizationHeader
+            );
+
+            classUnderTest.warmUp(connectionsCount);
+
+            verify(mockedAuthorizationHeader).getValue();
+            assertEquals(connectionsCount, clientAddresses.size());
+            assertEquals(Collections.nCopies(connectionsCount, "HEAD Bearer TEST_TOKEN"), receivedRequests);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void givenCompressingTransport_whenWarmUpIsCalled_thenGzipEncodedHeadResponsesAreAccepted() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add(HttpHeaders.CONTENT_ENCODING, "gzip");
+            exchange.sendResponseHeaders(SC_OK, -1);
+            exchange.close();
+        });
+        server.start();
+
+        try {
+            IHttpTransport compressingTransport = new GzipHttpTransport(new ApacheHttpTransport(new HttpClientFactory().createHttpClient()), GzipHttpTransport.DEFAULT_COMPRESSION_THRESHOLD);
+            classUnderTest = new AlertNotificationClient(compressingTransport, TEST_RETRY_POLICY,
+                    new ServiceRegion(Platform.CF, "http://localhost:" + server.getAddress().getPort()), authorizationHeader, null, null);
+
+            assertDoesNotThrow(() -> classUnderTest.warmUp(2));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    public void givenUnreachableServiceRegion_whenWarmUpIsCalled_thenExceptionIsThrown() {
+        classUnderTest = new AlertNotificationClient(
+                new HttpClientFactory().createHttpClient(),
+                TEST_RETRY_POLICY,
+                new ServiceRegion(Platform.CF, "http://localhost:1"),
+                authorizationHeader
+        );
+
+        assertThrows(ClientRequestException.class, () -> classUnderTest.warmUp());
+    }
+
+    @Test
+    public void givenNonPositiveConnectionsCount_whenWarmUpIsCalled_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> classUnderTest.warmUp(0));
+    }
+
     @Test
     public void givenThatSendingRequestFails_whenSendEventIsCalled_thenRequestIsRetried() throws Exception {
         doReturn(createFailedResponse()).when(mockedHttpClient).execute(any(HttpPost.class));
@@ -551,6 +749,129 @@ public class AlertNotificationClientTest {
         verify(mockedHttpClient, times(((SimpleRetryPolicy) TEST_RETRY_POLICY).getMaxRetries() + 1)).execute(any(HttpGet.class));
     }
 
+    @Test
+    public void givenThatCustomTransportIsUsed_whenSendEventIsCalled_thenRequestIsSentThroughTransport() throws Exception {
+        List<HttpTransportRequest> sentRequests = new ArrayList<>();
+        String responseBody = JSON_OBJECT_MAPPER.writeValueAsString(TEST_CUSTOMER_RESOURCE_EVENT);
+        IHttpTransport testTransport = request -> {
+            sentRequests.add(request);
+            return new HttpTransportResponse(SC_ACCEPTED, null, Collections.emptyMap(), responseBody.getBytes(StandardCharsets.UTF_8));
+        };
+        classUnderTest = new AlertNotificationClient(testTransport, TEST_RETRY_POLICY, TEST_SERVICE_REGION, authorizationHeader, null, null);
+
+        assertEquals(TEST_CUSTOMER_RESOURCE_EVENT.getSubject(), classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT).getSubject());
+
+        HttpTransportRequest sentRequest = sentRequests.get(0);
+        assertEquals("POST", sentRequest.getMethod());
+        assertEquals(buildProducerURI(TEST_SERVICE_REGION), sentRequest.getUri());
+        assertEquals(authorizationHeader.getValue(), sentRequest.getHeaders().get(HttpHeaders.AUTHORIZATION));
+        assertEquals(ContentType.APPLICATION_JSON.toString(), sentRequest.getHeaders().get(HttpHeaders.CONTENT_TYPE));
+        assertEquals(responseBody, new String(sentRequest.getBody(), StandardCharsets.UTF_8));
+        verifyNoInteractions(mockedHttpClient);
+    }
+
+    @Test
+    public void givenThatAsynchronousRequestFails_whenItIsRetried_thenRetryRunsOnTheExecutorOfTheClient() throws Exception {
+        List<String> attemptThreads = new CopyOnWriteArrayList<>();
+        String responseBody = JSON_OBJECT_MAPPER.writeValueAsString(TEST_CUSTOMER_RESOURCE_EVENT);
+        IHttpTransport testTransport = request -> {
+            attemptThreads.add(Thread.currentThread().getName());
+            return attemptThreads.size() == 1
+                    ? new HttpTransportResponse(SC_SERVICE_UNAVAILABLE, TEST_REASON_PHRASE, Collections.emptyMap(), null)
+                    : new HttpTransportResponse(SC_ACCEPTED, null, Collections.emptyMap(), responseBody.getBytes(StandardCharsets.UTF_8));
+        };
+        ExecutorService testExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "test-client-executor"));
+        try {
+            classUnderTest = new AlertNotificationClient(testTransport, new SimpleRetryPolicy(1, Duration.ofMillis(10)), TEST_SERVICE_REGION, authorizationHeader, null, null);
+            classUnderTest.setExecutor(testExecutor);
+
+            assertEquals(TEST_CUSTOMER_RESOURCE_EVENT.getSubject(), classUnderTest.sendEventAsync(TEST_CUSTOMER_RESOURCE_EVENT).get(5, SECONDS).getSubject());
+
+            assertEquals(Arrays.asList(Thread.currentThread().getName(), "test-client-executor"), attemptThreads);
+        } finally {
+            testExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenThatAcceptedEventResponseCannotBeParsed_whenSendEventIsCalled_thenEventIsNotSentAgain() {
+        List<HttpTransportRequest> sentRequests = new ArrayList<>();
+        IHttpTransport testTransport = request -> {
+            sentRequests.add(request);
+            return new HttpTransportResponse(SC_ACCEPTED, null, Collections.emptyMap(), "{\"unterminated".getBytes(StandardCharsets.UTF_8));
+        };
+        classUnderTest = new AlertNotificationClient(testTransport, TEST_RETRY_POLICY, TEST_SERVICE_REGION, authorizationHeader, null, null);
+
+        assertThrows(ResponseParsingException.class, () -> classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT));
+
+        assertEquals(1, sentRequests.size());
+    }
+
+    @Test
+    public void givenThatCustomTransportRespondsWithError_whenGetMatchedEventsIsCalled_thenExceptionWithResponseDetailsIsThrown() {
+        IHttpTransport testTransport = request -> new HttpTransportResponse(SC_INTERNAL_SERVER_ERROR, TEST_REASON_PHRASE,
+                Collections.singletonMap(X_VCAP_REQUEST_ID_HEADER, "TEST_REQUEST_ID"), null);
+        classUnderTest = new AlertNotificationClient(testTransport, TEST_RETRY_POLICY, TEST_SERVICE_REGION, authorizationHeader, null, null);
+
+        ServerResponseException exception = assertThrows(ServerResponseException.class, () -> classUnderTest.getMatchedEvents(Collections.emptyMap()));
+
+        assertEquals(Integer.valueOf(SC_INTERNAL_SERVER_ERROR), exception.getStatusCode());
+        assertEquals(TEST_REASON_PHRASE, exception.getMessage());
+        assertEquals("TEST_REQUEST_ID", exception.getxVcapRequestId());
+    }
+
+    @Test
+    public void givenThatCustomTransportRespondsWithRetryAfter_whenSendEventIsCalled_thenExceptionCarriesRetryAfter() {
+        IHttpTransport testTransport = request -> new HttpTransportResponse(SC_SERVICE_UNAVAILABLE, TEST_REASON_PHRASE,
+                Collections.singletonMap(HttpHeaders.RETRY_AFTER, "120"), null);
+        classUnderTest = new AlertNotificationClient(testTransport, TEST_RETRY_POLICY, TEST_SERVICE_REGION, authorizationHeader, null, null);
+
+        ServerResponseException exception = assertThrows(ServerResponseException.class, () -> classUnderTest.sendEvent(TEST_CUSTOMER_RESOURCE_EVENT));
+
+        assertEquals(Integer.valueOf(SC_SERVICE_UNAVAILABLE), exception.getStatusCode());
+        assertEquals(Duration.ofSeconds(120), exception.getRetryAfter());
+    }
+
+    @Test
+    public void givenLargeMatchedEventsResponse_whenGetMatchedEventsIsCalled_thenResponseIsParsedWithoutIntermediateCopies() throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+        byte[] largePagedResponse = createLargePagedResponse(2000, 1000);
+        HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(TEST_PROTOCOL_VERSION, SC_OK, TEST_REASON_PHRASE));
+        httpResponse.setEntity(new ByteArrayEntity(largePagedResponse, ContentType.APPLICATION_JSON));
+        doReturn(httpResponse).when(mockedHttpClient).execute(any(HttpGet.class));
+
+        long streamedAllocation = measureAllocatedBytes(threadMXBean, () -> classUnderTest.getMatchedEvents(Collections.emptyMap()));
+        long bufferedAllocation = measureAllocatedBytes(threadMXBean,
+                () -> JSON_OBJECT_MAPPER.readValue(EntityUtils.toString(httpResponse.getEntity(), StandardCharsets.UTF_8), PagedResponse.class));
+
+        assertEquals(2000, classUnderTest.getMatchedEvents(Collections.emptyMap()).getResults().size());
+        assertTrue(streamedAllocation + largePagedResponse.length < bufferedAllocation,
+                String.format("streamed: %d bytes, buffered: %d bytes", streamedAllocation, bufferedAllocation));
+    }
+
+    private static long measureAllocatedBytes(com.sun.management.ThreadMXBean threadMXBean, Callable<?> task) throws Exception {
+        long minimumAllocatedBytes = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            task.call();
+            minimumAllocatedBytes = Math.min(minimumAllocatedBytes, threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBytesBefore);
+        }
+
+        return minimumAllocatedBytes;
+    }
+
+    private static byte[] createLargePagedResponse(int eventsCount, int eventBodyLength) {
+        String eventBody = String.join("", Collections.nCopies(eventBodyLength, "x"));
+        StringBuilder pagedResponse = new StringBuilder("{\"results\":[");
+        for (int index = 0; index < eventsCount; index++) {
+            pagedResponse.append(index == 0 ? "" : ",").append(String.format("{\"id\":\"%d\",\"subject\":\"TEST_SUBJECT\",\"body\":\"%s\"}", index, eventBody));
+        }
+
+        return pagedResponse.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
     private HttpResponse createFailedResponse() {
         return new BasicHttpResponse(new BasicStatusLine(TEST_PROTOCOL_VERSION, SC_INTERNAL_SERVER_ERROR, TEST_REASON_PHRASE));
     }
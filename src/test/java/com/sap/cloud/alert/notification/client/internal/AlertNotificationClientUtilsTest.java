@@ -12,13 +12,20 @@ import org.apache.http.message.BasicHttpResponse;
 import org.apache.http.message.BasicStatusLine;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.sap.cloud.alert.notification.client.TestUtils.TEST_NAME;
 import static com.sap.cloud.alert.notification.client.internal.AlertNotificationClientUtils.*;
 import static java.lang.String.format;
+import static java.time.format.DateTimeFormatter.RFC_1123_DATE_TIME;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.http.HttpStatus.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +45,33 @@ public class AlertNotificationClientUtilsTest {
     private static final Map<ConfigurationQueryParameter, String> TEST_CONFIGURATION_QUERY_PARAMETERS = createConfigurationQueryParameters();
     private static final ProtocolVersion TEST_PROTOCOL_VERSION = new ProtocolVersion(TEST_PROTOCOL_NAME, TEST_PROTOCOL_MAJOR_VERSION, TEST_PROTOCOL_MINOR_VERSION);
 
+    @Test
+    public void whenWriteJsonIsCalled_thenValueIsWrittenWithoutClosingTheStream() throws Exception {
+        AtomicBoolean isClosed = new AtomicBoolean();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                isClosed.set(true);
+            }
+        };
+
+        writeJson(outputStream, new ErrorHttpResponse(TEST_REASON_PHRASE));
+
+        assertEquals(format("{\"message\":\"%s\"}", TEST_REASON_PHRASE), outputStream.toString(UTF_8.name()));
+        assertFalse(isClosed.get());
+    }
+
+    @Test
+    public void givenRetryAfterHeaderValue_whenParseRetryAfterIsCalled_thenWaitTimeIsReturned() {
+        Duration untilDate = parseRetryAfter(RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60)));
+
+        assertEquals(Duration.ofSeconds(30), parseRetryAfter("30"));
+        assertEquals(Duration.ZERO, parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT"));
+        assertTrue(untilDate.compareTo(Duration.ofSeconds(50)) > 0 && untilDate.compareTo(Duration.ofSeconds(60)) <= 0);
+        assertNull(parseRetryAfter("soon"));
+        assertNull(parseRetryAfter(null));
+    }
+
     @Test
     public void givenExpectedHttpStatusCode_whenAssertHttpStatusIsCalled_thenNoExceptionIsThrown() {
         assertDoesNotThrow(() -> assertHttpStatus(createResponseForCode(SC_OK), SC_OK));
@@ -0,0 +1,197 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOSession;
+import org.apache.hc.core5.reactor.IOSessionListener;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.apache.hc.core5.http.HttpStatus.SC_CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ApacheHttp2TransportTest {
+
+    private static final int CONCURRENT_REQUESTS_COUNT = 20;
+    private static final String TEST_BODY = "{\"subject\":\"TEST_SUBJECT\"}";
+
+    private HttpAsyncServer server;
+    private final AtomicInteger openedConnections = new AtomicInteger();
+
+    @AfterEach
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void givenThatHttp2TransportIsUsed_whenSendingConcurrentRequests_thenRequestsAreMultiplexedOverSingleConnection() throws Exception {
+        URI testUri = startHeldEchoServer(HttpVersionPolicy.FORCE_HTTP_2, CONCURRENT_REQUESTS_COUNT);
+        IHttpTransport classUnderTest = new ApacheHttp2Transport(new HttpClientFactory().createHttp2AsyncClient());
+
+        assertTrue(classUnderTest.isNonBlocking());
+        assertConcurrentRequestsAreEchoed(classUnderTest, testUri);
+        assertEquals(1, openedConnections.get());
+    }
+
+    @Test
+    public void givenThatHttp1TransportIsUsed_whenSendingConcurrentRequests_thenEachRequestOpensItsOwnConnection() throws Exception {
+        URI testUri = startHeldEchoServer(HttpVersionPolicy.FORCE_HTTP_1, CONCURRENT_REQUESTS_COUNT);
+        ConnectionPoolSettings connectionPoolSettings = new ConnectionPoolSettings(CONCURRENT_REQUESTS_COUNT, CONCURRENT_REQUESTS_COUNT, Duration.ofSeconds(2L), Duration.ZERO);
+        IHttpTransport http1Transport = new ApacheHttpAsyncTransport(HttpClientFactory.builder().withConnectionPoolSettings(connectionPoolSettings).withNonBlocking(true).build().createHttpAsyncClient());
+
+        assertConcurrentRequestsAreEchoed(http1Transport, testUri);
+        assertEquals(CONCURRENT_REQUESTS_COUNT, openedConnections.get());
+    }
+
+    @Test
+    public void whenExecuteIsCalled_thenResponseIsReturned() throws Exception {
+        URI testUri = startHeldEchoServer(HttpVersionPolicy.FORCE_HTTP_2, 1);
+
+        HttpTransportResponse response = new ApacheHttp2Transport(new HttpClientFactory().createHttp2AsyncClient()).execute(createRequest(testUri));
+
+        assertEquals(SC_CREATED, response.getStatusCode());
+        assertEquals(TEST_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+        assertEquals(ContentType.APPLICATION_JSON.toString(), response.getHeader("content-type"));
+    }
+
+    @Test
+    public void givenStreamedBody_whenExecuteIsCalled_thenBodyIsWrittenOnce() throws Exception {
+        URI testUri = startHeldEchoServer(HttpVersionPolicy.FORCE_HTTP_2, 1);
+        AtomicInteger bodyWrites = new AtomicInteger();
+        HttpTransportRequest request = HttpTransportRequest.withStreamedBody("POST", testUri,
+                Collections.singletonMap("Content-Type", ContentType.APPLICATION_JSON.toString()), outputStream -> {
+                    bodyWrites.incrementAndGet();
+                    outputStream.write(TEST_BODY.getBytes(StandardCharsets.UTF_8));
+                });
+
+        HttpTransportResponse response = new ApacheHttp2Transport(new HttpClientFactory().createHttp2AsyncClient()).execute(request);
+
+        assertEquals(TEST_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+        assertEquals(1, bodyWrites.get());
+    }
+
+    private void assertConcurrentRequestsAreEchoed(IHttpTransport transport, URI testUri) throws Exception {
+        List<CompletableFuture<HttpTransportResponse>> responses = IntStream.range(0, CONCURRENT_REQUESTS_COUNT)
+                .mapToObj(index -> transport.executeAsync(createRequest(testUri)))
+                .collect(toList());
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).get(10, SECONDS);
+
+        responses.forEach(response -> {
+            assertEquals(SC_CREATED, response.join().getStatusCode());
+            assertEquals(TEST_BODY, new String(response.join().getBody(), StandardCharsets.UTF_8));
+        });
+    }
+
+    private static HttpTransportRequest createRequest(URI uri) {
+        return new HttpTransportRequest("POST", uri, Collections.singletonMap("Content-Type", ContentType.APPLICATION_JSON.toString()),
+                TEST_BODY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private URI startHeldEchoServer(HttpVersionPolicy versionPolicy, int concurrentRequestsCount) throws Exception {
+        List<Runnable> heldResponses = new CopyOnWriteArrayList<>();
+
+        server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(versionPolicy)
+                .setIOSessionListener(new ConnectionCountingListener(openedConnections))
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, byte[]>>() {
+
+                    @Override
+                    public AsyncRequestConsumer<Message<HttpRequest, byte[]>> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(new BasicAsyncEntityConsumer());
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, byte[]> message, ResponseTrigger responseTrigger, HttpContext context) {
+                        // every response is held until all requests are in flight, which needs either enough connections or multiplexing
+                        heldResponses.add(() -> {
+                            try {
+                                responseTrigger.submitResponse(new BasicResponseProducer(SC_CREATED,
+                                        new String(message.getBody(), StandardCharsets.UTF_8), ContentType.APPLICATION_JSON), context);
+                            } catch (Exception exception) {
+                                throw new IllegalStateException(exception);
+                            }
+                        });
+
+                        if (heldResponses.size() == concurrentRequestsCount) {
+                            heldResponses.forEach(Runnable::run);
+                        }
+                    }
+                })
+                .create();
+
+        server.start();
+
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get(5, SECONDS);
+
+        return URI.create("http://localhost:" + ((InetSocketAddress) endpoint.getAddress()).getPort() + "/producer/v1/resource-events");
+    }
+
+    private static class ConnectionCountingListener implements IOSessionListener {
+
+        private final AtomicInteger openedConnections;
+
+        private ConnectionCountingListener(AtomicInteger openedConnections) {
+            this.openedConnections = openedConnections;
+        }
+
+        @Override
+        public void connected(IOSession session) {
+            openedConnections.incrementAndGet();
+        }
+
+        @Override
+        public void startTls(IOSession session) {
+        }
+
+        @Override
+        public void inputReady(IOSession session) {
+        }
+
+        @Override
+        public void outputReady(IOSession session) {
+        }
+
+        @Override
+        public void timeout(IOSession session) {
+        }
+
+        @Override
+        public void exception(IOSession session, Exception exception) {
+        }
+
+        @Override
+        public void disconnected(IOSession session) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.apache.http.HttpStatus.SC_CREATED;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ApacheHttpTransportTest {
+
+    private static final URI TEST_URI = URI.create("https://nowhere.com/producer/v1/resource-events");
+    private static final String TEST_BODY = "{\"subject\":\"TEST_SUBJECT\"}";
+    private static final String TEST_REASON_PHRASE = "Created";
+    private static final String TEST_HEADER_NAME = "x-vcap-request-id";
+    private static final String TEST_HEADER_VALUE = "TEST_REQUEST_ID";
+    private static final ProtocolVersion TEST_PROTOCOL_VERSION = new ProtocolVersion("HTTP", 1, 1);
+
+    private HttpClient mockedHttpClient;
+    private ApacheHttpTransport classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        mockedHttpClient = mock(HttpClient.class);
+        classUnderTest = new ApacheHttpTransport(mockedHttpClient);
+    }
+
+    @Test
+    public void givenHttpClientIsNull_whenConstructingTransport_thenExceptionIsThrown() {
+        assertThrows(NullPointerException.class, () -> new ApacheHttpTransport(null));
+    }
+
+    @Test
+    public void whenIsNonBlockingIsCalled_thenFalseIsReturned() {
+        assertFalse(classUnderTest.isNonBlocking());
+    }
+
+    @Test
+    public void givenPostRequest_whenExecuteIsCalled_thenCorrectApacheRequestIsSent() throws Exception {
+        ArgumentCaptor<HttpUriRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        doReturn(createResponse()).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        classUnderTest.execute(new HttpTransportRequest(HttpPost.METHOD_NAME, TEST_URI, Collections.singletonMap("Content-Type", "application/json"),
+                TEST_BODY.getBytes(StandardCharsets.UTF_8)));
+
+        verify(mockedHttpClient).execute(httpRequestArgumentCaptor.capture());
+        HttpPost sentRequest = (HttpPost) httpRequestArgumentCaptor.getValue();
+
+        assertEquals(TEST_URI, sentRequest.getURI());
+        assertEquals("application/json", sentRequest.getFirstHeader("Content-Type").getValue());
+        assertEquals(TEST_BODY, IOUtils.toString(sentRequest.getEntity().getContent(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenStreamedPostRequest_whenExecuteIsCalled_thenBodyIsWrittenToTheEntityStream() throws Exception {
+        ArgumentCaptor<HttpUriRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        doReturn(createResponse()).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        classUnderTest.execute(HttpTransportRequest.withStreamedBody(HttpPost.METHOD_NAME, TEST_URI, Collections.emptyMap(),
+                outputStream -> outputStream.write(TEST_BODY.getBytes(StandardCharsets.UTF_8))));
+
+        verify(mockedHttpClient).execute(httpRequestArgumentCaptor.capture());
+        HttpEntity sentEntity = ((HttpPost) httpRequestArgumentCaptor.getValue()).getEntity();
+        ByteArrayOutputStream writtenBody = new ByteArrayOutputStream();
+        sentEntity.writeTo(writtenBody);
+
+        assertTrue(sentEntity.isRepeatable());
+        assertEquals(-1L, sentEntity.getContentLength());
+        assertEquals(TEST_BODY, writtenBody.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void givenResponseHandler_whenExecuteIsCalled_thenEntityStreamIsHandedOverAndConsumed() throws Exception {
+        HttpResponse httpResponse = createResponse();
+        InputStream entityStream = httpResponse.getEntity().getContent();
+        HttpEntity mockedEntity = mock(HttpEntity.class);
+        doReturn(entityStream).when(mockedEntity).getContent();
+        doReturn(true).when(mockedEntity).isStreaming();
+        httpResponse.setEntity(mockedEntity);
+        doReturn(httpResponse).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        InputStream handledStream = classUnderTest.execute(new HttpTransportRequest(HttpGet.METHOD_NAME, TEST_URI, Collections.emptyMap(), null),
+                HttpTransportResponse::getBodyStream);
+
+        assertSame(entityStream, handledStream);
+        verify(mockedEntity, atLeastOnce()).getContent();
+    }
+
+    @Test
+    public void givenGetRequest_whenExecuteIsCalled_thenRequestWithoutBodyIsSent() throws Exception {
+        ArgumentCaptor<HttpUriRequest> httpRequestArgumentCaptor = ArgumentCaptor.forClass(HttpUriRequest.class);
+        doReturn(createResponse()).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        classUnderTest.execute(new HttpTransportRequest(HttpGet.METHOD_NAME, TEST_URI, Collections.emptyMap(), null));
+
+        verify(mockedHttpClient).execute(httpRequestArgumentCaptor.capture());
+        assertEquals(HttpGet.class, httpRequestArgumentCaptor.getValue().getClass());
+    }
+
+    @Test
+    public void givenUnsupportedMethod_whenExecuteIsCalled_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            classUnderTest.execute(new HttpTransportRequest("PATCH", TEST_URI, Collections.emptyMap(), null));
+        });
+    }
+
+    @Test
+    public void whenExecuteIsCalled_thenApacheResponseIsConverted() throws Exception {
+        doReturn(createResponse()).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        HttpTransportResponse response = classUnderTest.execute(new HttpTransportRequest(HttpGet.METHOD_NAME, TEST_URI, Collections.emptyMap(), null));
+
+        assertEquals(SC_CREATED, response.getStatusCode());
+        assertEquals(TEST_REASON_PHRASE, response.getReasonPhrase());
+        assertEquals(TEST_HEADER_VALUE, response.getHeader(TEST_HEADER_NAME.toUpperCase()));
+        assertEquals(TEST_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenResponseWithoutEntity_whenExecuteIsCalled_thenEmptyBodyIsReturned() throws Exception {
+        doReturn(new BasicHttpResponse(new BasicStatusLine(TEST_PROTOCOL_VERSION, SC_CREATED, TEST_REASON_PHRASE))).when(mockedHttpClient).execute(any(HttpUriRequest.class));
+
+        HttpTransportResponse response = classUnderTest.execute(new HttpTransportRequest(HttpGet.METHOD_NAME, TEST_URI, Collections.emptyMap(), null));
+
+        assertEquals(0, response.getBody().length);
+    }
+
+    private static HttpResponse createResponse() {
+        HttpResponse httpResponse = new BasicHttpResponse(new BasicStatusLine(TEST_PROTOCOL_VERSION, SC_CREATED, TEST_REASON_PHRASE));
+
+        httpResponse.setHeader(TEST_HEADER_NAME, TEST_HEADER_VALUE);
+        httpResponse.setEntity(new StringEntity(TEST_BODY, StandardCharsets.UTF_8));
+
+        return httpResponse;
+    }
+}
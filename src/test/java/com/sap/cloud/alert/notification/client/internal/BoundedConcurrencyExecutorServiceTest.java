@@ -0,0 +1,114 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+public class BoundedConcurrencyExecutorServiceTest {
+
+    private static final int TEST_MAX_CONCURRENCY = 3;
+    private static final int TEST_TASKS_COUNT = 1000;
+
+    private BoundedConcurrencyExecutorService classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = BoundedConcurrencyExecutorService.newVirtualThreadExecutor(TEST_MAX_CONCURRENCY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        classUnderTest.shutdownNow();
+    }
+
+    @Test
+    public void givenBurstOfBlockingTasks_whenExecuteIsCalled_thenNoneIsRejectedAndConcurrencyIsBounded() throws Exception {
+        CountDownLatch tasksReleased = new CountDownLatch(1);
+        AtomicInteger runningTasks = new AtomicInteger();
+        AtomicInteger maxRunningTasks = new AtomicInteger();
+        List<CompletableFuture<Void>> completedTasks = new ArrayList<>();
+
+        for (int i = 0; i < TEST_TASKS_COUNT; i++) {
+            completedTasks.add(CompletableFuture.runAsync(() -> {
+                maxRunningTasks.accumulateAndGet(runningTasks.incrementAndGet(), Math::max);
+                awaitQuietly(tasksReleased);
+                runningTasks.decrementAndGet();
+            }, classUnderTest));
+        }
+
+        while (runningTasks.get() < TEST_MAX_CONCURRENCY) {
+            Thread.yield();
+        }
+        tasksReleased.countDown();
+        CompletableFuture.allOf(completedTasks.toArray(new CompletableFuture<?>[0])).get(30, SECONDS);
+
+        assertEquals(TEST_MAX_CONCURRENCY, maxRunningTasks.get());
+        assertEquals(TEST_MAX_CONCURRENCY, awaitReleasedPermits());
+    }
+
+    @Test
+    public void givenFailingTask_whenExecuteIsCalled_thenPermitIsReleased() throws Exception {
+        CompletableFuture<Void> failedTask = CompletableFuture.runAsync(() -> {
+            throw new IllegalStateException();
+        }, classUnderTest);
+
+        assertThrows(Exception.class, () -> failedTask.get(5, SECONDS));
+        assertEquals(TEST_MAX_CONCURRENCY, awaitReleasedPermits());
+    }
+
+    @Test
+    public void givenShutdownExecutor_whenIsShutdownIsCalled_thenTrueIsReturned() throws Exception {
+        classUnderTest.shutdown();
+
+        assertTrue(classUnderTest.isShutdown());
+        assertTrue(classUnderTest.awaitTermination(5, SECONDS));
+    }
+
+    @Test
+    public void givenNonPositiveMaxConcurrency_whenExecutorIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> BoundedConcurrencyExecutorService.newVirtualThreadExecutor(0));
+    }
+
+    @Test
+    public void givenRuntimeWithoutVirtualThreads_whenManyTasksAreExecuted_thenNoMoreThreadsThanMaxConcurrencyAreStarted() throws Exception {
+        assumeFalse(BoundedConcurrencyExecutorService.isVirtualThreadSupported());
+        Set<Thread> taskThreads = ConcurrentHashMap.newKeySet();
+        List<CompletableFuture<Void>> completedTasks = new ArrayList<>();
+
+        for (int i = 0; i < TEST_TASKS_COUNT; i++) {
+            completedTasks.add(CompletableFuture.runAsync(() -> taskThreads.add(Thread.currentThread()), classUnderTest));
+        }
+        CompletableFuture.allOf(completedTasks.toArray(new CompletableFuture<?>[0])).get(30, SECONDS);
+
+        assertTrue(taskThreads.size() <= TEST_MAX_CONCURRENCY, "threads " + taskThreads.size());
+    }
+
+    private int awaitReleasedPermits() throws InterruptedException {
+        // A task completes its future just before its permit is released
+        for (int i = 0; i < 500 && classUnderTest.getAvailablePermits() < TEST_MAX_CONCURRENCY; i++) {
+            Thread.sleep(10L);
+        }
+
+        return classUnderTest.getAvailablePermits();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
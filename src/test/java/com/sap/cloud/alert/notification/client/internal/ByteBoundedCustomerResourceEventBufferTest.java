@@ -0,0 +1,108 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ByteBoundedCustomerResourceEventBufferTest {
+
+    private static final int TEST_CAPACITY = 10;
+    private static final long TEST_CAPACITY_IN_BYTES = 1000L;
+
+    private ByteBoundedCustomerResourceEventBuffer classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new ByteBoundedCustomerResourceEventBuffer(TEST_CAPACITY_IN_BYTES, TEST_CAPACITY);
+    }
+
+    @Test
+    public void whenGetCapacityIsCalled_thenCorrectResultIsReturned() {
+        assertEquals(TEST_CAPACITY, classUnderTest.getCapacity());
+        assertEquals(TEST_CAPACITY_IN_BYTES, classUnderTest.getCapacityInBytes());
+    }
+
+    @Test
+    public void givenThatCapacityIsNotPositive_whenBufferIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteBoundedCustomerResourceEventBuffer(0L, TEST_CAPACITY));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBoundedCustomerResourceEventBuffer(TEST_CAPACITY_IN_BYTES, 0));
+    }
+
+    @Test
+    public void whenEventsAreWrittenAndRead_thenSizeAndSizeInBytesAreTracked() {
+        CustomerResourceEvent smallEvent = createEvent(100L);
+        CustomerResourceEvent largeEvent = createEvent(500L);
+
+        UUID smallEventUuid = classUnderTest.write(smallEvent);
+        UUID largeEventUuid = classUnderTest.write(largeEvent);
+
+        assertEquals(2, classUnderTest.getSize());
+        assertEquals(600L, classUnderTest.getSizeInBytes());
+
+        assertSame(largeEvent, classUnderTest.read(largeEventUuid));
+        assertNull(classUnderTest.read(largeEventUuid));
+
+        assertEquals(1, classUnderTest.getSize());
+        assertEquals(100L, classUnderTest.getSizeInBytes());
+        assertSame(smallEvent, classUnderTest.read(smallEventUuid));
+    }
+
+    @Test
+    public void givenThatByteCapacityIsUsed_whenWriteIsCalled_thenLargeEventIsRejectedWhileSmallEventFits() {
+        classUnderTest.write(createEvent(900L));
+
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(createEvent(200L)));
+        assertNull(classUnderTest.tryWrite(createEvent(200L)));
+        assertNotNull(classUnderTest.tryWrite(createEvent(100L)));
+        assertEquals(TEST_CAPACITY_IN_BYTES, classUnderTest.getSizeInBytes());
+    }
+
+    @Test
+    public void givenThatEventCountCapacityIsUsed_whenWriteIsCalled_thenEventIsRejected() {
+        for (int i = 0; i < TEST_CAPACITY; i++) {
+            classUnderTest.write(createEvent(1L));
+        }
+
+        assertNull(classUnderTest.tryWrite(createEvent(1L)));
+    }
+
+    @Test
+    public void givenEventLargerThanByteCapacity_whenWriteIsCalled_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> classUnderTest.write(createEvent(TEST_CAPACITY_IN_BYTES + 1L), Duration.ofSeconds(1L)));
+        assertEquals(0L, classUnderTest.getSizeInBytes());
+    }
+
+    @Test
+    public void givenThatByteCapacityIsUsed_whenWriteWithTimeoutIsCalled_thenItWaitsUntilEnoughBytesAreRead() throws Exception {
+        UUID firstEventUuid = classUnderTest.write(createEvent(600L));
+        UUID secondEventUuid = classUnderTest.write(createEvent(300L));
+        CustomerResourceEvent waitingEvent = createEvent(500L);
+        CompletableFuture<UUID> waitingWrite = CompletableFuture.supplyAsync(() -> classUnderTest.write(waitingEvent, Duration.ofSeconds(10L)));
+
+        classUnderTest.read(secondEventUuid);
+        Thread.sleep(100L);
+        assertFalse(waitingWrite.isDone());
+
+        classUnderTest.read(firstEventUuid);
+
+        assertNotNull(waitingWrite.get(5, SECONDS));
+        assertEquals(500L, classUnderTest.getSizeInBytes());
+    }
+
+    private static CustomerResourceEvent createEvent(long serializedSize) {
+        CustomerResourceEvent event = mock(CustomerResourceEvent.class);
+        when(event.estimateSerializedSize()).thenReturn(serializedSize);
+
+        return event;
+    }
+}
@@ -0,0 +1,140 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import com.sap.cloud.alert.notification.client.ServiceRegion;
+import com.sap.cloud.alert.notification.client.exceptions.CircuitBreakerOpenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.sap.cloud.alert.notification.client.CircuitBreakerState.CLOSED;
+import static com.sap.cloud.alert.notification.client.CircuitBreakerState.OPEN;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerHttpTransportTest {
+
+    private static final URI TEST_PRODUCER_URI = AlertNotificationClientUtils.buildProducerURI(ServiceRegion.EU10);
+    private static final URI TEST_CONSUMER_URI = AlertNotificationClientUtils.buildMatchedEventsURI(ServiceRegion.EU10, emptyMap());
+    private static final int TEST_FAILURE_THRESHOLD = 2;
+
+    private AtomicInteger sentRequestsCount;
+    private int testStatusCode;
+    private CircuitBreakerHttpTransport classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        sentRequestsCount = new AtomicInteger();
+        testStatusCode = SC_SERVICE_UNAVAILABLE;
+
+        IHttpTransport testTransport = request -> {
+            sentRequestsCount.incrementAndGet();
+            return new HttpTransportResponse(testStatusCode, null, Collections.emptyMap(), null);
+        };
+        classUnderTest = new CircuitBreakerHttpTransport(testTransport, new CircuitBreakerSettings(TEST_FAILURE_THRESHOLD, Duration.ofMinutes(1L)));
+    }
+
+    @Test
+    public void givenFailingEndpointFamily_whenThresholdIsReached_thenItsRequestsFailWithoutBeingSent() throws Exception {
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            assertEquals(SC_SERVICE_UNAVAILABLE, classUnderTest.execute(createRequest(TEST_PRODUCER_URI)).getStatusCode());
+        }
+
+        assertThrows(CircuitBreakerOpenException.class, () -> classUnderTest.execute(createRequest(TEST_PRODUCER_URI)));
+        assertThrows(CircuitBreakerOpenException.class, () -> classUnderTest.execute(createRequest(TEST_PRODUCER_URI), response -> response));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> classUnderTest.executeAsync(createRequest(TEST_PRODUCER_URI)).get(5, SECONDS));
+        assertEquals(CircuitBreakerOpenException.class, exception.getCause().getClass());
+        assertEquals(TEST_FAILURE_THRESHOLD, sentRequestsCount.get());
+        assertEquals(OPEN, classUnderTest.getCircuitBreaker(TEST_PRODUCER_URI).getState());
+    }
+
+    @Test
+    public void givenOpenCircuitOfOneEndpointFamily_whenOtherFamilyIsRequested_thenRequestIsSent() throws Exception {
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            classUnderTest.execute(createRequest(TEST_PRODUCER_URI));
+        }
+        testStatusCode = SC_OK;
+
+        assertEquals(SC_OK, classUnderTest.execute(createRequest(TEST_CONSUMER_URI)).getStatusCode());
+        assertEquals(CLOSED, classUnderTest.getCircuitBreaker(TEST_CONSUMER_URI).getState());
+        assertEquals(2, classUnderTest.getCircuitBreakers().size());
+        assertEquals("https://" + TEST_CONSUMER_URI.getAuthority() + "/cf/consumer", classUnderTest.getCircuitBreaker(TEST_CONSUMER_URI).getName());
+    }
+
+    @Test
+    public void givenOpenCircuitOfProducer_whenConsumerAndConfigurationAreRequested_thenTheirRequestsAreSent() throws Exception {
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            classUnderTest.execute(createRequest(TEST_PRODUCER_URI));
+        }
+        testStatusCode = SC_OK;
+
+        URI configurationUri = AlertNotificationClientUtils.buildConfigurationManagementUri(ServiceRegion.EU10);
+        assertEquals(SC_OK, classUnderTest.execute(createRequest(TEST_CONSUMER_URI)).getStatusCode());
+        assertEquals(SC_OK, classUnderTest.execute(createRequest(configurationUri)).getStatusCode());
+        assertEquals(OPEN, classUnderTest.getCircuitBreaker(AlertNotificationClientUtils.buildProducerURI(ServiceRegion.EU10)).getState());
+        assertNotSame(classUnderTest.getCircuitBreaker(TEST_PRODUCER_URI), classUnderTest.getCircuitBreaker(configurationUri));
+        assertEquals(3, classUnderTest.getCircuitBreakers().size());
+    }
+
+    @Test
+    public void givenClientErrorResponses_whenTheyAreReceived_thenCircuitStaysClosed() throws Exception {
+        testStatusCode = SC_NOT_FOUND;
+
+        for (int i = 0; i < 2 * TEST_FAILURE_THRESHOLD; i++) {
+            classUnderTest.execute(createRequest(TEST_PRODUCER_URI), response -> response.getStatusCode());
+        }
+
+        assertEquals(CLOSED, classUnderTest.getCircuitBreaker(TEST_PRODUCER_URI).getState());
+    }
+
+    @Test
+    public void givenIOErrors_whenThresholdIsReached_thenCircuitOpens() {
+        classUnderTest = new CircuitBreakerHttpTransport(request -> {
+            throw new IOException();
+        }, new CircuitBreakerSettings(TEST_FAILURE_THRESHOLD, Duration.ofMinutes(1L)));
+
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            assertThrows(IOException.class, () -> classUnderTest.execute(createRequest(TEST_PRODUCER_URI), response -> response));
+        }
+
+        assertThrows(CircuitBreakerOpenException.class, () -> classUnderTest.execute(createRequest(TEST_PRODUCER_URI)));
+    }
+
+    @Test
+    public void givenTransportFailingBeforeReturningFuture_whenThresholdIsReached_thenCircuitOpens() {
+        classUnderTest = new CircuitBreakerHttpTransport(new IHttpTransport() {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+                throw new RejectedExecutionException();
+            }
+        }, new CircuitBreakerSettings(TEST_FAILURE_THRESHOLD, Duration.ofMinutes(1L)));
+
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            assertThrows(RejectedExecutionException.class, () -> classUnderTest.executeAsync(createRequest(TEST_PRODUCER_URI)));
+        }
+
+        assertEquals(OPEN, classUnderTest.getCircuitBreaker(TEST_PRODUCER_URI).getState());
+    }
+
+    private static HttpTransportRequest createRequest(URI uri) {
+        return new HttpTransportRequest("GET", uri, Collections.emptyMap(), null);
+    }
+}
@@ -0,0 +1,100 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.CircuitBreakerState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.sap.cloud.alert.notification.client.CircuitBreakerState.*;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CircuitBreakerTest {
+
+    private static final String TEST_CIRCUIT_NAME = "https://nowhere.com/producer";
+    private static final int TEST_FAILURE_THRESHOLD = 3;
+    private static final Duration TEST_OPEN_DURATION = Duration.ofMillis(100L);
+
+    private List<CircuitBreakerState> stateChanges;
+    private CircuitBreaker classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        stateChanges = new ArrayList<>();
+        classUnderTest = new CircuitBreaker(TEST_CIRCUIT_NAME, new CircuitBreakerSettings(TEST_FAILURE_THRESHOLD, TEST_OPEN_DURATION,
+                (circuitName, previousState, state) -> {
+                    assertEquals(TEST_CIRCUIT_NAME, circuitName);
+                    stateChanges.add(state);
+                }));
+    }
+
+    @Test
+    public void givenInvalidSettings_whenTheyAreCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakerSettings(0, TEST_OPEN_DURATION));
+        assertThrows(IllegalArgumentException.class, () -> new CircuitBreakerSettings(TEST_FAILURE_THRESHOLD, Duration.ofMillis(-1L)));
+    }
+
+    @Test
+    public void givenFailuresInterruptedBySuccess_whenTheyAreRecorded_thenCircuitStaysClosed() {
+        for (int i = 0; i < 2 * TEST_FAILURE_THRESHOLD; i++) {
+            assertTrue(classUnderTest.tryAcquirePermission());
+            if (i % TEST_FAILURE_THRESHOLD == TEST_FAILURE_THRESHOLD - 1) {
+                classUnderTest.onSuccess();
+            } else {
+                classUnderTest.onFailure();
+            }
+        }
+
+        assertEquals(CLOSED, classUnderTest.getState());
+        assertTrue(stateChanges.isEmpty());
+    }
+
+    @Test
+    public void givenConsecutiveFailures_whenThresholdIsReached_thenCircuitOpensAndRejectsRequests() {
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            classUnderTest.onFailure();
+        }
+
+        assertEquals(OPEN, classUnderTest.getState());
+        assertFalse(classUnderTest.tryAcquirePermission());
+        assertEquals(asList(OPEN), stateChanges);
+    }
+
+    @Test
+    public void givenOpenCircuit_whenOpenDurationElapses_thenSingleTrialRequestClosesIt() throws Exception {
+        openCircuit();
+        Thread.sleep(TEST_OPEN_DURATION.toMillis() + 20L);
+
+        assertTrue(classUnderTest.tryAcquirePermission());
+        assertEquals(HALF_OPEN, classUnderTest.getState());
+        assertFalse(classUnderTest.tryAcquirePermission());
+
+        classUnderTest.onSuccess();
+
+        assertEquals(CLOSED, classUnderTest.getState());
+        assertTrue(classUnderTest.tryAcquirePermission());
+        assertEquals(asList(OPEN, HALF_OPEN, CLOSED), stateChanges);
+    }
+
+    @Test
+    public void givenOpenCircuit_whenTrialRequestFails_thenCircuitOpensAgain() throws Exception {
+        openCircuit();
+        Thread.sleep(TEST_OPEN_DURATION.toMillis() + 20L);
+
+        assertTrue(classUnderTest.tryAcquirePermission());
+        classUnderTest.onFailure();
+
+        assertEquals(OPEN, classUnderTest.getState());
+        assertFalse(classUnderTest.tryAcquirePermission());
+        assertEquals(asList(OPEN, HALF_OPEN, OPEN), stateChanges);
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < TEST_FAILURE_THRESHOLD; i++) {
+            classUnderTest.onFailure();
+        }
+    }
+}
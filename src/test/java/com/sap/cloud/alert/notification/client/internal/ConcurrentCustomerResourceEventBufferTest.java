@@ -0,0 +1,150 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentCustomerResourceEventBufferTest {
+
+    private static final int TEST_CAPACITY = 10;
+    private static final int TEST_WRITES_PER_PRODUCER = 2000;
+
+    private CustomerResourceEvent testCustomerResourceEvent;
+    private ConcurrentCustomerResourceEventBuffer classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        testCustomerResourceEvent = Mockito.mock(CustomerResourceEvent.class);
+        classUnderTest = new ConcurrentCustomerResourceEventBuffer(TEST_CAPACITY);
+    }
+
+    @Test
+    public void whenGetCapacityIsCalled_thenCorrectResultIsReturned() {
+        assertEquals(TEST_CAPACITY, classUnderTest.getCapacity());
+    }
+
+    @Test
+    public void givenThatCapacityIsNotPositive_whenBufferIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentCustomerResourceEventBuffer(0));
+    }
+
+    @Test
+    public void whenWriteIsCalled_thenCorrectValueIsWrittenInBuffer() {
+        UUID recordUUID = classUnderTest.write(testCustomerResourceEvent);
+
+        assertSame(testCustomerResourceEvent, classUnderTest.read(recordUUID));
+        assertNull(classUnderTest.read(recordUUID));
+    }
+
+    @Test
+    public void givenThatBufferIsFull_whenWriteIsCalled_thenExceptionIsThrownUntilEventIsRead() {
+        UUID firstRecordUUID = fillBuffer();
+
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(testCustomerResourceEvent));
+        assertNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+
+        classUnderTest.read(firstRecordUUID);
+
+        assertNotNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+    }
+
+    @Test
+    public void givenThatUnknownEventIsRead_whenWriteIsCalled_thenCapacityIsNotIncreased() {
+        fillBuffer();
+
+        assertNull(classUnderTest.read(UUID.randomUUID()));
+        assertNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+    }
+
+    @Test
+    public void givenThatBufferIsFull_whenWriteWithTimeoutIsCalled_thenItWaitsForFreeCapacity() throws Exception {
+        UUID firstRecordUUID = fillBuffer();
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<UUID> waitingWrite = writer.submit(() -> classUnderTest.write(testCustomerResourceEvent, Duration.ofSeconds(5L)));
+            Thread.sleep(100L);
+            assertFalse(waitingWrite.isDone());
+
+            classUnderTest.read(firstRecordUUID);
+
+            assertNotNull(waitingWrite.get(5, SECONDS));
+            assertThrows(BufferOverflowException.class, () -> classUnderTest.write(testCustomerResourceEvent, Duration.ofMillis(50L)));
+        } finally {
+            writer.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenOneProducer_whenEventsAreWrittenAndRead_thenNoEventIsLostOrMixedUp() throws Exception {
+        assertConcurrentWritesAndReads(1);
+    }
+
+    @Test
+    public void givenEightProducers_whenEventsAreWrittenAndRead_thenNoEventIsLostOrMixedUp() throws Exception {
+        assertConcurrentWritesAndReads(8);
+    }
+
+    @Test
+    public void givenSixtyFourProducers_whenEventsAreWrittenAndRead_thenNoEventIsLostOrMixedUp() throws Exception {
+        assertConcurrentWritesAndReads(64);
+    }
+
+    private void assertConcurrentWritesAndReads(int producersCount) throws Exception {
+        classUnderTest = new ConcurrentCustomerResourceEventBuffer(producersCount);
+        Set<UUID> issuedIds = ConcurrentHashMap.newKeySet();
+        AtomicInteger mixedUpEvents = new AtomicInteger();
+        ExecutorService producers = Executors.newFixedThreadPool(producersCount);
+        List<Future<?>> runningProducers = new ArrayList<>();
+
+        try {
+            for (int producer = 0; producer < producersCount; producer++) {
+                runningProducers.add(producers.submit(() -> {
+                    CustomerResourceEvent event = Mockito.mock(CustomerResourceEvent.class);
+                    for (int i = 0; i < TEST_WRITES_PER_PRODUCER; i++) {
+                        UUID eventUuid = classUnderTest.write(event, Duration.ofSeconds(5L));
+                        issuedIds.add(eventUuid);
+                        if (classUnderTest.read(eventUuid) != event) {
+                            mixedUpEvents.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> runningProducer : runningProducers) {
+                runningProducer.get(30, SECONDS);
+            }
+        } finally {
+            producers.shutdownNow();
+        }
+
+        assertEquals(0, mixedUpEvents.get());
+        assertEquals(producersCount * TEST_WRITES_PER_PRODUCER, issuedIds.size());
+        for (int i = 0; i < producersCount; i++) {
+            assertNotNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+        }
+        assertNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+    }
+
+    private UUID fillBuffer() {
+        UUID firstRecordUUID = classUnderTest.write(testCustomerResourceEvent);
+        for (int i = 1; i < TEST_CAPACITY; ++i) {
+            classUnderTest.write(testCustomerResourceEvent);
+        }
+
+        return firstRecordUUID;
+    }
+}
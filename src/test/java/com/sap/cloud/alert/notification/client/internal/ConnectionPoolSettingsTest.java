@@ -0,0 +1,94 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.sap.cloud.alert.notification.client.internal.ConnectionPoolSettings.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ConnectionPoolSettingsTest {
+
+    private static final int TEST_MAX_TOTAL_CONNECTIONS = 30;
+    private static final int TEST_MAX_CONNECTIONS_PER_ROUTE = 10;
+    private static final Duration TEST_VALIDATE_AFTER_INACTIVITY = Duration.ofSeconds(1L);
+    private static final Duration TEST_CONNECTION_TIME_TO_LIVE = Duration.ofMinutes(1L);
+    private static final Duration TEST_MAX_IDLE_TIME = Duration.ofSeconds(20L);
+    private static final Duration TEST_KEEP_ALIVE_DURATION = Duration.ofSeconds(40L);
+
+    private ConnectionPoolSettings classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new ConnectionPoolSettings(TEST_MAX_TOTAL_CONNECTIONS, TEST_MAX_CONNECTIONS_PER_ROUTE, TEST_VALIDATE_AFTER_INACTIVITY, TEST_CONNECTION_TIME_TO_LIVE,
+                TEST_MAX_IDLE_TIME, TEST_KEEP_ALIVE_DURATION);
+    }
+
+    @Test
+    public void whenGettersAreCalled_thenCorrectValuesAreReturned() {
+        assertEquals(TEST_MAX_TOTAL_CONNECTIONS, classUnderTest.getMaxTotalConnections());
+        assertEquals(TEST_MAX_CONNECTIONS_PER_ROUTE, classUnderTest.getMaxConnectionsPerRoute());
+        assertEquals(TEST_VALIDATE_AFTER_INACTIVITY, classUnderTest.getValidateAfterInactivity());
+        assertEquals(TEST_CONNECTION_TIME_TO_LIVE, classUnderTest.getConnectionTimeToLive());
+        assertEquals(TEST_MAX_IDLE_TIME, classUnderTest.getMaxIdleTime());
+        assertEquals(TEST_KEEP_ALIVE_DURATION, classUnderTest.getKeepAliveDuration());
+    }
+
+    @Test
+    public void givenThatNoArgConstructorIsUsed_whenInstanceIsCreated_thenDefaultValuesAreUsed() {
+        classUnderTest = new ConnectionPoolSettings();
+
+        assertEquals(DEFAULT_MAX_TOTAL_CONNECTIONS, classUnderTest.getMaxTotalConnections());
+        assertEquals(DEFAULT_MAX_CONNECTIONS_PER_ROUTE, classUnderTest.getMaxConnectionsPerRoute());
+        assertEquals(DEFAULT_VALIDATE_AFTER_INACTIVITY, classUnderTest.getValidateAfterInactivity());
+        assertEquals(DEFAULT_CONNECTION_TIME_TO_LIVE, classUnderTest.getConnectionTimeToLive());
+        assertEquals(DEFAULT_MAX_IDLE_TIME, classUnderTest.getMaxIdleTime());
+        assertEquals(DEFAULT_KEEP_ALIVE_DURATION, classUnderTest.getKeepAliveDuration());
+    }
+
+    @Test
+    public void givenThatFourArgConstructorIsUsed_whenInstanceIsCreated_thenDefaultIdleSettingsAreUsed() {
+        classUnderTest = new ConnectionPoolSettings(TEST_MAX_TOTAL_CONNECTIONS, TEST_MAX_CONNECTIONS_PER_ROUTE, TEST_VALIDATE_AFTER_INACTIVITY, TEST_CONNECTION_TIME_TO_LIVE);
+
+        assertEquals(DEFAULT_MAX_IDLE_TIME, classUnderTest.getMaxIdleTime());
+        assertEquals(DEFAULT_KEEP_ALIVE_DURATION, classUnderTest.getKeepAliveDuration());
+    }
+
+    @Test
+    public void givenThatMaxConnectionsPerRouteExceedsMaxTotalConnections_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConnectionPoolSettings(TEST_MAX_CONNECTIONS_PER_ROUTE, TEST_MAX_TOTAL_CONNECTIONS, TEST_VALIDATE_AFTER_INACTIVITY, TEST_CONNECTION_TIME_TO_LIVE);
+        });
+    }
+
+    @Test
+    public void givenThatNonPositiveConnectionLimitIsGiven_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConnectionPoolSettings(0, 0, TEST_VALIDATE_AFTER_INACTIVITY, TEST_CONNECTION_TIME_TO_LIVE);
+        });
+    }
+
+    @Test
+    public void givenThatValidateAfterInactivityExceedsIntMilliseconds_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ConnectionPoolSettings(TEST_MAX_TOTAL_CONNECTIONS, TEST_MAX_CONNECTIONS_PER_ROUTE, Duration.ofDays(30L), TEST_CONNECTION_TIME_TO_LIVE);
+        });
+    }
+
+    @Test
+    public void givenThatValidateAfterInactivityIsNull_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(NullPointerException.class, () -> {
+            new ConnectionPoolSettings(TEST_MAX_TOTAL_CONNECTIONS, TEST_MAX_CONNECTIONS_PER_ROUTE, null, TEST_CONNECTION_TIME_TO_LIVE);
+        });
+    }
+
+    @Test
+    public void givenThatMaxIdleTimeIsNull_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(NullPointerException.class, () -> {
+            new ConnectionPoolSettings(TEST_MAX_TOTAL_CONNECTIONS, TEST_MAX_CONNECTIONS_PER_ROUTE, TEST_VALIDATE_AFTER_INACTIVITY, TEST_CONNECTION_TIME_TO_LIVE,
+                    null, TEST_KEEP_ALIVE_DURATION);
+        });
+    }
+}
@@ -0,0 +1,194 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.AuthorizationException;
+import com.sap.cloud.alert.notification.client.exceptions.CircuitBreakerOpenException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.exceptions.ResponseParsingException;
+import com.sap.cloud.alert.notification.client.exceptions.ServerResponseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.sap.cloud.alert.notification.client.internal.ExponentialBackoffRetryPolicy.SC_TOO_MANY_REQUESTS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExponentialBackoffRetryPolicyTest {
+
+    private static final int TEST_RETRIES = 3;
+    private static final String TEST_RESULT = "TEST_RESULT";
+    private static final Duration TEST_INITIAL_BACKOFF = Duration.ofMillis(10);
+    private static final Duration TEST_MAX_BACKOFF = Duration.ofMillis(40);
+
+    private ExponentialBackoffRetryPolicy classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new ExponentialBackoffRetryPolicy(TEST_RETRIES, TEST_INITIAL_BACKOFF, TEST_MAX_BACKOFF);
+    }
+
+    @Test
+    public void whenGettersAreCalled_thenCorrectValuesAreReturned() {
+        assertEquals(TEST_RETRIES, classUnderTest.getMaxRetries());
+        assertEquals(TEST_INITIAL_BACKOFF, classUnderTest.getInitialBackoff());
+        assertEquals(TEST_MAX_BACKOFF, classUnderTest.getMaxBackoff());
+    }
+
+    @Test
+    public void givenInvalidArguments_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoffRetryPolicy(-1, TEST_INITIAL_BACKOFF, TEST_MAX_BACKOFF));
+        assertThrows(IllegalArgumentException.class, () -> new ExponentialBackoffRetryPolicy(TEST_RETRIES, TEST_MAX_BACKOFF, TEST_INITIAL_BACKOFF));
+    }
+
+    @Test
+    public void givenRetryableFailures_whenExecuteWithRetryIsCalled_thenExecutionIsRetried_and_correctResultIsReturned() {
+        AtomicInteger executions = new AtomicInteger();
+
+        String result = classUnderTest.executeWithRetry(failingTimes(executions, TEST_RETRIES, () -> new ServerResponseException("", SC_SERVICE_UNAVAILABLE, null)));
+
+        assertEquals(TEST_RESULT, result);
+        assertEquals(TEST_RETRIES + 1, executions.get());
+    }
+
+    @Test
+    public void givenNonRetryableFailure_whenExecuteWithRetryIsCalled_thenItIsThrownWithoutRetry() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThrows(ServerResponseException.class,
+                () -> classUnderTest.executeWithRetry(failingTimes(executions, 1, () -> new ServerResponseException("", SC_BAD_REQUEST, null))));
+        assertThrows(AuthorizationException.class,
+                () -> classUnderTest.executeWithRetry(failingTimes(executions, 1, () -> new AuthorizationException("", SC_FORBIDDEN, null))));
+        assertThrows(IllegalStateException.class, () -> classUnderTest.executeWithRetry(failingTimes(executions, 1, IllegalStateException::new)));
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    public void givenThatRetryableFailuresContinue_whenExecuteWithRetryIsCalled_thenLastFailureIsThrownAfterAllRetries() {
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThrows(ClientRequestException.class, () -> classUnderTest.executeWithRetry(
+                failingTimes(executions, TEST_RETRIES + 1, () -> new ClientRequestException("", new SocketTimeoutException()))));
+        assertEquals(TEST_RETRIES + 1, executions.get());
+    }
+
+    @Test
+    public void givenRetryableFailures_whenExecuteWithRetryAsyncIsCalled_thenExecutionIsRetried_and_correctResultIsReturned() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<String> supplier = failingTimes(executions, TEST_RETRIES, () -> new ServerResponseException("", SC_BAD_GATEWAY, null));
+
+        assertEquals(TEST_RESULT, classUnderTest.executeWithRetryAsync(() -> CompletableFuture.supplyAsync(supplier)).get(5, SECONDS));
+        assertEquals(TEST_RETRIES + 1, executions.get());
+    }
+
+    @Test
+    public void givenNonRetryableFailure_whenExecuteWithRetryAsyncIsCalled_thenFutureCompletesExceptionallyWithoutRetry() {
+        AtomicInteger executions = new AtomicInteger();
+        Supplier<String> supplier = failingTimes(executions, 1, () -> new ServerResponseException("", SC_NOT_FOUND, null));
+
+        CompletableFuture<String> result = classUnderTest.executeWithRetryAsync(() -> CompletableFuture.supplyAsync(supplier));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+        assertEquals(ServerResponseException.class, exception.getCause().getClass());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void givenRetryableFailure_whenGetRetryDelayIsCalled_thenJitteredDelayStaysWithinExponentialCeiling() {
+        ServerResponseException failure = new ServerResponseException("", SC_TOO_MANY_REQUESTS, null);
+        Set<Duration> delays = new HashSet<>();
+
+        for (int retry = 0; retry < 100; retry++) {
+            Duration delay = classUnderTest.getRetryDelay(failure, retry % 4);
+            Duration ceiling = retry % 4 < 2 ? TEST_INITIAL_BACKOFF.multipliedBy(1L << (retry % 4)) : TEST_MAX_BACKOFF;
+
+            assertFalse(delay.isNegative());
+            assertTrue(delay.compareTo(ceiling) <= 0);
+            delays.add(delay);
+        }
+
+        assertTrue(delays.size() > 50);
+        assertTrue(classUnderTest.getRetryDelay(failure, Integer.MAX_VALUE).compareTo(TEST_MAX_BACKOFF) <= 0);
+    }
+
+    @Test
+    public void givenRetryAfter_whenGetRetryDelayIsCalled_thenItIsHonoredUnlessItExceedsMaxBackoff() {
+        Duration retryAfter = Duration.ofMillis(25);
+
+        assertEquals(retryAfter, classUnderTest.getRetryDelay(new ServerResponseException("", SC_SERVICE_UNAVAILABLE, null, retryAfter), 0));
+        assertNull(classUnderTest.getRetryDelay(new ServerResponseException("", SC_SERVICE_UNAVAILABLE, null, Duration.ofSeconds(30)), 0));
+    }
+
+    @Test
+    public void givenIOFailure_whenGetRetryDelayIsCalled_thenItIsRetried() {
+        assertNotNull(classUnderTest.getRetryDelay(new ClientRequestException("", new IOException()), 0));
+        assertNull(classUnderTest.getRetryDelay(new ClientRequestException(new InterruptedException()), 0));
+    }
+
+    @Test
+    public void givenUnparsableResponse_whenGetRetryDelayIsCalled_thenItIsNotRetried() {
+        assertNull(classUnderTest.getRetryDelay(new ResponseParsingException("", new IOException()), 0));
+    }
+
+    @Test
+    public void givenOpenCircuit_whenGetRetryDelayIsCalled_thenItIsNotRetried() {
+        assertNull(classUnderTest.getRetryDelay(new CircuitBreakerOpenException("TEST_CIRCUIT"), 0));
+    }
+
+    @Test
+    public void givenStrugglingServer_whenManyClientsFail_thenNonRetryableFailuresCauseNoRetryLoad() {
+        AtomicInteger executions = new AtomicInteger();
+        SimpleRetryPolicy simpleRetryPolicy = new SimpleRetryPolicy(TEST_RETRIES, Duration.ZERO);
+        Supplier<String> rejectedRequest = failingTimes(executions, Integer.MAX_VALUE, () -> new ServerResponseException("", SC_BAD_REQUEST, null));
+
+        for (int client = 0; client < 10; client++) {
+            assertThrows(ServerResponseException.class, () -> simpleRetryPolicy.executeWithRetry(rejectedRequest));
+        }
+        int simpleRetryPolicyExecutions = executions.getAndSet(0);
+        for (int client = 0; client < 10; client++) {
+            assertThrows(ServerResponseException.class, () -> classUnderTest.executeWithRetry(rejectedRequest));
+        }
+
+        assertEquals(10 * (TEST_RETRIES + 1), simpleRetryPolicyExecutions);
+        assertEquals(10, executions.get());
+    }
+
+    @Test
+    public void givenSharedRetryBudget_whenManyRequestsFail_thenRetryLoadStaysBounded() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        classUnderTest = new ExponentialBackoffRetryPolicy(TEST_RETRIES, Duration.ZERO, Duration.ZERO, new RetryBudget(0.1, 5));
+        Supplier<String> failingRequest = failingTimes(executions, Integer.MAX_VALUE, () -> new ServerResponseException("", SC_SERVICE_UNAVAILABLE, null));
+
+        for (int request = 0; request < 10; request++) {
+            assertThrows(ServerResponseException.class, () -> classUnderTest.executeWithRetry(failingRequest));
+        }
+        for (int request = 0; request < 10; request++) {
+            CompletableFuture<String> result = classUnderTest.executeWithRetryAsync(() -> CompletableFuture.supplyAsync(failingRequest));
+            assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+        }
+
+        assertEquals(20 + 5, executions.get());
+    }
+
+    private static Supplier<String> failingTimes(AtomicInteger executions, int failures, Supplier<RuntimeException> failure) {
+        AtomicInteger failuresLeft = new AtomicInteger(failures);
+
+        return () -> {
+            executions.incrementAndGet();
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw failure.get();
+            }
+
+            return TEST_RESULT;
+        };
+    }
+}
@@ -0,0 +1,194 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import com.sap.cloud.alert.notification.client.builder.CustomerResourceEventBuilder;
+import com.sap.cloud.alert.notification.client.model.AffectedCustomerResource;
+import com.sap.cloud.alert.notification.client.model.EventCategory;
+import com.sap.cloud.alert.notification.client.model.EventSeverity;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.sap.cloud.alert.notification.client.TestUtils.toJsonString;
+import static com.sap.cloud.alert.notification.client.internal.GzipHttpTransport.DEFAULT_COMPRESSION_THRESHOLD;
+import static org.apache.http.HttpHeaders.*;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GzipHttpTransportTest {
+
+    private static final URI TEST_URI = URI.create("https://nowhere.com/producer/v1/resource-events");
+    private static final String TEST_REASON_PHRASE = "OK";
+    private static final String TEST_RESPONSE_BODY = "{\"subject\":\"TEST_SUBJECT\"}";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private List<HttpTransportRequest> sentRequests;
+    private HttpTransportResponse testResponse;
+    private GzipHttpTransport classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        sentRequests = new ArrayList<>();
+        testResponse = new HttpTransportResponse(SC_OK, TEST_REASON_PHRASE, Collections.emptyMap(), TEST_RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+
+        IHttpTransport testTransport = request -> {
+            sentRequests.add(request);
+            return testResponse;
+        };
+        classUnderTest = new GzipHttpTransport(testTransport, DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    @Test
+    public void givenNonPositiveThreshold_whenConstructingTransport_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new GzipHttpTransport(request -> testResponse, 0));
+    }
+
+    @Test
+    public void givenBodyBelowThreshold_whenExecuteIsCalled_thenBodyIsSentUncompressed() throws Exception {
+        byte[] body = createBody(DEFAULT_COMPRESSION_THRESHOLD - 1);
+
+        classUnderTest.execute(createPostRequest(body));
+
+        HttpTransportRequest sentRequest = sentRequests.get(0);
+        assertArrayEquals(body, sentRequest.getBody());
+        assertEquals("gzip", sentRequest.getHeaders().get(ACCEPT_ENCODING));
+        assertEquals(APPLICATION_JSON, sentRequest.getHeaders().get(CONTENT_TYPE));
+        assertFalse(sentRequest.getHeaders().containsKey(CONTENT_ENCODING));
+    }
+
+    @Test
+    public void givenBodyAboveThreshold_whenExecuteIsCalled_thenBodyIsSentCompressed() throws Exception {
+        byte[] body = createBody(DEFAULT_COMPRESSION_THRESHOLD);
+
+        classUnderTest.execute(createPostRequest(body));
+
+        HttpTransportRequest sentRequest = sentRequests.get(0);
+        assertEquals("gzip", sentRequest.getHeaders().get(CONTENT_ENCODING));
+        assertEquals(APPLICATION_JSON, sentRequest.getHeaders().get(CONTENT_TYPE));
+        assertTrue(sentRequest.getBody().length < body.length);
+        assertArrayEquals(body, IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(sentRequest.getBody()))));
+    }
+
+    @Test
+    public void givenRequestWithoutBody_whenExecuteIsCalled_thenOnlyAcceptEncodingIsAdded() throws Exception {
+        classUnderTest.execute(new HttpTransportRequest("GET", TEST_URI, Collections.emptyMap(), null));
+
+        HttpTransportRequest sentRequest = sentRequests.get(0);
+        assertNull(sentRequest.getBody());
+        assertEquals(Collections.singletonMap(ACCEPT_ENCODING, "gzip"), sentRequest.getHeaders());
+    }
+
+    @Test
+    public void givenGzipEncodedResponse_whenExecuteIsCalled_thenResponseIsDecompressed() throws Exception {
+        testResponse = createGzipEncodedResponse();
+
+        HttpTransportResponse response = classUnderTest.execute(createPostRequest(createBody(1)));
+
+        assertEquals(TEST_RESPONSE_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+        assertNull(response.getHeader(CONTENT_ENCODING));
+        assertNull(response.getHeader(CONTENT_LENGTH));
+        assertEquals(APPLICATION_JSON, response.getHeader(CONTENT_TYPE));
+    }
+
+    @Test
+    public void givenGzipEncodedResponse_whenExecuteWithHandlerIsCalled_thenHandlerReadsDecompressedStream() throws Exception {
+        testResponse = createGzipEncodedResponse();
+
+        String response = classUnderTest.execute(createPostRequest(createBody(1)),
+                handledResponse -> IOUtils.toString(handledResponse.getBodyStream(), StandardCharsets.UTF_8));
+
+        assertEquals(TEST_RESPONSE_BODY, response);
+    }
+
+    @Test
+    public void givenGzipEncodedResponse_whenExecuteAsyncIsCalled_thenResponseIsDecompressed() throws Exception {
+        testResponse = createGzipEncodedResponse();
+
+        HttpTransportResponse response = classUnderTest.executeAsync(createPostRequest(createBody(1))).get();
+
+        assertEquals(TEST_RESPONSE_BODY, new String(response.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void givenGzipEncodedResponseWithoutBody_whenHeadRequestIsExecuted_thenEmptyResponseIsReturned() throws Exception {
+        HttpTransportRequest headRequest = new HttpTransportRequest("HEAD", TEST_URI, Collections.emptyMap(), null);
+        testResponse = HttpTransportResponse.withStreamedBody(SC_OK, TEST_REASON_PHRASE, Collections.singletonMap(CONTENT_ENCODING, "gzip"),
+                new ByteArrayInputStream(new byte[0]));
+
+        HttpTransportResponse response = classUnderTest.execute(headRequest);
+
+        assertEquals(SC_OK, response.getStatusCode());
+        assertEquals(0, response.getBody().length);
+        assertNull(response.getHeader(CONTENT_ENCODING));
+
+        testResponse = new HttpTransportResponse(SC_OK, TEST_REASON_PHRASE, Collections.singletonMap(CONTENT_ENCODING, "gzip"), null);
+
+        assertEquals(0, classUnderTest.executeAsync(headRequest).get().getBody().length);
+    }
+
+    @Test
+    public void givenUncompressedResponse_whenExecuteIsCalled_thenResponseIsReturnedAsItIs() throws Exception {
+        assertSame(testResponse, classUnderTest.execute(createPostRequest(createBody(1))));
+    }
+
+    @Test
+    public void givenEventsAroundDefaultThreshold_whenCompressed_thenOnlyEventsAboveThresholdSaveSubstantially() throws Exception {
+        byte[] smallEvent = toJsonString(createEvent(16)).getBytes(StandardCharsets.UTF_8);
+        byte[] thresholdEvent = toJsonString(createEvent(DEFAULT_COMPRESSION_THRESHOLD)).getBytes(StandardCharsets.UTF_8);
+
+        // the fixed gzip header and trailer eat most of the savings of an event fitting in a single packet anyway
+        assertTrue(smallEvent.length - gzip(smallEvent).length < 100);
+        assertTrue(gzip(thresholdEvent).length < thresholdEvent.length * 0.7);
+    }
+
+    private static HttpTransportRequest createPostRequest(byte[] body) {
+        return new HttpTransportRequest("POST", TEST_URI, Collections.singletonMap(CONTENT_TYPE, APPLICATION_JSON), body);
+    }
+
+    private static HttpTransportResponse createGzipEncodedResponse() throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("content-encoding", "gzip");
+        headers.put(CONTENT_LENGTH, "42");
+        headers.put(CONTENT_TYPE, APPLICATION_JSON);
+
+        return new HttpTransportResponse(SC_OK, TEST_REASON_PHRASE, headers, gzip(TEST_RESPONSE_BODY.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] createBody(int length) {
+        return String.join("", Collections.nCopies(length, "x")).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Object createEvent(int bodyLength) {
+        return new CustomerResourceEventBuilder()
+                .withType("HighCpuUsage")
+                .withCategory(EventCategory.ALERT)
+                .withSeverity(EventSeverity.WARNING)
+                .withSubject("CPU usage of my-java-application exceeded 90%")
+                .withBody(String.join(" ", Collections.nCopies(bodyLength / 16, "CPU usage is 93%")))
+                .withAffectedResource(new AffectedCustomerResource("my-java-application", "java-app", "v9192c8cba", Collections.emptyMap()))
+                .build();
+    }
+
+    private static byte[] gzip(byte[] content) throws Exception {
+        ByteArrayOutputStream compressedContent = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedContent)) {
+            gzipOutputStream.write(content);
+        }
+
+        return compressedContent.toByteArray();
+    }
+}
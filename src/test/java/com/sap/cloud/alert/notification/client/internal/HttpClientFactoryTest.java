@@ -0,0 +1,149 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.apache.http.HttpVersion.HTTP_1_1;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HttpClientFactoryTest {
+
+    private static final String KEEP_ALIVE_HEADER = "Keep-Alive";
+    private static final Duration TEST_KEEP_ALIVE_DURATION = Duration.ofSeconds(30L);
+
+    @Test
+    public void givenBuilderOptions_whenBuildIsCalled_thenFactoryIsConfiguredByName() {
+        ConnectionPoolSettings connectionPoolSettings = new ConnectionPoolSettings(10, 5, Duration.ofSeconds(1L), Duration.ZERO);
+        CircuitBreakerSettings circuitBreakerSettings = new CircuitBreakerSettings();
+
+        HttpClientFactory classUnderTest = HttpClientFactory.builder() //
+                .withConnectionPoolSettings(connectionPoolSettings) //
+                .withNonBlocking(true) //
+                .withHttp2(true) //
+                .withCompressionThreshold(512) //
+                .withCircuitBreakerSettings(circuitBreakerSettings) //
+                .build();
+
+        assertEquals(connectionPoolSettings, classUnderTest.getConnectionPoolSettings());
+        assertTrue(classUnderTest.isNonBlocking());
+        assertTrue(classUnderTest.isHttp2());
+        assertEquals(512, classUnderTest.getCompressionThreshold());
+        assertEquals(circuitBreakerSettings, classUnderTest.getCircuitBreakerSettings());
+    }
+
+    @Test
+    public void givenNoBuilderOptions_whenBuildIsCalled_thenDefaultsAreUsed() {
+        HttpClientFactory classUnderTest = HttpClientFactory.builder().build();
+
+        assertEquals(new ConnectionPoolSettings(), classUnderTest.getConnectionPoolSettings());
+        assertFalse(classUnderTest.isNonBlocking());
+        assertFalse(classUnderTest.isHttp2());
+        assertEquals(HttpClientFactory.NO_COMPRESSION, classUnderTest.getCompressionThreshold());
+        assertNull(classUnderTest.getCircuitBreakerSettings());
+        assertThrows(IllegalArgumentException.class, () -> HttpClientFactory.builder().withCompressionThreshold(-1).build());
+    }
+
+    @Test
+    public void givenResponseWithoutKeepAliveHeader_whenKeepAliveDurationIsRequested_thenConfiguredDurationIsUsed() {
+        ConnectionKeepAliveStrategy keepAliveStrategy = HttpClientFactory.buildKeepAliveStrategy(TEST_KEEP_ALIVE_DURATION);
+
+        assertEquals(TEST_KEEP_ALIVE_DURATION.toMillis(), keepAliveStrategy.getKeepAliveDuration(createResponse(null), new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenResponseWithShorterKeepAliveHeader_whenKeepAliveDurationIsRequested_thenServerDurationIsUsed() {
+        ConnectionKeepAliveStrategy keepAliveStrategy = HttpClientFactory.buildKeepAliveStrategy(TEST_KEEP_ALIVE_DURATION);
+
+        assertEquals(5000L, keepAliveStrategy.getKeepAliveDuration(createResponse("timeout=5"), new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenResponseWithLongerKeepAliveHeader_whenKeepAliveDurationIsRequested_thenConfiguredDurationIsUsed() {
+        ConnectionKeepAliveStrategy keepAliveStrategy = HttpClientFactory.buildKeepAliveStrategy(TEST_KEEP_ALIVE_DURATION);
+
+        assertEquals(TEST_KEEP_ALIVE_DURATION.toMillis(), keepAliveStrategy.getKeepAliveDuration(createResponse("timeout=300"), new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenDisabledKeepAliveDuration_whenKeepAliveDurationIsRequested_thenServerHeaderIsUsedOnly() {
+        ConnectionKeepAliveStrategy keepAliveStrategy = HttpClientFactory.buildKeepAliveStrategy(Duration.ZERO);
+
+        assertEquals(300000L, keepAliveStrategy.getKeepAliveDuration(createResponse("timeout=300"), new BasicHttpContext()));
+        assertEquals(-1L, keepAliveStrategy.getKeepAliveDuration(createResponse(null), new BasicHttpContext()));
+    }
+
+    @Test
+    public void givenIdleConnection_whenMaxIdleTimeElapses_thenConnectionIsClosedInBackground() throws Exception {
+        HttpClientFactory classUnderTest = new HttpClientFactory(new ConnectionPoolSettings( //
+                10, //
+                10, //
+                Duration.ofSeconds(2L), //
+                Duration.ZERO, //
+                Duration.ofMillis(200L), //
+                TEST_KEEP_ALIVE_DURATION //
+        ));
+
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            CompletableFuture<Boolean> isClosedByClient = CompletableFuture.supplyAsync(() -> serveSingleRequest(serverSocket));
+            HttpClient httpClient = classUnderTest.createHttpClient();
+
+            try {
+                HttpResponse response = httpClient.execute(new HttpGet("http://localhost:" + serverSocket.getLocalPort() + "/"));
+                EntityUtils.consume(response.getEntity());
+
+                assertEquals(SC_OK, response.getStatusLine().getStatusCode());
+                assertTrue(isClosedByClient.get(10, SECONDS));
+            } finally {
+                ((Closeable) httpClient).close();
+            }
+        }
+    }
+
+    private static boolean serveSingleRequest(ServerSocket serverSocket) {
+        try (Socket socket = serverSocket.accept()) {
+            socket.setSoTimeout(5000);
+            InputStream input = socket.getInputStream();
+            BufferedReader requestReader = new BufferedReader(new InputStreamReader(input, StandardCharsets.US_ASCII));
+            String requestLine;
+            do {
+                requestLine = requestReader.readLine();
+            } while (requestLine != null && !requestLine.isEmpty());
+
+            OutputStream output = socket.getOutputStream();
+            output.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\n{}".getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+
+            // The pooled connection is left idle, so only the evictor may close it before the read times out
+            return input.read() == -1;
+        } catch (SocketTimeoutException exception) {
+            return false;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static HttpResponse createResponse(String keepAliveHeader) {
+        HttpResponse response = new BasicHttpResponse(HTTP_1_1, SC_OK, "OK");
+        if (keepAliveHeader != null) {
+            response.setHeader(KEEP_ALIVE_HEADER, keepAliveHeader);
+        }
+
+        return response;
+    }
+}
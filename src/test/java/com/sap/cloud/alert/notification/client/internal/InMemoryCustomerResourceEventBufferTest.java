@@ -2,11 +2,20 @@ package com.sap.cloud.alert.notification.client.internal;
 
 import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
 import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -14,6 +23,7 @@ public class InMemoryCustomerResourceEventBufferTest {
 
     private static final int TEST_CAPACITY = 10;
 
+    private ExecutorService testWriters;
     private CustomerResourceEvent testCustomerResourceEvent;
     private InMemoryCustomerResourceEventBuffer classUnderTest;
 
@@ -21,6 +31,12 @@ public class InMemoryCustomerResourceEventBufferTest {
     public void setUp() {
         testCustomerResourceEvent = Mockito.mock(CustomerResourceEvent.class);
         classUnderTest = new InMemoryCustomerResourceEventBuffer(TEST_CAPACITY);
+        testWriters = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        testWriters.shutdownNow();
     }
 
     @Test
@@ -53,4 +69,62 @@ public class InMemoryCustomerResourceEventBufferTest {
         assertSame(testCustomerResourceEvent, classUnderTest.read(recordUUID));
         assertNull(classUnderTest.read(recordUUID));
     }
+
+    @Test
+    public void givenThatBufferIsFull_whenTryWriteIsCalled_thenNullIsReturned() {
+        fillBuffer();
+
+        assertNull(classUnderTest.tryWrite(testCustomerResourceEvent));
+    }
+
+    @Test
+    public void givenThatBufferIsFull_whenWriteWithTimeoutIsCalled_thenItWaitsForFreeCapacity() throws Exception {
+        UUID firstRecordUUID = fillBuffer();
+
+        CompletableFuture<UUID> waitingWrite = CompletableFuture.supplyAsync(() -> classUnderTest.write(testCustomerResourceEvent, Duration.ofSeconds(5L)), testWriters);
+        Thread.sleep(100L);
+        assertFalse(waitingWrite.isDone());
+
+        classUnderTest.read(firstRecordUUID);
+
+        assertSame(testCustomerResourceEvent, classUnderTest.read(waitingWrite.get(5, SECONDS)));
+    }
+
+    @Test
+    public void givenThatBufferStaysFull_whenWriteWithTimeoutIsCalled_thenExceptionIsThrownAfterTimeout() {
+        fillBuffer();
+
+        assertThrows(BufferOverflowException.class, () -> {
+            classUnderTest.write(testCustomerResourceEvent, Duration.ofMillis(50L));
+        });
+    }
+
+    @Test
+    public void givenThatWritersAreWaitingForCapacity_whenCapacityIsFreed_thenTheLongestWaitingWriterIsAdmittedFirst() throws Exception {
+        UUID firstRecordUUID = fillBuffer();
+        CountDownLatch firstWriterStarted = new CountDownLatch(1);
+
+        CompletableFuture<UUID> firstWaitingWrite = CompletableFuture.supplyAsync(() -> {
+            firstWriterStarted.countDown();
+            return classUnderTest.write(testCustomerResourceEvent, Duration.ofSeconds(5L));
+        }, testWriters);
+        assertTrue(firstWriterStarted.await(5, SECONDS));
+        Thread.sleep(100L);
+        CompletableFuture<UUID> secondWaitingWrite = CompletableFuture.supplyAsync(() -> classUnderTest.write(testCustomerResourceEvent, Duration.ofSeconds(5L)), testWriters);
+        Thread.sleep(100L);
+
+        classUnderTest.read(firstRecordUUID);
+
+        assertNotNull(firstWaitingWrite.get(5, SECONDS));
+        assertThrows(Exception.class, () -> secondWaitingWrite.get(100, MILLISECONDS));
+    }
+
+    private UUID fillBuffer() {
+        UUID firstRecordUUID = classUnderTest.write(testCustomerResourceEvent);
+        for (int i = 1; i < TEST_CAPACITY; ++i) {
+            classUnderTest.write(testCustomerResourceEvent);
+        }
+
+        return firstRecordUUID;
+    }
 }
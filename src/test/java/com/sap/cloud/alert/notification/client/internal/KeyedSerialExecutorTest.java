@@ -0,0 +1,266 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.sap.cloud.alert.notification.client.internal.KeyedSerialExecutor.MAX_TASKS_PER_TURN;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeyedSerialExecutorTest {
+
+    private static final String TEST_KEY = "TEST_KEY";
+    private static final String TEST_OTHER_KEY = "TEST_OTHER_KEY";
+
+    private ExecutorService testExecutorService;
+    private KeyedSerialExecutor classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        testExecutorService = Executors.newFixedThreadPool(8);
+        classUnderTest = new KeyedSerialExecutor(testExecutorService);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        testExecutorService.shutdownNow();
+    }
+
+    @Test
+    public void givenManyActiveKeys_whenTasksAreSubmittedConcurrently_thenEachKeyRunsInSubmissionOrderWithoutDedicatedThreads() throws Exception {
+        int keysCount = 20000;
+        int tasksPerKey = 5;
+        int submittersCount = 4;
+        Map<Integer, List<Integer>> executedTasks = new ConcurrentHashMap<>();
+        AtomicInteger concurrentlyRunningPerKey = new AtomicInteger();
+        CountDownLatch tasksCompleted = new CountDownLatch(keysCount * tasksPerKey);
+        ExecutorService submitters = Executors.newFixedThreadPool(submittersCount);
+
+        try {
+            for (int submitter = 0; submitter < submittersCount; submitter++) {
+                int firstKey = submitter;
+                submitters.execute(() -> {
+                    for (int task = 0; task < tasksPerKey; task++) {
+                        for (int key = firstKey; key < keysCount; key += submittersCount) {
+                            int currentKey = key;
+                            int currentTask = task;
+                            classUnderTest.execute(currentKey, () -> {
+                                List<Integer> keyTasks = executedTasks.computeIfAbsent(currentKey, ignored -> new ArrayList<>());
+                                synchronized (keyTasks) {
+                                    if (keyTasks.size() != currentTask) {
+                                        concurrentlyRunningPerKey.incrementAndGet();
+                                    }
+                                    keyTasks.add(currentTask);
+                                }
+                                tasksCompleted.countDown();
+                            });
+                        }
+                    }
+                });
+            }
+
+            assertTrue(tasksCompleted.await(30, SECONDS));
+        } finally {
+            submitters.shutdownNow();
+        }
+
+        assertEquals(0, concurrentlyRunningPerKey.get());
+        assertEquals(keysCount, executedTasks.size());
+        executedTasks.values().forEach(keyTasks -> {
+            for (int task = 0; task < tasksPerKey; task++) {
+                assertEquals(task, keyTasks.get(task).intValue());
+            }
+        });
+        assertEquals(0, awaitDrainedLanes());
+    }
+
+    @Test
+    public void givenBusyLane_whenAnotherKeyIsSubmitted_thenItRunsAfterOneTurnOfTheBusyLane() throws Exception {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        classUnderTest = new KeyedSerialExecutor(singleThreadExecutor);
+        CountDownLatch submissionsCompleted = new CountDownLatch(1);
+        CountDownLatch otherKeyCompleted = new CountDownLatch(1);
+        AtomicInteger busyLaneTasks = new AtomicInteger();
+        AtomicInteger busyLaneTasksBeforeOtherKey = new AtomicInteger();
+
+        try {
+            classUnderTest.execute(TEST_KEY, () -> awaitQuietly(submissionsCompleted));
+            for (int i = 0; i < 3 * MAX_TASKS_PER_TURN; i++) {
+                classUnderTest.execute(TEST_KEY, busyLaneTasks::incrementAndGet);
+            }
+            classUnderTest.execute(TEST_OTHER_KEY, () -> {
+                busyLaneTasksBeforeOtherKey.set(busyLaneTasks.get());
+                otherKeyCompleted.countDown();
+            });
+            submissionsCompleted.countDown();
+
+            assertTrue(otherKeyCompleted.await(5, SECONDS));
+            assertEquals(MAX_TASKS_PER_TURN - 1, busyLaneTasksBeforeOtherKey.get());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenParkedAsyncTask_whenOtherTasksAreSubmitted_thenOtherKeysRunAndSameKeyWaitsForCompletion() throws Exception {
+        ExecutorService singleThreadExecutor = Executors.newSingleThreadExecutor();
+        classUnderTest = new KeyedSerialExecutor(singleThreadExecutor);
+        CompletableFuture<String> pendingExecution = new CompletableFuture<>();
+        CountDownLatch otherKeyCompleted = new CountDownLatch(1);
+        CountDownLatch sameKeyCompleted = new CountDownLatch(1);
+        AtomicReference<Boolean> wasResultCompletedFirst = new AtomicReference<>();
+
+        try {
+            CompletableFuture<String> result = classUnderTest.submit(TEST_KEY, () -> pendingExecution);
+            classUnderTest.execute(TEST_KEY, () -> {
+                wasResultCompletedFirst.set(result.isDone());
+                sameKeyCompleted.countDown();
+            });
+            classUnderTest.execute(TEST_OTHER_KEY, otherKeyCompleted::countDown);
+
+            assertTrue(otherKeyCompleted.await(5, SECONDS));
+            assertFalse(sameKeyCompleted.await(100, MILLISECONDS));
+            assertFalse(result.isDone());
+
+            pendingExecution.complete(TEST_KEY);
+
+            assertEquals(TEST_KEY, result.get(5, SECONDS));
+            assertTrue(sameKeyCompleted.await(5, SECONDS));
+            assertTrue(wasResultCompletedFirst.get());
+        } finally {
+            singleThreadExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenFailingAsyncTask_whenItCompletes_thenResultIsCompletedExceptionallyAndLaneContinues() throws Exception {
+        CountDownLatch followingTaskCompleted = new CountDownLatch(1);
+
+        CompletableFuture<String> result = classUnderTest.submit(TEST_KEY, () -> {
+            throw new IllegalStateException();
+        });
+        classUnderTest.execute(TEST_KEY, followingTaskCompleted::countDown);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+        assertTrue(followingTaskCompleted.await(5, SECONDS));
+    }
+
+    @Test
+    public void givenFailingTask_whenFollowingTasksAreSubmitted_thenTheyAreStillRun() throws Exception {
+        CountDownLatch followingTaskCompleted = new CountDownLatch(1);
+
+        classUnderTest.execute(TEST_KEY, () -> {
+            throw new IllegalStateException();
+        });
+        classUnderTest.execute(TEST_KEY, followingTaskCompleted::countDown);
+
+        assertTrue(followingTaskCompleted.await(5, SECONDS));
+    }
+
+    @Test
+    public void givenSaturatedExecutorService_whenTaskIsSubmitted_thenExceptionIsThrownAndTaskIsNotRun() throws Exception {
+        ExecutorService saturatedExecutor = new ThreadPoolExecutor(1, 1, 0L, SECONDS, new SynchronousQueue<>());
+        CountDownLatch executorReleased = new CountDownLatch(1);
+        classUnderTest = new KeyedSerialExecutor(saturatedExecutor);
+
+        try {
+            saturatedExecutor.execute(() -> awaitQuietly(executorReleased));
+
+            assertThrows(RejectedExecutionException.class, () -> classUnderTest.execute(TEST_KEY, () -> fail("Task must not run")));
+            assertEquals(0, classUnderTest.getActiveLanesCount());
+        } finally {
+            executorReleased.countDown();
+            saturatedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenExecutorServiceSaturatedWhileLaneIsParked_whenAsyncTaskCompletes_thenQueuedAsyncTasksAreRejectedWithoutRunning() throws Exception {
+        ExecutorService saturatedExecutor = new ThreadPoolExecutor(1, 1, 0L, SECONDS, new SynchronousQueue<>());
+        CountDownLatch executorReleased = new CountDownLatch(1);
+        CompletableFuture<String> pendingExecution = new CompletableFuture<>();
+        CountDownLatch executionStarted = new CountDownLatch(1);
+        AtomicInteger queuedTaskRuns = new AtomicInteger();
+        classUnderTest = new KeyedSerialExecutor(saturatedExecutor);
+
+        try {
+            CompletableFuture<String> parkedResult = classUnderTest.submit(TEST_KEY, () -> {
+                executionStarted.countDown();
+                return pendingExecution;
+            });
+            CompletableFuture<String> queuedResult = classUnderTest.submit(TEST_KEY, () -> {
+                queuedTaskRuns.incrementAndGet();
+                return CompletableFuture.completedFuture(TEST_KEY);
+            });
+            assertTrue(executionStarted.await(5, SECONDS));
+            Thread.sleep(100L); // lets the lane park after starting the execution
+            saturatedExecutor.execute(() -> awaitQuietly(executorReleased));
+            pendingExecution.complete(TEST_KEY);
+
+            assertEquals(TEST_KEY, parkedResult.join());
+            CompletionException exception = assertThrows(CompletionException.class, queuedResult::join);
+            assertTrue(exception.getCause() instanceof RejectedExecutionException);
+            assertEquals(0, queuedTaskRuns.get());
+            assertEquals(0, classUnderTest.getActiveLanesCount());
+        } finally {
+            executorReleased.countDown();
+            saturatedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenExecutorServiceShutDownWhileLaneIsParked_whenAsyncTaskCompletes_thenQueuedAsyncTasksAreRejected() throws Exception {
+        CompletableFuture<String> pendingExecution = new CompletableFuture<>();
+        CountDownLatch executionStarted = new CountDownLatch(1);
+
+        CompletableFuture<String> parkedResult = classUnderTest.submit(TEST_KEY, () -> {
+            executionStarted.countDown();
+            return pendingExecution;
+        });
+        CompletableFuture<String> queuedResult = classUnderTest.submit(TEST_KEY, () -> CompletableFuture.completedFuture(TEST_KEY));
+        assertTrue(executionStarted.await(5, SECONDS));
+        Thread.sleep(100L); // lets the lane park after starting the execution
+        testExecutorService.shutdown();
+        pendingExecution.complete(TEST_KEY);
+
+        assertEquals(TEST_KEY, parkedResult.join());
+        CompletionException exception = assertThrows(CompletionException.class, queuedResult::join);
+        assertTrue(exception.getCause() instanceof RejectedExecutionException);
+        assertEquals(0, classUnderTest.getActiveLanesCount());
+    }
+
+    @Test
+    public void givenShutdownExecutorService_whenTaskIsSubmitted_thenExceptionIsThrownAndLaneIsDiscarded() {
+        testExecutorService.shutdown();
+
+        assertThrows(RejectedExecutionException.class, () -> classUnderTest.execute(TEST_KEY, () -> fail("Task must not run")));
+        assertEquals(0, classUnderTest.getActiveLanesCount());
+    }
+
+    private int awaitDrainedLanes() throws InterruptedException {
+        // The last task of a lane completes just before the lane is discarded
+        for (int i = 0; i < 500 && classUnderTest.getActiveLanesCount() > 0; i++) {
+            Thread.sleep(10L);
+        }
+
+        return classUnderTest.getActiveLanesCount();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
@@ -98,6 +99,21 @@ public class OAuthAuthorizationHeaderTest {
         verify(mockedHttpClient, times(1)).execute(any(HttpUriRequest.class));
     }
 
+    @Test
+    public void givenCertificateAuthentication_whenHttpClientIsReplaced_thenReplacedHttpClientIsClosed() throws Exception {
+        HttpClient initialHttpClient = mock(HttpClient.class, withSettings().extraInterfaces(Closeable.class));
+        HttpClient renewedHttpClient = mock(HttpClient.class, withSettings().extraInterfaces(Closeable.class));
+        when(mockedHttpClientFactory.createHttpClient(TEST_CERTIFICATE, TEST_PRIVATE_KEY)).thenReturn(initialHttpClient, renewedHttpClient);
+        doReturn(createMockedUAATokenResponse(TEST_ACCESS_TOKEN_1, Duration.ofMinutes(5))).when(renewedHttpClient).execute(any(HttpPost.class));
+
+        classUnderTest = new OAuthAuthorizationHeader(TEST_CERTIFICATE, TEST_PRIVATE_KEY, TEST_UAA_URI, TEST_CLIENT_ID, mockedHttpClientFactory);
+
+        assertEquals(String.format("Bearer %s", TEST_ACCESS_TOKEN_1), classUnderTest.getValue());
+
+        verify((Closeable) initialHttpClient).close();
+        verify((Closeable) renewedHttpClient, never()).close();
+    }
+
     @Test
     public void givenThatUAARequestFails_whenGetValueIsCalled_thenExceptionIsThrown() throws IOException {
         doThrow(new IOException()).when(mockedHttpClient).execute(any(HttpPost.class));
@@ -0,0 +1,153 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.model.AffectedCustomerResource;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import com.sap.cloud.alert.notification.client.model.EventCategory;
+import com.sap.cloud.alert.notification.client.model.EventSeverity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static com.sap.cloud.alert.notification.client.internal.OffHeapCustomerResourceEventBuffer.BLOCK_SIZE;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffHeapCustomerResourceEventBufferTest {
+
+    private static final int TEST_CAPACITY = 10;
+    private static final long TEST_CAPACITY_IN_BYTES = 16L * BLOCK_SIZE;
+    private static final AffectedCustomerResource TEST_AFFECTED_RESOURCE = new AffectedCustomerResource("test_name", "test_type", "test_instance",
+            singletonMap("test_resource_key", "test_resource_value"));
+
+    private OffHeapCustomerResourceEventBuffer classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new OffHeapCustomerResourceEventBuffer(TEST_CAPACITY, TEST_CAPACITY_IN_BYTES);
+    }
+
+    @Test
+    public void whenGetCapacityIsCalled_thenCorrectResultIsReturned() {
+        assertEquals(TEST_CAPACITY, classUnderTest.getCapacity());
+        assertEquals(TEST_CAPACITY_IN_BYTES, classUnderTest.getCapacityInBytes());
+        assertTrue(classUnderTest.isSerializing());
+    }
+
+    @Test
+    public void givenThatCapacityIsTooSmall_whenBufferIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCustomerResourceEventBuffer(0, TEST_CAPACITY_IN_BYTES));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapCustomerResourceEventBuffer(TEST_CAPACITY, BLOCK_SIZE - 1));
+    }
+
+    @Test
+    public void whenEventSpanningManyBlocksIsWritten_thenItIsReadBackUnchangedOnlyOnce() {
+        CustomerResourceEvent event = createEvent(3 * BLOCK_SIZE);
+
+        UUID eventUuid = classUnderTest.write(event);
+        assertEquals(1, classUnderTest.getSize());
+        assertTrue(classUnderTest.getSizeInBytes() >= 4L * BLOCK_SIZE);
+
+        CustomerResourceEvent readEvent = classUnderTest.read(eventUuid);
+
+        assertEquals(event.getSubject(), readEvent.getSubject());
+        assertEquals(event.getBody(), readEvent.getBody());
+        assertEquals(event.getTags(), readEvent.getTags());
+        assertEquals(event.getResource().getTags(), readEvent.getResource().getTags());
+        assertNull(classUnderTest.read(eventUuid));
+        assertEquals(0, classUnderTest.getSize());
+        assertEquals(0L, classUnderTest.getSizeInBytes());
+    }
+
+    @Test
+    public void whenReadSerializedIsCalled_thenJsonOfTheEventIsReturned() throws Exception {
+        CustomerResourceEvent event = createEvent(BLOCK_SIZE);
+
+        UUID eventUuid = classUnderTest.write(event);
+
+        assertArrayEquals(new ObjectMapper().setSerializationInclusion(NON_NULL).writeValueAsBytes(event), classUnderTest.readSerialized(eventUuid));
+        assertNull(classUnderTest.readSerialized(eventUuid));
+    }
+
+    @Test
+    public void givenThatBlocksAreUsed_whenWriteIsCalled_thenLargeEventIsRejectedWhileSmallEventFits() {
+        classUnderTest.write(createEvent(12 * BLOCK_SIZE));
+
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(createEvent(4 * BLOCK_SIZE)));
+        assertNull(classUnderTest.tryWrite(createEvent(4 * BLOCK_SIZE)));
+        assertNotNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenThatEventCountCapacityIsUsed_whenWriteIsCalled_thenEventIsRejected() {
+        classUnderTest = new OffHeapCustomerResourceEventBuffer(1, TEST_CAPACITY_IN_BYTES);
+        classUnderTest.write(createEvent(0));
+
+        assertNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenEventLargerThanByteCapacity_whenWriteIsCalled_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> classUnderTest.write(createEvent((int) TEST_CAPACITY_IN_BYTES)));
+        assertEquals(0L, classUnderTest.getSizeInBytes());
+    }
+
+    @Test
+    public void givenThatBlocksAreUsed_whenWriteWithTimeoutIsCalled_thenItWaitsUntilEnoughBlocksAreReleased() throws Exception {
+        UUID firstEventUuid = classUnderTest.write(createEvent(8 * BLOCK_SIZE));
+        UUID secondEventUuid = classUnderTest.write(createEvent(4 * BLOCK_SIZE));
+        CustomerResourceEvent waitingEvent = createEvent(8 * BLOCK_SIZE);
+        CompletableFuture<UUID> waitingWrite = CompletableFuture.supplyAsync(() -> classUnderTest.write(waitingEvent, Duration.ofSeconds(10L)));
+
+        classUnderTest.read(secondEventUuid);
+        Thread.sleep(100L);
+        assertFalse(waitingWrite.isDone());
+
+        classUnderTest.read(firstEventUuid);
+
+        assertEquals(waitingEvent.getBody(), classUnderTest.read(waitingWrite.get(5, SECONDS)).getBody());
+    }
+
+    @Test
+    public void givenSlabsLargerThanOneBlock_whenEventsOfVaryingSizeAreWrittenAndRead_thenReleasedBlocksAreReusedWithoutCorruption() {
+        classUnderTest = new OffHeapCustomerResourceEventBuffer(100, 4L * OffHeapCustomerResourceEventBuffer.MAX_SLAB_SIZE);
+        Random random = new Random(42L);
+        Deque<UUID> eventUuids = new ArrayDeque<>();
+        Deque<CustomerResourceEvent> events = new ArrayDeque<>();
+
+        for (int i = 0; i < 5000; i++) {
+            if (eventUuids.size() == 100 || (!eventUuids.isEmpty() && random.nextBoolean())) {
+                assertEquals(events.poll().getBody(), classUnderTest.read(eventUuids.poll()).getBody());
+            }
+
+            CustomerResourceEvent event = createEvent(random.nextInt(20 * BLOCK_SIZE));
+            events.add(event);
+            eventUuids.add(classUnderTest.write(event));
+        }
+
+        while (!eventUuids.isEmpty()) {
+            assertEquals(events.poll().getBody(), classUnderTest.read(eventUuids.poll()).getBody());
+        }
+        assertEquals(0L, classUnderTest.getSizeInBytes());
+    }
+
+    private static CustomerResourceEvent createEvent(int bodyLength) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < bodyLength; i++) {
+            body.append((char) ('a' + i % 26));
+        }
+
+        return new CustomerResourceEvent(null, "test_type", 1L, EventSeverity.INFO, EventCategory.NOTIFICATION, null, "test_subject_" + bodyLength,
+                body.toString(), emptyMap(), TEST_AFFECTED_RESOURCE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RetryBudgetTest {
+
+    private static final double TEST_RETRY_RATIO = 0.1;
+    private static final int TEST_MAX_TOKENS = 3;
+
+    private RetryBudget classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new RetryBudget(TEST_RETRY_RATIO, TEST_MAX_TOKENS);
+    }
+
+    @Test
+    public void whenGettersAreCalled_thenCorrectValuesAreReturned() {
+        assertEquals(TEST_RETRY_RATIO, classUnderTest.getRetryRatio());
+        assertEquals(TEST_MAX_TOKENS, classUnderTest.getMaxTokens());
+        assertEquals(TEST_MAX_TOKENS, classUnderTest.getAvailableTokens());
+    }
+
+    @Test
+    public void givenInvalidArguments_whenInstanceIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(-0.1, TEST_MAX_TOKENS));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(Double.NaN, TEST_MAX_TOKENS));
+        assertThrows(IllegalArgumentException.class, () -> new RetryBudget(TEST_RETRY_RATIO, 0));
+    }
+
+    @Test
+    public void givenFullBudget_whenItIsSpent_thenNoMoreRetriesAreAcquired() {
+        for (int i = 0; i < TEST_MAX_TOKENS; i++) {
+            assertTrue(classUnderTest.tryAcquireRetry());
+        }
+
+        assertFalse(classUnderTest.tryAcquireRetry());
+        assertEquals(0.0, classUnderTest.getAvailableTokens());
+    }
+
+    @Test
+    public void givenSpentBudget_whenRequestsSucceed_thenRetryIsEarnedPerTenSuccesses() {
+        givenFullBudget_whenItIsSpent_thenNoMoreRetriesAreAcquired();
+
+        for (int i = 0; i < 9; i++) {
+            classUnderTest.onSuccess();
+        }
+        assertFalse(classUnderTest.tryAcquireRetry());
+
+        classUnderTest.onSuccess();
+        assertTrue(classUnderTest.tryAcquireRetry());
+        assertFalse(classUnderTest.tryAcquireRetry());
+    }
+
+    @Test
+    public void givenManySuccesses_whenTheyAreRecorded_thenBudgetDoesNotExceedMaxTokens() {
+        for (int i = 0; i < 1000; i++) {
+            classUnderTest.onSuccess();
+        }
+
+        assertEquals(TEST_MAX_TOKENS, classUnderTest.getAvailableTokens());
+    }
+
+    @Test
+    public void givenConcurrentRetries_whenBudgetIsShared_thenItIsNotOverspent() throws Exception {
+        classUnderTest = new RetryBudget(TEST_RETRY_RATIO, 100);
+        AtomicInteger acquiredRetries = new AtomicInteger();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<?>[] futures = new Future<?>[8];
+            for (int thread = 0; thread < futures.length; thread++) {
+                futures[thread] = executorService.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (classUnderTest.tryAcquireRetry()) {
+                            acquiredRetries.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get(5, SECONDS);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertEquals(100, acquiredRetries.get());
+    }
+}
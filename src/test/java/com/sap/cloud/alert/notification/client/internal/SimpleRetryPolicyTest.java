@@ -1,14 +1,22 @@
 package com.sap.cloud.alert.notification.client.internal;
 
+import com.sap.cloud.alert.notification.client.exceptions.CircuitBreakerOpenException;
+import com.sap.cloud.alert.notification.client.exceptions.ResponseParsingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.OngoingStubbing;
 
+import java.io.IOException;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Supplier;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 public class SimpleRetryPolicyTest {
@@ -66,6 +74,90 @@ public class SimpleRetryPolicyTest {
         });
     }
 
+    @Test
+    public void givenThatAsyncExecutionFails_whenExecuteWithRetryAsyncIsCalled_thenExecutionIsRetried_and_correctResultIsReturned() throws Exception {
+        for (int intendedFailures = 0; intendedFailures < TEST_RETRIES; ++intendedFailures) {
+            Supplier<String> testSupplier = createMockedSupplier(intendedFailures);
+
+            assertEquals(classUnderTest.executeWithRetryAsync(() -> supplyFuture(testSupplier)).get(5, SECONDS), TEST_RESULT);
+
+            verify(testSupplier, times(intendedFailures + 1)).get();
+        }
+    }
+
+    @Test
+    public void givenThatAsyncExecutionStillFailsAfterAllRetries_whenExecuteWithRetryAsyncIsCalled_thenFutureCompletesExceptionally() {
+        Supplier<String> testSupplier = createMockedSupplier(TEST_RETRIES + 1);
+
+        CompletableFuture<String> result = classUnderTest.executeWithRetryAsync(() -> supplyFuture(testSupplier));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, SECONDS));
+        assertEquals(RuntimeException.class, exception.getCause().getClass());
+        verify(testSupplier, times(TEST_RETRIES + 1)).get();
+    }
+
+    @Test
+    public void givenSpentRetryBudget_whenExecutionFails_thenItIsNotRetried() throws Exception {
+        RetryBudget retryBudget = new RetryBudget(0.5, 1);
+        classUnderTest = new SimpleRetryPolicy(TEST_RETRIES, Duration.ZERO, retryBudget);
+
+        Supplier<String> testSupplier = createMockedSupplier(TEST_RETRIES);
+        assertThrows(RuntimeException.class, () -> classUnderTest.executeWithRetry(testSupplier));
+        verify(testSupplier, times(2)).get();
+
+        Supplier<String> asyncTestSupplier = createMockedSupplier(1);
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> classUnderTest.executeWithRetryAsync(() -> supplyFuture(asyncTestSupplier)).get(5, SECONDS));
+        assertEquals(RuntimeException.class, exception.getCause().getClass());
+        verify(asyncTestSupplier, times(1)).get();
+
+        assertEquals(TEST_RESULT, classUnderTest.executeWithRetry(asyncTestSupplier));
+        assertEquals(TEST_RESULT, classUnderTest.executeWithRetry(asyncTestSupplier));
+        assertEquals(TEST_RESULT, classUnderTest.executeWithRetry(createMockedSupplier(1)));
+        assertSame(retryBudget, classUnderTest.getRetryBudget());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenUnparsableResponse_whenExecutionFails_thenItIsNotRetried() {
+        Supplier<String> testSupplier = mock(Supplier.class);
+        when(testSupplier.get()).thenThrow(new ResponseParsingException("", new IOException()));
+
+        assertThrows(ResponseParsingException.class, () -> classUnderTest.executeWithRetry(testSupplier));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> classUnderTest.executeWithRetryAsync(() -> supplyFuture(testSupplier)).get(5, SECONDS));
+
+        assertEquals(ResponseParsingException.class, exception.getCause().getClass());
+        verify(testSupplier, times(2)).get();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void givenOpenCircuit_whenExecutionFails_thenItFailsWithoutWaitingForRetries() {
+        classUnderTest = new SimpleRetryPolicy(TEST_RETRIES, Duration.ofSeconds(1L));
+        Supplier<String> testSupplier = mock(Supplier.class);
+        when(testSupplier.get()).thenThrow(new CircuitBreakerOpenException("TEST_CIRCUIT"));
+        long startTime = System.nanoTime();
+
+        assertThrows(CircuitBreakerOpenException.class, () -> classUnderTest.executeWithRetry(testSupplier));
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> classUnderTest.executeWithRetryAsync(() -> supplyFuture(testSupplier)).get(5, SECONDS));
+
+        assertEquals(CircuitBreakerOpenException.class, exception.getCause().getClass());
+        assertTrue(System.nanoTime() - startTime < SECONDS.toNanos(1L));
+        verify(testSupplier, times(2)).get();
+    }
+
+    private static CompletableFuture<String> supplyFuture(Supplier<String> supplier) {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        try {
+            future.complete(supplier.get());
+        } catch (RuntimeException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
     @SuppressWarnings("unchecked")
     private static Supplier<String> createMockedSupplier(int failures) {
         Supplier<String> testSupplier = mock(Supplier.class);
@@ -0,0 +1,204 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.HttpTransportRequest;
+import com.sap.cloud.alert.notification.client.HttpTransportResponse;
+import com.sap.cloud.alert.notification.client.IHttpTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.apache.http.HttpStatus.SC_OK;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwappableHttpTransportTest {
+
+    private static final URI TEST_URI = URI.create("https://nowhere.com/producer/v1/resource-events");
+    private static final HttpTransportRequest TEST_REQUEST = new HttpTransportRequest("GET", TEST_URI, Collections.emptyMap(), null);
+    private static final HttpTransportResponse TEST_RESPONSE = new HttpTransportResponse(SC_OK, "OK", Collections.emptyMap(), new byte[0]);
+
+    private TrackingHttpTransport initialTransport;
+    private SwappableHttpTransport classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        initialTransport = new TrackingHttpTransport();
+        classUnderTest = new SwappableHttpTransport(initialTransport);
+    }
+
+    @Test
+    public void givenIdleTransport_whenSwapIsCalled_thenNewRequestsUseNewTransportAndOldOneIsClosed() throws Exception {
+        TrackingHttpTransport rotatedTransport = new TrackingHttpTransport();
+
+        classUnderTest.swap(rotatedTransport);
+        classUnderTest.execute(TEST_REQUEST);
+
+        assertSame(rotatedTransport, classUnderTest.getHttpTransport());
+        assertEquals(0, initialTransport.executedRequests.get());
+        assertEquals(1, initialTransport.closings.get());
+        assertEquals(1, rotatedTransport.executedRequests.get());
+        assertEquals(0, rotatedTransport.closings.get());
+    }
+
+    @Test
+    public void givenRequestInFlight_whenSwapIsCalled_thenOldTransportIsClosedOnceRequestCompletes() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch requestReleased = new CountDownLatch(1);
+        initialTransport = new TrackingHttpTransport() {
+            @Override
+            public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+                requestStarted.countDown();
+                awaitQuietly(requestReleased);
+                return super.execute(request);
+            }
+        };
+        classUnderTest = new SwappableHttpTransport(initialTransport);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<HttpTransportResponse> inFlightResponse = executor.submit(() -> classUnderTest.execute(TEST_REQUEST));
+            assertTrue(requestStarted.await(5, SECONDS));
+
+            classUnderTest.swap(new TrackingHttpTransport());
+            assertEquals(0, initialTransport.closings.get());
+
+            requestReleased.countDown();
+            assertEquals(TEST_RESPONSE, inFlightResponse.get(5, SECONDS));
+            assertEquals(1, initialTransport.closings.get());
+            assertEquals(0, initialTransport.requestsOnClosedTransport.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenAsyncRequestInFlight_whenSwapIsCalled_thenOldTransportIsClosedOnceFutureCompletes() {
+        CompletableFuture<HttpTransportResponse> pendingResponse = new CompletableFuture<>();
+        initialTransport = new TrackingHttpTransport() {
+            @Override
+            public CompletableFuture<HttpTransportResponse> executeAsync(HttpTransportRequest request) {
+                return pendingResponse;
+            }
+        };
+        classUnderTest = new SwappableHttpTransport(initialTransport);
+
+        CompletableFuture<HttpTransportResponse> response = classUnderTest.executeAsync(TEST_REQUEST);
+        classUnderTest.swap(new TrackingHttpTransport());
+
+        assertEquals(0, initialTransport.closings.get());
+
+        pendingResponse.complete(TEST_RESPONSE);
+
+        assertEquals(TEST_RESPONSE, response.join());
+        assertEquals(1, initialTransport.closings.get());
+    }
+
+    @Test
+    public void givenClosedTransport_whenExecuteIsCalled_thenExceptionIsThrown() {
+        classUnderTest.close();
+
+        assertEquals(1, initialTransport.closings.get());
+        assertThrows(IllegalStateException.class, () -> classUnderTest.execute(TEST_REQUEST));
+    }
+
+    @Test
+    public void givenSustainedLoad_whenTransportIsRotatedRepeatedly_thenNoRequestFailsAndEveryReplacedTransportIsClosedOnce() throws Exception {
+        int senders = 8;
+        int rotations = 50;
+        List<TrackingHttpTransport> transports = new CopyOnWriteArrayList<>(Collections.singletonList(initialTransport));
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong sentRequests = new AtomicLong();
+        CountDownLatch sendersStarted = new CountDownLatch(senders);
+        ExecutorService executor = Executors.newFixedThreadPool(senders);
+        List<Future<?>> runningSenders = new ArrayList<>();
+        AtomicBoolean isStopped = new AtomicBoolean();
+
+        try {
+            for (int i = 0; i < senders; i++) {
+                runningSenders.add(executor.submit(() -> {
+                    sendersStarted.countDown();
+                    while (!isStopped.get()) {
+                        try {
+                            assertEquals(TEST_RESPONSE, classUnderTest.execute(TEST_REQUEST));
+                            sentRequests.incrementAndGet();
+                        } catch (Throwable failure) {
+                            failures.add(failure);
+                        }
+                    }
+                }));
+            }
+            assertTrue(sendersStarted.await(5, SECONDS));
+
+            for (int i = 0; i < rotations; i++) {
+                TrackingHttpTransport rotatedTransport = new TrackingHttpTransport();
+                transports.add(rotatedTransport);
+                classUnderTest.swap(rotatedTransport);
+                LockSupport.parkNanos(MICROSECONDS.toNanos(500));
+            }
+        } finally {
+            isStopped.set(true);
+            for (Future<?> runningSender : runningSenders) {
+                runningSender.get(5, SECONDS);
+            }
+            executor.shutdownNow();
+        }
+
+        assertTrue(failures.isEmpty(), () -> "Failed requests: " + failures);
+        assertTrue(sentRequests.get() > rotations);
+        assertEquals(sentRequests.get(), transports.stream().mapToLong(transport -> transport.executedRequests.get()).sum());
+        for (TrackingHttpTransport transport : transports.subList(0, rotations)) {
+            assertEquals(1, transport.closings.get());
+            assertEquals(0, transport.requestsOnClosedTransport.get());
+        }
+        assertEquals(0, transports.get(rotations).closings.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class TrackingHttpTransport implements IHttpTransport {
+
+        final AtomicInteger closings = new AtomicInteger();
+        final AtomicInteger executedRequests = new AtomicInteger();
+        final AtomicInteger requestsOnClosedTransport = new AtomicInteger();
+
+        @Override
+        public HttpTransportResponse execute(HttpTransportRequest request) throws IOException {
+            if (closings.get() > 0) {
+                requestsOnClosedTransport.incrementAndGet();
+                throw new IOException("Connection pool shut down");
+            }
+
+            LockSupport.parkNanos(MICROSECONDS.toNanos(50));
+
+            if (closings.get() > 0) {
+                requestsOnClosedTransport.incrementAndGet();
+                throw new IOException("Connection pool shut down");
+            }
+
+            executedRequests.incrementAndGet();
+            return TEST_RESPONSE;
+        }
+
+        @Override
+        public void close() {
+            closings.incrementAndGet();
+        }
+    }
+}
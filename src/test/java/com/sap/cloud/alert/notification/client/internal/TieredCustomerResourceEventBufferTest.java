@@ -0,0 +1,231 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.AffectedCustomerResource;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import com.sap.cloud.alert.notification.client.model.EventCategory;
+import com.sap.cloud.alert.notification.client.model.EventSeverity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static com.sap.cloud.alert.notification.client.internal.TieredCustomerResourceEventBuffer.SEGMENT_FILE_SUFFIX;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TieredCustomerResourceEventBufferTest {
+
+    private static final int TEST_MEMORY_CAPACITY = 2;
+    private static final int TEST_SPILL_CAPACITY = 3;
+    private static final AffectedCustomerResource TEST_AFFECTED_RESOURCE = new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap());
+
+    @TempDir
+    public Path testDirectory;
+
+    private TieredCustomerResourceEventBuffer classUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        classUnderTest = new TieredCustomerResourceEventBuffer(TEST_MEMORY_CAPACITY, testDirectory, TEST_SPILL_CAPACITY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        classUnderTest.close();
+    }
+
+    @Test
+    public void whenGetCapacityIsCalled_thenCapacityOfBothTiersIsReturned() {
+        assertEquals(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY, classUnderTest.getCapacity());
+        assertEquals(TEST_MEMORY_CAPACITY, classUnderTest.getMemoryCapacity());
+        assertEquals(TEST_SPILL_CAPACITY, classUnderTest.getSpillCapacity());
+    }
+
+    @Test
+    public void givenInvalidCapacity_whenBufferIsCreated_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new TieredCustomerResourceEventBuffer(0, testDirectory, TEST_SPILL_CAPACITY));
+        assertThrows(IllegalArgumentException.class, () -> new TieredCustomerResourceEventBuffer(TEST_MEMORY_CAPACITY, testDirectory, -1));
+    }
+
+    @Test
+    public void givenThatMemoryIsFull_whenWriteIsCalled_thenEventsAreSpilledUntilBothTiersAreFull() throws Exception {
+        writeEvents(TEST_MEMORY_CAPACITY);
+        assertEquals(0, countSpillFiles());
+
+        writeEvents(TEST_SPILL_CAPACITY);
+
+        assertEquals(TEST_MEMORY_CAPACITY, classUnderTest.getMemorySize());
+        assertEquals(TEST_SPILL_CAPACITY, classUnderTest.getSpilledSize());
+        assertEquals(1, countSpillFiles());
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(createEvent(0)));
+        assertNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenSpilledEvents_whenEventInMemoryIsRead_thenOldestSpilledEventIsLoadedBack() throws Exception {
+        List<UUID> eventUuids = writeEvents(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY);
+
+        assertEquals(createEvent(0).getSubject(), classUnderTest.read(eventUuids.get(0)).getSubject());
+
+        assertEquals(TEST_MEMORY_CAPACITY, classUnderTest.getMemorySize());
+        assertEquals(TEST_SPILL_CAPACITY - 1, classUnderTest.getSpilledSize());
+        assertNotNull(classUnderTest.tryWrite(createEvent(0)));
+        assertEquals(TEST_SPILL_CAPACITY, classUnderTest.getSpilledSize());
+
+        for (int i = 1; i < eventUuids.size(); i++) {
+            assertEquals(createEvent(i).getSubject(), classUnderTest.read(eventUuids.get(i)).getSubject());
+            assertNull(classUnderTest.read(eventUuids.get(i)));
+        }
+    }
+
+    @Test
+    public void givenSpilledEvent_whenItIsReadDirectly_thenItIsReturned() {
+        List<UUID> eventUuids = writeEvents(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY);
+
+        assertEquals(createEvent(3).getSubject(), classUnderTest.read(eventUuids.get(3)).getSubject());
+
+        assertEquals(TEST_SPILL_CAPACITY - 1, classUnderTest.getSpilledSize());
+        assertNull(classUnderTest.read(eventUuids.get(3)));
+    }
+
+    @Test
+    public void givenUnreadableSpillFile_whenEventsAreRead_thenSpilledEventsAreKeptAndEventsInMemoryAreReturned() throws Exception {
+        List<UUID> eventUuids = writeEvents(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY);
+        try (Stream<Path> files = Files.list(testDirectory)) {
+            for (Path spillFile : (Iterable<Path>) files::iterator) {
+                try (FileChannel channel = FileChannel.open(spillFile, WRITE)) {
+                    channel.truncate(0L);
+                }
+            }
+        }
+
+        assertThrows(ClientRequestException.class, () -> classUnderTest.read(eventUuids.get(3)));
+        assertEquals(TEST_SPILL_CAPACITY, classUnderTest.getSpilledSize());
+
+        assertEquals(createEvent(0).getSubject(), classUnderTest.read(eventUuids.get(0)).getSubject());
+        assertEquals(TEST_MEMORY_CAPACITY - 1, classUnderTest.getMemorySize());
+        assertEquals(TEST_SPILL_CAPACITY, classUnderTest.getSpilledSize());
+
+        assertEquals(createEvent(1).getSubject(), classUnderTest.read(eventUuids.get(1)).getSubject());
+        assertNotNull(classUnderTest.tryWrite(createEvent(-1)));
+        assertThrows(ClientRequestException.class, () -> classUnderTest.read(eventUuids.get(3)));
+    }
+
+    @Test
+    public void givenManySpillFiles_whenSpilledEventsAreDrained_thenSpillFilesAreDeleted() throws Exception {
+        classUnderTest = new TieredCustomerResourceEventBuffer(TEST_MEMORY_CAPACITY, testDirectory, 100, 1L);
+        List<UUID> eventUuids = writeEvents(TEST_MEMORY_CAPACITY + 100);
+
+        assertEquals(100, countSpillFiles());
+
+        for (int i = 0; i < eventUuids.size(); i++) {
+            assertEquals(createEvent(i).getSubject(), classUnderTest.read(eventUuids.get(i)).getSubject());
+        }
+
+        assertEquals(0, countSpillFiles());
+        assertEquals(0, classUnderTest.getMemorySize());
+    }
+
+    @Test
+    public void givenConcurrentWriters_whenEventsAreSpilled_thenEachOneIsReadBackAndSpillFilesAreDeleted() throws Exception {
+        classUnderTest = new TieredCustomerResourceEventBuffer(TEST_MEMORY_CAPACITY, testDirectory, 400, 1024L);
+        ExecutorService writers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Map<UUID, String>>> writtenSubjects = new ArrayList<>();
+            for (int writer = 0; writer < 4; writer++) {
+                int firstNumber = writer * 100;
+                writtenSubjects.add(writers.submit(() -> {
+                    Map<UUID, String> subjects = new HashMap<>();
+                    for (int i = firstNumber; i < firstNumber + 100; i++) {
+                        subjects.put(classUnderTest.write(createEvent(i)), createEvent(i).getSubject());
+                    }
+
+                    return subjects;
+                }));
+            }
+
+            Set<String> readSubjects = new HashSet<>();
+            for (Future<Map<UUID, String>> subjects : writtenSubjects) {
+                for (Map.Entry<UUID, String> subject : subjects.get(10, SECONDS).entrySet()) {
+                    assertEquals(subject.getValue(), classUnderTest.read(subject.getKey()).getSubject());
+                    readSubjects.add(subject.getValue());
+                }
+            }
+
+            assertEquals(400, readSubjects.size());
+            assertEquals(0, classUnderTest.getMemorySize());
+            assertEquals(0, countSpillFiles());
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    @Test
+    public void givenThatBothTiersAreFull_whenWriteWithTimeoutIsCalled_thenItWaitsUntilEventIsRead() throws Exception {
+        List<UUID> eventUuids = writeEvents(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY);
+        CustomerResourceEvent waitingEvent = createEvent(-1);
+        CompletableFuture<UUID> waitingWrite = CompletableFuture.supplyAsync(() -> classUnderTest.write(waitingEvent, Duration.ofSeconds(10L)));
+
+        Thread.sleep(100L);
+        assertFalse(waitingWrite.isDone());
+
+        classUnderTest.read(eventUuids.get(0));
+
+        assertEquals(waitingEvent.getSubject(), classUnderTest.read(waitingWrite.get(5, SECONDS)).getSubject());
+    }
+
+    @Test
+    public void givenStaleSpillFiles_whenBufferIsCreatedOrClosed_thenTheyAreDeleted() throws Exception {
+        Path otherDirectory = Files.createDirectory(testDirectory.resolve("other"));
+        Path staleSpillFile = Files.createFile(otherDirectory.resolve("stale" + SEGMENT_FILE_SUFFIX));
+        new TieredCustomerResourceEventBuffer(TEST_MEMORY_CAPACITY, otherDirectory, TEST_SPILL_CAPACITY).close();
+        assertFalse(Files.exists(staleSpillFile));
+
+        writeEvents(TEST_MEMORY_CAPACITY + TEST_SPILL_CAPACITY);
+        classUnderTest.close();
+
+        assertEquals(0, countSpillFiles());
+        assertNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    private List<UUID> writeEvents(int count) {
+        List<UUID> eventUuids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            eventUuids.add(classUnderTest.write(createEvent(eventUuids.size())));
+        }
+
+        return eventUuids;
+    }
+
+    private long countSpillFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testDirectory)) {
+            return files.filter(file -> file.toString().endsWith(SEGMENT_FILE_SUFFIX)).count();
+        }
+    }
+
+    private static CustomerResourceEvent createEvent(int number) {
+        return new CustomerResourceEvent(null, "test_type", null, EventSeverity.INFO, EventCategory.NOTIFICATION, null, "test_subject_" + number, "test_body",
+                emptyMap(), TEST_AFFECTED_RESOURCE);
+    }
+}
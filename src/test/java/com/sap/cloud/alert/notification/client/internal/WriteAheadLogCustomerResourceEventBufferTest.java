@@ -0,0 +1,331 @@
+package com.sap.cloud.alert.notification.client.internal;
+
+import com.sap.cloud.alert.notification.client.exceptions.BufferOverflowException;
+import com.sap.cloud.alert.notification.client.exceptions.ClientRequestException;
+import com.sap.cloud.alert.notification.client.model.AffectedCustomerResource;
+import com.sap.cloud.alert.notification.client.model.CustomerResourceEvent;
+import com.sap.cloud.alert.notification.client.model.EventCategory;
+import com.sap.cloud.alert.notification.client.model.EventSeverity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.sap.cloud.alert.notification.client.internal.WriteAheadLogCustomerResourceEventBuffer.DEFAULT_FSYNC_INTERVAL;
+import static com.sap.cloud.alert.notification.client.internal.WriteAheadLogCustomerResourceEventBuffer.DEFAULT_SEGMENT_SIZE;
+import static com.sap.cloud.alert.notification.client.internal.WriteAheadLogCustomerResourceEventBuffer.FsyncPolicy;
+import static com.sap.cloud.alert.notification.client.internal.WriteAheadLogCustomerResourceEventBuffer.SEGMENT_FILE_SUFFIX;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WriteAheadLogCustomerResourceEventBufferTest {
+
+    private static final int TEST_CAPACITY = 10;
+    private static final int TEST_SMALL_SEGMENT_SIZE = 4096;
+    private static final int TEST_RECOVERED_EVENTS_COUNT = 10000;
+    private static final int RECORD_SIZE_WITHOUT_PAYLOAD = 2 * Integer.BYTES + Byte.BYTES + 2 * Long.BYTES;
+    private static final AffectedCustomerResource TEST_AFFECTED_RESOURCE = new AffectedCustomerResource("test_name", "test_type", "test_instance", emptyMap());
+
+    @TempDir
+    public Path testDirectory;
+
+    private WriteAheadLogCustomerResourceEventBuffer classUnderTest;
+
+    @AfterEach
+    public void tearDown() {
+        classUnderTest.close();
+    }
+
+    @Test
+    public void whenGetCapacityIsCalled_thenCorrectResultIsReturned() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+
+        assertEquals(TEST_CAPACITY, classUnderTest.getCapacity());
+        assertEquals(testDirectory, classUnderTest.getDirectory());
+    }
+
+    @Test
+    public void givenInvalidSettings_whenBufferIsCreated_thenExceptionIsThrown() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+
+        assertThrows(IllegalArgumentException.class, () -> new WriteAheadLogCustomerResourceEventBuffer(testDirectory, 0));
+        assertThrows(IllegalArgumentException.class, () -> new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, 8, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL));
+    }
+
+    @Test
+    public void whenWriteIsCalled_thenEventIsReadOnlyOnce() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        CustomerResourceEvent event = createEvent(1);
+
+        UUID eventUuid = classUnderTest.write(event);
+
+        assertSame(event, classUnderTest.read(eventUuid));
+        assertNull(classUnderTest.read(eventUuid));
+    }
+
+    @Test
+    public void givenThatBufferIsFull_whenWriteIsCalled_thenExceptionIsThrownUntilEventIsRead() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        List<UUID> eventUuids = writeEvents(TEST_CAPACITY);
+
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(createEvent(0)));
+        assertThrows(BufferOverflowException.class, () -> classUnderTest.write(createEvent(0), Duration.ofMillis(10L)));
+        assertNull(classUnderTest.tryWrite(createEvent(0)));
+
+        classUnderTest.read(eventUuids.get(0));
+
+        assertNotNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenUnreadEvents_whenBufferIsReopened_thenOnlyTheyAreRecoveredInWriteOrder() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        List<UUID> eventUuids = writeEvents(3);
+        readAndAcknowledge(eventUuids.get(1));
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        Map<UUID, CustomerResourceEvent> recoveredEvents = classUnderTest.takeRecoveredEvents();
+
+        assertEquals(2, recoveredEvents.size());
+        List<UUID> recoveredUuids = new ArrayList<>(recoveredEvents.keySet());
+        assertEquals(eventUuids.get(0), recoveredUuids.get(0));
+        assertEquals(eventUuids.get(2), recoveredUuids.get(1));
+        assertEquals(createEvent(2).getSubject(), recoveredEvents.get(eventUuids.get(2)).getSubject());
+        assertEquals(emptyMap(), classUnderTest.takeRecoveredEvents());
+        assertEquals(createEvent(0).getSubject(), classUnderTest.read(eventUuids.get(0)).getSubject());
+        assertEquals(TEST_CAPACITY - 1, writeEvents(TEST_CAPACITY - 1).size());
+        assertNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenRecoveredEventsBeyondCapacity_whenTheyAreRead_thenWritesWaitUntilCapacityIsFree() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        writeEvents(TEST_CAPACITY);
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, 1);
+        List<UUID> recoveredUuids = new ArrayList<>(classUnderTest.takeRecoveredEvents().keySet());
+
+        assertEquals(TEST_CAPACITY, recoveredUuids.size());
+        for (UUID recoveredUuid : recoveredUuids) {
+            assertNull(classUnderTest.tryWrite(createEvent(0)));
+            assertNotNull(classUnderTest.read(recoveredUuid));
+        }
+        assertNotNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenTornLastRecord_whenBufferIsReopened_thenEarlierEventsAreRecoveredAndLogIsAppendable() throws Exception {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.EVERY_RECORD, DEFAULT_FSYNC_INTERVAL);
+        List<UUID> eventUuids = writeEvents(2);
+        classUnderTest.close();
+        corruptLastByteOfRecord(listSegmentFiles().get(0), 2);
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.EVERY_RECORD, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(singleton(eventUuids.get(0)), classUnderTest.takeRecoveredEvents().keySet());
+
+        UUID nextEventUuid = classUnderTest.write(createEvent(3));
+        classUnderTest.close();
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.EVERY_RECORD, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(asList(eventUuids.get(0), nextEventUuid), new ArrayList<>(classUnderTest.takeRecoveredEvents().keySet()));
+    }
+
+    @Test
+    public void givenManyReadEvents_whenSegmentsRoll_thenAcknowledgedSegmentsAreDeleted() throws Exception {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+
+        for (int i = 0; i < 1000; i++) {
+            readAndAcknowledge(classUnderTest.write(createEvent(i)));
+        }
+
+        assertTrue(classUnderTest.getSegmentsCount() <= 2);
+        assertEquals(classUnderTest.getSegmentsCount(), listSegmentFiles().size());
+    }
+
+    @Test
+    public void givenLongLivedEvent_whenSegmentsRoll_thenItIsCopiedForwardAndStillRecovered() throws Exception {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        UUID longLivedEventUuid = classUnderTest.write(createEvent(-1));
+
+        for (int i = 0; i < 1000; i++) {
+            readAndAcknowledge(classUnderTest.write(createEvent(i)));
+        }
+
+        assertTrue(classUnderTest.getSegmentsCount() <= 3);
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        Map<UUID, CustomerResourceEvent> recoveredEvents = classUnderTest.takeRecoveredEvents();
+
+        assertEquals(singleton(longLivedEventUuid), recoveredEvents.keySet());
+        assertEquals(createEvent(-1).getSubject(), recoveredEvents.get(longLivedEventUuid).getSubject());
+    }
+
+    @Test
+    public void givenLongLivedEventAmongFewLargeEventsPerSegment_whenSegmentsRoll_thenAcknowledgedSegmentsAreNotKeptBehindIt() throws Exception {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        StringBuilder largeBody = new StringBuilder();
+        // Three events fill a segment, so the long-lived one alone keeps a third of its segment live
+        while (largeBody.length() < TEST_SMALL_SEGMENT_SIZE / 4) {
+            largeBody.append("test_body");
+        }
+        UUID longLivedEventUuid = classUnderTest.write(createEvent(-1, largeBody.toString()));
+
+        for (int i = 0; i < 300; i++) {
+            readAndAcknowledge(classUnderTest.write(createEvent(i, largeBody.toString())));
+        }
+
+        assertTrue(classUnderTest.getSegmentsCount() <= 3, "segments " + classUnderTest.getSegmentsCount());
+        assertEquals(classUnderTest.getSegmentsCount(), listSegmentFiles().size());
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(singleton(longLivedEventUuid), classUnderTest.takeRecoveredEvents().keySet());
+    }
+
+    @Test
+    public void givenTooLargeEvent_whenWriteIsCalled_thenExceptionIsThrownAndCapacityIsKept() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, 1, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        StringBuilder largeBody = new StringBuilder();
+        while (largeBody.length() < TEST_SMALL_SEGMENT_SIZE) {
+            largeBody.append("test_body");
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> classUnderTest.write(createEvent(0, largeBody.toString())));
+        assertNotNull(classUnderTest.tryWrite(createEvent(0)));
+    }
+
+    @Test
+    public void givenReadEventWhichIsNotAcknowledged_whenBufferIsReopened_thenItIsRecovered() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        UUID inFlightEventUuid = classUnderTest.write(createEvent(-1));
+        classUnderTest.read(inFlightEventUuid);
+
+        // Rolls several segments while the event is still in flight
+        for (int i = 0; i < 1000; i++) {
+            readAndAcknowledge(classUnderTest.write(createEvent(i)));
+        }
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        Map<UUID, CustomerResourceEvent> recoveredEvents = classUnderTest.takeRecoveredEvents();
+
+        assertEquals(singleton(inFlightEventUuid), recoveredEvents.keySet());
+        readAndAcknowledge(inFlightEventUuid);
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY, TEST_SMALL_SEGMENT_SIZE, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(emptyMap(), classUnderTest.takeRecoveredEvents());
+    }
+
+    @Test
+    public void givenFailingAcknowledgement_whenAcknowledgeIsCalled_thenEventIsKeptInTheLog() throws Exception {
+        CustomerResourceEvent event = createEvent(0);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        AlertNotificationClientUtils.writeJson(payload, event);
+        // The segment has room for the event, but not for its acknowledgement, which has to start a new segment
+        int segmentSize = 2 * RECORD_SIZE_WITHOUT_PAYLOAD + payload.size() - 1;
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, 1, segmentSize, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+        UUID eventUuid = classUnderTest.write(event);
+
+        for (Path segmentFile : listSegmentFiles()) {
+            Files.delete(segmentFile);
+        }
+        Files.delete(testDirectory);
+
+        assertSame(event, classUnderTest.read(eventUuid));
+        assertThrows(ClientRequestException.class, () -> classUnderTest.acknowledge(eventUuid));
+
+        Files.createDirectories(testDirectory);
+        classUnderTest.acknowledge(eventUuid);
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, 1, segmentSize, FsyncPolicy.NEVER, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(emptyMap(), classUnderTest.takeRecoveredEvents());
+        assertEquals(1, listSegmentFiles().size());
+    }
+
+    @Test
+    public void givenClosedBuffer_whenWriteIsCalled_thenExceptionIsThrown() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_CAPACITY);
+        classUnderTest.close();
+
+        assertThrows(IllegalStateException.class, () -> classUnderTest.write(createEvent(0)));
+    }
+
+    @Test
+    public void givenManyBufferedEvents_whenBufferIsReopened_thenAllAreRecovered() {
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_RECOVERED_EVENTS_COUNT, DEFAULT_SEGMENT_SIZE, FsyncPolicy.PERIODIC, DEFAULT_FSYNC_INTERVAL);
+        List<UUID> eventUuids = writeEvents(TEST_RECOVERED_EVENTS_COUNT);
+        classUnderTest.close();
+
+        classUnderTest = new WriteAheadLogCustomerResourceEventBuffer(testDirectory, TEST_RECOVERED_EVENTS_COUNT, DEFAULT_SEGMENT_SIZE, FsyncPolicy.PERIODIC, DEFAULT_FSYNC_INTERVAL);
+
+        assertEquals(eventUuids, new ArrayList<>(classUnderTest.takeRecoveredEvents().keySet()));
+    }
+
+    private void readAndAcknowledge(UUID eventUuid) {
+        assertNotNull(classUnderTest.read(eventUuid));
+        classUnderTest.acknowledge(eventUuid);
+    }
+
+    private List<UUID> writeEvents(int count) {
+        List<UUID> eventUuids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            eventUuids.add(classUnderTest.write(createEvent(i)));
+        }
+
+        return eventUuids;
+    }
+
+    private List<Path> listSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(testDirectory)) {
+            return files.filter(file -> file.toString().endsWith(SEGMENT_FILE_SUFFIX)).sorted().collect(toList());
+        }
+    }
+
+    private static void corruptLastByteOfRecord(Path segmentFile, int recordNumber) throws Exception {
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile.toFile(), "rw")) {
+            long recordPosition = 0L;
+            for (int i = 1; i < recordNumber; i++) {
+                file.seek(recordPosition);
+                recordPosition += 2 * Integer.BYTES + file.readInt();
+            }
+
+            file.seek(recordPosition);
+            long lastBytePosition = recordPosition + 2 * Integer.BYTES + file.readInt() - 1;
+            file.seek(lastBytePosition);
+            int lastByte = file.read();
+            file.seek(lastBytePosition);
+            file.write(lastByte ^ 0xFF);
+        }
+    }
+
+    private static CustomerResourceEvent createEvent(int number) {
+        return createEvent(number, "test_body");
+    }
+
+    private static CustomerResourceEvent createEvent(int number, String body) {
+        return new CustomerResourceEvent(null, "test_type", null, EventSeverity.INFO, EventCategory.NOTIFICATION, null, "test_subject_" + number, body,
+                emptyMap(), TEST_AFFECTED_RESOURCE);
+    }
+}
@@ -1,12 +1,14 @@
 package com.sap.cloud.alert.notification.client.model;
 
 import com.sap.cloud.alert.notification.client.internal.AlertNotificationAsyncClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 import java.util.Map;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -164,4 +166,17 @@ public class CustomerResourceEventTest {
     public void whenGetResourceIsCalled_thenCorrectResultIsReturned() {
         assertEquals(TEST_AFFECTED_RESOURCE, classUnderTest.getResource());
     }
+
+    @Test
+    public void whenEstimateSerializedSizeIsCalled_thenSizeOfSerializedEventIsReturned() throws Exception {
+        assertEquals(new ObjectMapper().setSerializationInclusion(NON_NULL).writeValueAsBytes(classUnderTest).length, classUnderTest.estimateSerializedSize());
+    }
+
+    @Test
+    public void givenOptionalFieldsAreMissing_whenEstimateSerializedSizeIsCalled_thenTheyAreNotCounted() throws Exception {
+        CustomerResourceEvent event = new CustomerResourceEvent(null, TEST_TYPE, TEST_TIMESTAMP, TEST_SEVERITY, TEST_CATEGORY, null, TEST_SUBJECT,
+                "TEST_BODY_\u00e9\u20ac\ud83d\ude00", null, new AffectedCustomerResource("test_name", "test_type", null, singletonMap("test_key", "test_value")));
+
+        assertEquals(new ObjectMapper().setSerializationInclusion(NON_NULL).writeValueAsBytes(event).length, event.estimateSerializedSize());
+    }
 }